@@ -1,21 +1,43 @@
 package br.com.brunogodoif.projectmanagement.application.gateways;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeletedActivity;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ActivityGatewayInterface {
+    Activity create(Activity activity);
+
     Activity save(Activity activity);
 
+    List<Activity> saveAll(List<Activity> activities);
+
     Optional<Activity> findById(UUID id);
 
     List<Activity> findAll();
 
+    void streamAllOfActiveProjects(Consumer<Activity> consumer);
+
     List<Activity> findByProjectId(UUID projectId);
 
+    CursorPage<Activity> findByProjectId(UUID projectId, PageCursor after, int limit);
+
+    CursorPage<Map<String, Object>> findByProjectId(UUID projectId, PageCursor after, int limit, FieldSet fields);
+
     List<Activity> findPendingByProjectId(UUID projectId);
 
-    void deleteById(UUID id);
+    ProjectSummary summarizeByProjectId(UUID projectId);
+
+    List<ProjectSummary> summarizeByProjectIds(Collection<UUID> projectIds);
+
+    Optional<DeletedActivity> deleteReturning(UUID id);
 }
\ No newline at end of file
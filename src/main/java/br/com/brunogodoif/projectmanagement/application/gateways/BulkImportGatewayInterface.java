@@ -0,0 +1,17 @@
+package br.com.brunogodoif.projectmanagement.application.gateways;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface BulkImportGatewayInterface {
+    Set<UUID> copyClients(List<Client> clients);
+
+    void copyProjects(List<Project> projects);
+
+    void copyActivities(List<Activity> activities);
+}
@@ -1,21 +1,43 @@
 package br.com.brunogodoif.projectmanagement.application.gateways;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ClientGatewayInterface {
+    Client create(Client client);
+
     Client save(Client client);
 
+    List<Client> saveAll(List<Client> clients);
+
     Optional<Client> findById(UUID id);
 
+    Optional<ResourceFreshness> findFreshness(UUID id);
+
+    List<Client> findAllByIds(Collection<UUID> ids);
+
     List<Client> findAll();
 
-    List<Client> findAllActive();
+    CursorPage<Client> findAllActive(PageCursor after, int limit);
 
-    void deleteById(UUID id);
+    CursorPage<Map<String, Object>> findAllActive(PageCursor after, int limit, FieldSet fields);
+
+    ResourceFreshness findFreshnessOfActive(PageCursor after, int limit);
+
+    DeleteResult deleteIfUnused(UUID id);
 
     boolean existsByEmail(String email);
+
+    Set<String> findExistingEmails(Collection<String> emails);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package br.com.brunogodoif.projectmanagement.application.gateways;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboardFreshness;
+
+public interface PortfolioDashboardGatewayInterface {
+    PortfolioDashboard find(int limit);
+
+    PortfolioDashboardFreshness findFreshness();
+
+    boolean refresh();
+}
@@ -1,24 +1,58 @@
 package br.com.brunogodoif.projectmanagement.application.gateways;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ProjectGatewayInterface {
+    Project create(Project project);
+
     Project save(Project project);
 
+    List<Project> saveAll(List<Project> projects);
+
     Optional<Project> findById(UUID id);
 
-    List<Project> findAll();
+    Optional<ResourceFreshness> findFreshness(UUID id);
+
+    boolean existsById(UUID id);
 
-    List<Project> findAllActive();
+    List<Project> findAllByIds(Collection<UUID> ids);
 
-    List<Project> findByStatus(ProjectStatus status);
+    List<Project> findAll();
+
+    void streamAllActive(Consumer<Project> consumer);
 
     List<Project> findByClientId(UUID clientId);
 
-    void deleteById(UUID id);
+    CursorPage<Project> findAllActive(PageCursor after, int limit);
+
+    CursorPage<Project> findByStatus(ProjectStatus status, PageCursor after, int limit);
+
+    CursorPage<Project> findByClientId(UUID clientId, PageCursor after, int limit);
+
+    CursorPage<Map<String, Object>> findAllActive(PageCursor after, int limit, FieldSet fields);
+
+    CursorPage<Map<String, Object>> findByStatus(ProjectStatus status, PageCursor after, int limit, FieldSet fields);
+
+    CursorPage<Map<String, Object>> findByClientId(UUID clientId, PageCursor after, int limit, FieldSet fields);
+
+    ResourceFreshness findFreshnessOfActive(PageCursor after, int limit);
+
+    ResourceFreshness findFreshnessByStatus(ProjectStatus status, PageCursor after, int limit);
+
+    ResourceFreshness findFreshnessByClientId(UUID clientId, PageCursor after, int limit);
+
+    DeleteResult deleteIfUnused(UUID id);
 }
\ No newline at end of file
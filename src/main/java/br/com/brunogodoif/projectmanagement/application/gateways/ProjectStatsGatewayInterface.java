@@ -0,0 +1,16 @@
+package br.com.brunogodoif.projectmanagement.application.gateways;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProjectStatsGatewayInterface {
+    void increment(UUID projectId, ProjectStatsDelta delta);
+
+    Map<UUID, ProjectProgress> findByProjectIds(Collection<UUID> projectIds);
+
+    int rebuildAll();
+}
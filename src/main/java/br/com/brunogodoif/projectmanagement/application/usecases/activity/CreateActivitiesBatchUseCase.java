@@ -0,0 +1,89 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.CreateActivitiesBatchInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.BatchUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+public class CreateActivitiesBatchUseCase implements CreateActivitiesBatchInterface {
+
+    private final ActivityGatewayInterface activityGateway;
+    private final ProjectGatewayInterface projectGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
+
+    public CreateActivitiesBatchUseCase(ActivityGatewayInterface activityGateway,
+                                        ProjectGatewayInterface projectGateway,
+                                        ProjectStatsGatewayInterface projectStatsGateway
+                                       ) {
+        this.activityGateway = activityGateway;
+        this.projectGateway = projectGateway;
+        this.projectStatsGateway = projectStatsGateway;
+    }
+
+    @Override
+    @Transactional
+    public BatchResult<Activity> execute(List<ActivityInputDTO> inputs) {
+        BatchUtils.validateBatchSize(inputs);
+        log.info("Creating batch of {} activities", inputs.size());
+
+        try {
+            Set<UUID> projectIds = inputs.stream().map(ActivityInputDTO::getProjectId).filter(Objects::nonNull)
+                                         .collect(Collectors.toSet());
+            Map<UUID, Project> projects = projectGateway.findAllByIds(projectIds).stream()
+                                                        .collect(Collectors.toMap(Project::getId,
+                                                                                  Function.identity()));
+
+            return BatchResult.of(inputs, input -> toActivity(input, projects), this::saveAll);
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to create activity batch", e);
+        }
+    }
+
+    private List<Activity> saveAll(List<Activity> activities) {
+        List<Activity> saved = activityGateway.saveAll(activities);
+        ProjectStatsDelta.addedByProject(saved).forEach(projectStatsGateway::increment);
+        return saved;
+    }
+
+    private Activity toActivity(ActivityInputDTO input, Map<UUID, Project> projects) {
+        Project project = projects.get(input.getProjectId());
+        if (project == null) {
+            throw new EntityNotFoundException("Project not found with ID: " + input.getProjectId());
+        }
+
+        return new Activity(
+                input.getId(),
+                input.getTitle(),
+                input.getDescription(),
+                project,
+                input.getDueDate(),
+                input.getAssignedTo(),
+                input.isCompleted(),
+                input.getPriority(),
+                input.getEstimatedHours(),
+                null,
+                null
+        );
+    }
+}
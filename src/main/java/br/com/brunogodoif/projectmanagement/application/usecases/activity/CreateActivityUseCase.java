@@ -2,7 +2,9 @@ package br.com.brunogodoif.projectmanagement.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
@@ -10,6 +12,7 @@ import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundExce
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.CreateActivityInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Log4j2
@@ -17,13 +20,18 @@ public class CreateActivityUseCase implements CreateActivityInterface {
 
     private final ActivityGatewayInterface activityGateway;
     private final ProjectGatewayInterface projectGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
 
-    public CreateActivityUseCase(ActivityGatewayInterface activityGateway, ProjectGatewayInterface projectGateway) {
+    public CreateActivityUseCase(ActivityGatewayInterface activityGateway, ProjectGatewayInterface projectGateway,
+                                 ProjectStatsGatewayInterface projectStatsGateway
+                                ) {
         this.activityGateway = activityGateway;
         this.projectGateway = projectGateway;
+        this.projectStatsGateway = projectStatsGateway;
     }
 
     @Override
+    @Transactional
     public Activity execute(ActivityInputDTO activityInputDTO) {
         log.info("Creating new activity: {}", activityInputDTO.getTitle());
 
@@ -46,7 +54,9 @@ public class CreateActivityUseCase implements CreateActivityInterface {
                     null
             );
 
-            return activityGateway.save(activity);
+            Activity savedActivity = activityGateway.create(activity);
+            projectStatsGateway.increment(project.getId(), ProjectStatsDelta.added(savedActivity));
+            return savedActivity;
         } catch (EntityNotFoundException e) {
             throw e;
         } catch (Exception e) {
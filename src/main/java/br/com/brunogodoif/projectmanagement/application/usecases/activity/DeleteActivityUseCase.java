@@ -1,13 +1,17 @@
 package br.com.brunogodoif.projectmanagement.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
-import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeletedActivity;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.DeleteEntityInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -15,20 +19,26 @@ import java.util.UUID;
 public class DeleteActivityUseCase implements DeleteEntityInterface<UUID> {
 
     private final ActivityGatewayInterface activityGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
 
-    public DeleteActivityUseCase(ActivityGatewayInterface activityGateway) {
+    public DeleteActivityUseCase(ActivityGatewayInterface activityGateway,
+                                 ProjectStatsGatewayInterface projectStatsGateway
+                                ) {
         this.activityGateway = activityGateway;
+        this.projectStatsGateway = projectStatsGateway;
     }
 
     @Override
+    @Transactional
     public void execute(UUID id) {
         log.info("Deleting activity with ID: {}", id);
 
         try {
-            activityGateway.findById(id).orElseThrow(() -> new EntityNotFoundException(
-                    "Activity not found with ID: " + id));
+            DeletedActivity activity = activityGateway.deleteReturning(id).orElseThrow(
+                    () -> new EntityNotFoundException("Activity not found with ID: " + id));
 
-            activityGateway.deleteById(id);
+            projectStatsGateway.increment(activity.getProjectId(),
+                                          ProjectStatsDelta.removed(activity, LocalDateTime.now()));
             log.info("Activity with ID: {} successfully deleted", id);
         } catch (EntityNotFoundException e) {
             throw e;
@@ -0,0 +1,39 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ExportActivitiesInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@Log4j2
+@Transactional(readOnly = true)
+public class ExportActivitiesUseCase implements ExportActivitiesInterface {
+
+    private final ActivityGatewayInterface activityGateway;
+
+    public ExportActivitiesUseCase(ActivityGatewayInterface activityGateway) {
+        this.activityGateway = activityGateway;
+    }
+
+    @Override
+    public void execute(Consumer<Activity> sink) {
+        log.info("Exporting activities of active projects");
+
+        try {
+            long[] exported = {0};
+            activityGateway.streamAllOfActiveProjects(activity -> {
+                sink.accept(activity);
+                exported[0]++;
+            });
+            log.info("Activity export finished: {} rows", exported[0]);
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to export activities", e);
+        }
+    }
+}
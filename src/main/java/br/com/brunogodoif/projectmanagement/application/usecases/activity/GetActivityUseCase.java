@@ -5,11 +5,13 @@ import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.GetActivityInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class GetActivityUseCase implements GetActivityInterface {
 
     private final ActivityGatewayInterface activityGateway;
@@ -0,0 +1,107 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessValidationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ImportActivitiesInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+public class ImportActivitiesUseCase implements ImportActivitiesInterface {
+
+    private final ProjectGatewayInterface projectGateway;
+    private final BulkImportGatewayInterface bulkImportGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+
+    public ImportActivitiesUseCase(ProjectGatewayInterface projectGateway,
+                                   BulkImportGatewayInterface bulkImportGateway,
+                                   ProjectStatsGatewayInterface projectStatsGateway,
+                                   TransactionOperations transactionOperations,
+                                   @Value("${app.import.chunk-size:5000}") int chunkSize
+                                  ) {
+        this.projectGateway = projectGateway;
+        this.bulkImportGateway = bulkImportGateway;
+        this.projectStatsGateway = projectStatsGateway;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportReport execute(Iterator<ImportRecord<ActivityImportDTO>> records,
+                                Consumer<ImportRecord<?>> rejections
+                               ) {
+        log.info("Importing activities in chunks of {}", chunkSize);
+
+        try {
+            Map<String, List<Project>> projectsByName = projectGateway.findAll().stream()
+                                                                      .filter(project -> !project.isDeleted())
+                                                                      .collect(Collectors.groupingBy(
+                                                                              Project::getName));
+
+            ImportReport report = ImportReport.of(records,
+                                                  input -> toActivity(input, projectsByName),
+                                                  this::copyActivities,
+                                                  chunkSize,
+                                                  rejections);
+            log.info("Activity import finished: {} accepted, {} rejected", report.getAccepted(),
+                     report.getRejected());
+            return report;
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to import activities", e);
+        }
+    }
+
+    private Activity toActivity(ActivityImportDTO input, Map<String, List<Project>> projectsByName) {
+        List<Project> projects = projectsByName.get(input.getProjectName());
+        if (projects == null) {
+            throw new EntityNotFoundException("Project not found with name: " + input.getProjectName());
+        }
+        if (projects.size() > 1) {
+            throw new BusinessValidationException("Project name is ambiguous: " + input.getProjectName());
+        }
+
+        return new Activity(
+                null,
+                input.getTitle(),
+                input.getDescription(),
+                projects.get(0),
+                input.getDueDate(),
+                input.getAssignedTo(),
+                input.isCompleted(),
+                input.getPriority(),
+                input.getEstimatedHours(),
+                null,
+                null
+        );
+    }
+
+    // The COPY and the counter increments commit together, so a chunk reported as rejected leaves neither behind
+    private Map<Integer, String> copyActivities(List<Activity> activities) {
+        return transactionOperations.execute(status -> {
+            bulkImportGateway.copyActivities(activities);
+            ProjectStatsDelta.addedByProject(activities).forEach(projectStatsGateway::increment);
+            return Map.<Integer, String>of();
+        });
+    }
+}
@@ -2,16 +2,22 @@ package br.com.brunogodoif.projectmanagement.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ListActivitiesByProjectInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class ListActivitiesByProjectUseCase implements ListActivitiesByProjectInterface {
 
     private final ActivityGatewayInterface activityGateway;
@@ -25,12 +31,25 @@ public class ListActivitiesByProjectUseCase implements ListActivitiesByProjectIn
     }
 
     @Override
-    public List<Activity> execute(UUID projectId) {
-        log.info("Listing all activities for project: {}", projectId);
+    public CursorPage<Activity> execute(UUID projectId, PageCursor after, int limit) {
+        log.info("Listing page of activities for project: {} (limit: {})", projectId, limit);
+        PaginationUtils.validateLimit(limit);
 
         projectGateway.findById(projectId)
                       .orElseThrow(() -> new IllegalArgumentException("Project not found with ID: " + projectId));
 
-        return activityGateway.findByProjectId(projectId);
+        return activityGateway.findByProjectId(projectId, after, limit);
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> execute(UUID projectId, PageCursor after, int limit, FieldSet fields) {
+        log.info("Listing fields {} of activities for project: {} (limit: {})", fields.getNames(), projectId, limit);
+        PaginationUtils.validateLimit(limit);
+
+        if (!projectGateway.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found with ID: " + projectId);
+        }
+
+        return activityGateway.findByProjectId(projectId, after, limit, fields);
     }
 }
@@ -2,14 +2,18 @@ package br.com.brunogodoif.projectmanagement.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.UpdateActivityInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -20,13 +24,18 @@ public class UpdateActivityUseCase implements UpdateActivityInterface {
 
     private final ActivityGatewayInterface activityGateway;
     private final ProjectGatewayInterface projectGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
 
-    public UpdateActivityUseCase(ActivityGatewayInterface activityGateway, ProjectGatewayInterface projectGateway) {
+    public UpdateActivityUseCase(ActivityGatewayInterface activityGateway, ProjectGatewayInterface projectGateway,
+                                 ProjectStatsGatewayInterface projectStatsGateway
+                                ) {
         this.activityGateway = activityGateway;
         this.projectGateway = projectGateway;
+        this.projectStatsGateway = projectStatsGateway;
     }
 
     @Override
+    @Transactional
     public Activity execute(UUID id, ActivityInputDTO activityInputDTO) {
         log.info("Updating activity with ID: {}", id);
 
@@ -34,6 +43,10 @@ public class UpdateActivityUseCase implements UpdateActivityInterface {
             Activity existingActivity = activityGateway.findById(id)
                                                        .orElseThrow(() -> new EntityNotFoundException("Activity not found with ID: " + id));
 
+            if (activityInputDTO.getVersion() != null && activityInputDTO.getVersion() != existingActivity.getVersion()) {
+                throw new EntityVersionConflictException("Activity with ID " + id + " was modified by another request");
+            }
+
             Project project;
 
             if (!existingActivity.getProject().getId().equals(activityInputDTO.getProjectId())) {
@@ -55,14 +68,29 @@ public class UpdateActivityUseCase implements UpdateActivityInterface {
                     activityInputDTO.getPriority(),
                     activityInputDTO.getEstimatedHours(),
                     existingActivity.getCreatedAt(),
-                    LocalDateTime.now()
+                    LocalDateTime.now(),
+                    existingActivity.getVersion()
             );
 
-            return activityGateway.save(updatedActivity);
-        } catch (EntityNotFoundException e) {
+            Activity savedActivity = activityGateway.save(updatedActivity);
+            updateProjectStats(existingActivity, savedActivity);
+            return savedActivity;
+        } catch (EntityNotFoundException | EntityVersionConflictException e) {
             throw e;
         } catch (Exception e) {
             throw new BusinessOperationException("Failed to update activity", e);
         }
     }
+
+    private void updateProjectStats(Activity before, Activity after) {
+        UUID previousProjectId = before.getProject().getId();
+        UUID currentProjectId = after.getProject().getId();
+
+        if (previousProjectId.equals(currentProjectId)) {
+            projectStatsGateway.increment(currentProjectId, ProjectStatsDelta.changed(before, after));
+        } else {
+            projectStatsGateway.increment(previousProjectId, ProjectStatsDelta.removed(before, after.getUpdatedAt()));
+            projectStatsGateway.increment(currentProjectId, ProjectStatsDelta.added(after));
+        }
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityDuplicateExc
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.CreateClientInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Log4j2
@@ -20,6 +21,7 @@ public class CreateClientUseCase implements CreateClientInterface {
     }
 
     @Override
+    @Transactional
     public Client execute(ClientInputDTO clientInputDTO) {
         log.info("Creating new client: {}", clientInputDTO.getName());
 
@@ -40,7 +42,7 @@ public class CreateClientUseCase implements CreateClientInterface {
                     clientInputDTO.isActive()
             );
 
-            return clientGateway.save(client);
+            return clientGateway.create(client);
         } catch (EntityDuplicateException e) {
             throw e;
         } catch (Exception e) {
@@ -0,0 +1,67 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.client;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityDuplicateException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.client.CreateClientsBatchInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.BatchUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+public class CreateClientsBatchUseCase implements CreateClientsBatchInterface {
+
+    private final ClientGatewayInterface clientGateway;
+
+    public CreateClientsBatchUseCase(ClientGatewayInterface clientGateway) {
+        this.clientGateway = clientGateway;
+    }
+
+    @Override
+    @Transactional
+    public BatchResult<Client> execute(List<ClientInputDTO> inputs) {
+        BatchUtils.validateBatchSize(inputs);
+        log.info("Creating batch of {} clients", inputs.size());
+
+        try {
+            Set<String> emails = inputs.stream().map(ClientInputDTO::getEmail).filter(Objects::nonNull)
+                                       .collect(Collectors.toSet());
+            Set<String> takenEmails = new HashSet<>(clientGateway.findExistingEmails(emails));
+
+            return BatchResult.of(inputs, input -> toClient(input, takenEmails), clientGateway::saveAll);
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to create client batch", e);
+        }
+    }
+
+    private Client toClient(ClientInputDTO input, Set<String> takenEmails) {
+        Client client = new Client(
+                input.getId(),
+                input.getName(),
+                input.getEmail(),
+                input.getPhone(),
+                input.getCompanyName(),
+                input.getAddress(),
+                null,
+                null,
+                input.isActive()
+        );
+
+        if (!takenEmails.add(client.getEmail())) {
+            throw new EntityDuplicateException("Client with email " + client.getEmail() + " already exists");
+        }
+
+        return client;
+    }
+}
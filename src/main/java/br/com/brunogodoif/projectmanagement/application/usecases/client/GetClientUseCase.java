@@ -2,26 +2,38 @@ package br.com.brunogodoif.projectmanagement.application.usecases.client;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.GetClientInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class GetClientUseCase implements GetClientInterface {
 
     private final ClientGatewayInterface clientGateway;
     private final ProjectGatewayInterface projectGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
 
-    public GetClientUseCase(ClientGatewayInterface clientGateway, ProjectGatewayInterface projectGateway) {
+    public GetClientUseCase(ClientGatewayInterface clientGateway, ProjectGatewayInterface projectGateway,
+                            ProjectStatsGatewayInterface projectStatsGateway
+                           ) {
         this.clientGateway = clientGateway;
         this.projectGateway = projectGateway;
+        this.projectStatsGateway = projectStatsGateway;
     }
 
     @Override
@@ -32,6 +44,8 @@ public class GetClientUseCase implements GetClientInterface {
                                      .orElseThrow(() -> new EntityNotFoundException("Client not found with ID: " + id));
 
         List<Project> clientProjects = projectGateway.findByClientId(id);
+        Map<UUID, ProjectProgress> progress = projectStatsGateway.findByProjectIds(
+                clientProjects.stream().map(Project::getId).toList());
 
         Client clientWithProjects = new Client(
                 client.getId(),
@@ -42,13 +56,30 @@ public class GetClientUseCase implements GetClientInterface {
                 client.getAddress(),
                 client.getCreatedAt(),
                 client.getUpdatedAt(),
-                client.isActive()
+                client.isActive(),
+                client.getVersion()
         );
 
         for (Project project : clientProjects) {
+            project.attachProgress(progress.getOrDefault(project.getId(), ProjectProgress.empty()));
             clientWithProjects.addProject(project);
         }
 
         return clientWithProjects;
     }
+
+    @Override
+    public Optional<Client> executeIfModified(UUID id, Predicate<ResourceFreshness> unchanged) {
+        Optional<ResourceFreshness> freshness = executeFreshness(id);
+        if (freshness.isPresent() && unchanged.test(freshness.get())) {
+            log.info("Client with ID: {} not modified", id);
+            return Optional.empty();
+        }
+        return Optional.of(execute(id));
+    }
+
+    @Override
+    public Optional<ResourceFreshness> executeFreshness(UUID id) {
+        return clientGateway.findFreshness(id);
+    }
 }
\ No newline at end of file
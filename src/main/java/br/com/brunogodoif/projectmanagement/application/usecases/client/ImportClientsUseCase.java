@@ -0,0 +1,81 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.client;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.client.ImportClientsInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+@Log4j2
+public class ImportClientsUseCase implements ImportClientsInterface {
+
+    private final BulkImportGatewayInterface bulkImportGateway;
+    private final int chunkSize;
+
+    public ImportClientsUseCase(BulkImportGatewayInterface bulkImportGateway,
+                                @Value("${app.import.chunk-size:5000}") int chunkSize
+                               ) {
+        this.bulkImportGateway = bulkImportGateway;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportReport execute(Iterator<ImportRecord<ClientInputDTO>> records,
+                                Consumer<ImportRecord<?>> rejections
+                               ) {
+        log.info("Importing clients in chunks of {}", chunkSize);
+
+        try {
+            ImportReport report = ImportReport.of(records,
+                                                  this::toClient,
+                                                  this::copyClients,
+                                                  chunkSize,
+                                                  rejections);
+            log.info("Client import finished: {} accepted, {} rejected", report.getAccepted(), report.getRejected());
+            return report;
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to import clients", e);
+        }
+    }
+
+    private Client toClient(ClientInputDTO input) {
+        return new Client(
+                input.getId(),
+                input.getName(),
+                input.getEmail(),
+                input.getPhone(),
+                input.getCompanyName(),
+                input.getAddress(),
+                null,
+                null,
+                input.isActive()
+        );
+    }
+
+    private Map<Integer, String> copyClients(List<Client> clients) {
+        Set<UUID> skipped = bulkImportGateway.copyClients(clients);
+
+        Map<Integer, String> refused = new HashMap<>();
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            if (skipped.contains(client.getId())) {
+                refused.put(i, "Client with email " + client.getEmail() + " already exists");
+            }
+        }
+        return refused;
+    }
+}
@@ -1,15 +1,24 @@
 package br.com.brunogodoif.projectmanagement.application.usecases.client;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.ListClientsInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class ListClientsUseCase implements ListClientsInterface {
 
     private final ClientGatewayInterface clientGateway;
@@ -19,8 +28,32 @@ public class ListClientsUseCase implements ListClientsInterface {
     }
 
     @Override
-    public List<Client> execute() {
-        log.info("Listing all active clients");
-        return clientGateway.findAllActive();
+    public CursorPage<Client> execute(PageCursor after, int limit) {
+        log.info("Listing page of active clients (limit: {})", limit);
+        PaginationUtils.validateLimit(limit);
+        return clientGateway.findAllActive(after, limit);
+    }
+
+    @Override
+    public Optional<CursorPage<Client>> executeIfModified(PageCursor after, int limit,
+                                                          Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(clientGateway.findFreshnessOfActive(after, limit))) {
+            log.info("Page of active clients not modified (limit: {})", limit);
+            return Optional.empty();
+        }
+        return Optional.of(execute(after, limit));
+    }
+
+    @Override
+    public Optional<CursorPage<Map<String, Object>>> executeIfModified(PageCursor after, int limit, FieldSet fields,
+                                                                       Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(clientGateway.findFreshnessOfActive(after, limit))) {
+            log.info("Page of active clients not modified (limit: {})", limit);
+            return Optional.empty();
+        }
+        log.info("Listing fields {} of active clients (limit: {})", fields.getNames(), limit);
+        return Optional.of(clientGateway.findAllActive(after, limit, fields));
     }
 }
@@ -6,9 +6,11 @@ import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityDuplicateException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.UpdateClientInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -24,6 +26,7 @@ public class UpdateClientUseCase implements UpdateClientInterface {
     }
 
     @Override
+    @Transactional
     public Client execute(UUID id, ClientInputDTO clientInputDTO) {
         log.info("Updating client with ID: {}", id);
 
@@ -31,6 +34,10 @@ public class UpdateClientUseCase implements UpdateClientInterface {
             Client existingClient = clientGateway.findById(id).orElseThrow(() -> new EntityNotFoundException(
                     "Client not found with ID: " + id));
 
+            if (clientInputDTO.getVersion() != null && clientInputDTO.getVersion() != existingClient.getVersion()) {
+                throw new EntityVersionConflictException("Client with ID " + id + " was modified by another request");
+            }
+
             if (!existingClient.getEmail()
                                .equals(clientInputDTO.getEmail()) && clientGateway.existsByEmail(clientInputDTO.getEmail())) {
                 throw new EntityDuplicateException("Client with email " + clientInputDTO.getEmail() + " already exists");
@@ -45,11 +52,12 @@ public class UpdateClientUseCase implements UpdateClientInterface {
                     clientInputDTO.getAddress(),
                     existingClient.getCreatedAt(),
                     LocalDateTime.now(),
-                    clientInputDTO.isActive()
+                    clientInputDTO.isActive(),
+                    existingClient.getVersion()
             );
 
             return clientGateway.save(newClient);
-        } catch (EntityNotFoundException | EntityDuplicateException e) {
+        } catch (EntityNotFoundException | EntityDuplicateException | EntityVersionConflictException e) {
             throw e;
         } catch (Exception e) {
             throw new BusinessOperationException("Failed to update client", e);
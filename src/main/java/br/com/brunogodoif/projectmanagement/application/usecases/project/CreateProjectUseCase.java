@@ -10,6 +10,7 @@ import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundExce
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.CreateProjectInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Log4j2
@@ -24,6 +25,7 @@ public class CreateProjectUseCase implements CreateProjectInterface {
     }
 
     @Override
+    @Transactional
     public Project execute(ProjectInputDTO projectInputDTO) {
         log.info("Creating new project: {}", projectInputDTO.getName());
 
@@ -46,7 +48,7 @@ public class CreateProjectUseCase implements CreateProjectInterface {
                     null
             );
 
-            return projectGateway.save(project);
+            return projectGateway.create(project);
         } catch (EntityNotFoundException e) {
             throw e;
         } catch (Exception e) {
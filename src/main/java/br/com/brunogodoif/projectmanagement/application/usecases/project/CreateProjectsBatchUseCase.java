@@ -0,0 +1,76 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.CreateProjectsBatchInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.BatchUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+public class CreateProjectsBatchUseCase implements CreateProjectsBatchInterface {
+
+    private final ProjectGatewayInterface projectGateway;
+    private final ClientGatewayInterface clientGateway;
+
+    public CreateProjectsBatchUseCase(ProjectGatewayInterface projectGateway, ClientGatewayInterface clientGateway) {
+        this.projectGateway = projectGateway;
+        this.clientGateway = clientGateway;
+    }
+
+    @Override
+    @Transactional
+    public BatchResult<Project> execute(List<ProjectInputDTO> inputs) {
+        BatchUtils.validateBatchSize(inputs);
+        log.info("Creating batch of {} projects", inputs.size());
+
+        try {
+            Set<UUID> clientIds = inputs.stream().map(ProjectInputDTO::getClientId).filter(Objects::nonNull)
+                                        .collect(Collectors.toSet());
+            Map<UUID, Client> clients = clientGateway.findAllByIds(clientIds).stream()
+                                                     .collect(Collectors.toMap(Client::getId, Function.identity()));
+
+            return BatchResult.of(inputs, input -> toProject(input, clients), projectGateway::saveAll);
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to create project batch", e);
+        }
+    }
+
+    private Project toProject(ProjectInputDTO input, Map<UUID, Client> clients) {
+        Client client = clients.get(input.getClientId());
+        if (client == null) {
+            throw new EntityNotFoundException("Client not found with ID: " + input.getClientId());
+        }
+
+        return new Project(
+                input.getId(),
+                input.getName(),
+                input.getDescription(),
+                client,
+                input.getStartDate(),
+                input.getEndDate(),
+                input.getStatus(),
+                input.getManager(),
+                input.getNotes(),
+                false,
+                null,
+                null
+        );
+    }
+}
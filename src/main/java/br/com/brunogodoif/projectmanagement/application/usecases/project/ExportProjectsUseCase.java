@@ -0,0 +1,39 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ExportProjectsInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@Log4j2
+@Transactional(readOnly = true)
+public class ExportProjectsUseCase implements ExportProjectsInterface {
+
+    private final ProjectGatewayInterface projectGateway;
+
+    public ExportProjectsUseCase(ProjectGatewayInterface projectGateway) {
+        this.projectGateway = projectGateway;
+    }
+
+    @Override
+    public void execute(Consumer<Project> sink) {
+        log.info("Exporting active projects");
+
+        try {
+            long[] exported = {0};
+            projectGateway.streamAllActive(project -> {
+                sink.accept(project);
+                exported[0]++;
+            });
+            log.info("Project export finished: {} rows", exported[0]);
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to export projects", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetPortfolioDashboardInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Log4j2
+@Transactional(readOnly = true)
+public class GetPortfolioDashboardUseCase implements GetPortfolioDashboardInterface {
+
+    private final PortfolioDashboardGatewayInterface portfolioDashboardGateway;
+
+    public GetPortfolioDashboardUseCase(PortfolioDashboardGatewayInterface portfolioDashboardGateway) {
+        this.portfolioDashboardGateway = portfolioDashboardGateway;
+    }
+
+    @Override
+    public PortfolioDashboard execute(int limit) {
+        log.info("Getting portfolio dashboard (limit: {})", limit);
+        PaginationUtils.validateLimit(limit);
+        return portfolioDashboardGateway.find(limit);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetProjectSummaryInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Log4j2
+@Transactional(readOnly = true)
+public class GetProjectSummaryUseCase implements GetProjectSummaryInterface {
+
+    public static final int MAX_PROJECTS = 500;
+
+    private final ProjectGatewayInterface projectGateway;
+    private final ActivityGatewayInterface activityGateway;
+
+    public GetProjectSummaryUseCase(ProjectGatewayInterface projectGateway, ActivityGatewayInterface activityGateway) {
+        this.projectGateway = projectGateway;
+        this.activityGateway = activityGateway;
+    }
+
+    @Override
+    public ProjectSummary execute(UUID projectId) {
+        log.info("Summarizing activities of project with ID: {}", projectId);
+
+        if (!projectGateway.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+
+        return activityGateway.summarizeByProjectId(projectId);
+    }
+
+    @Override
+    public List<ProjectSummary> execute(Collection<UUID> projectIds) {
+        log.info("Summarizing activities of {} projects", projectIds.size());
+
+        if (projectIds.isEmpty() || projectIds.size() > MAX_PROJECTS) {
+            throw new IllegalArgumentException("Project IDs must contain between 1 and " + MAX_PROJECTS + " items");
+        }
+
+        return activityGateway.summarizeByProjectIds(new LinkedHashSet<>(projectIds));
+    }
+}
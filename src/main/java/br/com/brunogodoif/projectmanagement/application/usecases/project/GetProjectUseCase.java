@@ -2,18 +2,23 @@ package br.com.brunogodoif.projectmanagement.application.usecases.project;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetProjectInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class GetProjectUseCase implements GetProjectInterface {
 
     private final ProjectGatewayInterface projectGateway;
@@ -45,7 +50,8 @@ public class GetProjectUseCase implements GetProjectInterface {
                 project.getNotes(),
                 project.isDeleted(),
                 project.getCreatedAt(),
-                project.getUpdatedAt()
+                project.getUpdatedAt(),
+                project.getVersion()
         );
 
         for (Activity activity : activities) {
@@ -56,4 +62,19 @@ public class GetProjectUseCase implements GetProjectInterface {
 
         return projectWithActivities;
     }
+
+    @Override
+    public Optional<Project> executeIfModified(UUID id, Predicate<ResourceFreshness> unchanged) {
+        Optional<ResourceFreshness> freshness = executeFreshness(id);
+        if (freshness.isPresent() && unchanged.test(freshness.get())) {
+            log.info("Project with ID: {} not modified", id);
+            return Optional.empty();
+        }
+        return Optional.of(execute(id));
+    }
+
+    @Override
+    public Optional<ResourceFreshness> executeFreshness(UUID id) {
+        return projectGateway.findFreshness(id);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ImportProjectsInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Log4j2
+public class ImportProjectsUseCase implements ImportProjectsInterface {
+
+    private final ClientGatewayInterface clientGateway;
+    private final BulkImportGatewayInterface bulkImportGateway;
+    private final int chunkSize;
+
+    public ImportProjectsUseCase(ClientGatewayInterface clientGateway, BulkImportGatewayInterface bulkImportGateway,
+                                 @Value("${app.import.chunk-size:5000}") int chunkSize
+                                ) {
+        this.clientGateway = clientGateway;
+        this.bulkImportGateway = bulkImportGateway;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportReport execute(Iterator<ImportRecord<ProjectImportDTO>> records,
+                                Consumer<ImportRecord<?>> rejections
+                               ) {
+        log.info("Importing projects in chunks of {}", chunkSize);
+
+        try {
+            Map<String, Client> clientsByEmail = clientGateway.findAll().stream()
+                                                              .collect(Collectors.toMap(Client::getEmail,
+                                                                                        Function.identity()));
+
+            ImportReport report = ImportReport.of(records,
+                                                  input -> toProject(input, clientsByEmail),
+                                                  this::copyProjects,
+                                                  chunkSize,
+                                                  rejections);
+            log.info("Project import finished: {} accepted, {} rejected", report.getAccepted(), report.getRejected());
+            return report;
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to import projects", e);
+        }
+    }
+
+    private Project toProject(ProjectImportDTO input, Map<String, Client> clientsByEmail) {
+        Client client = clientsByEmail.get(input.getClientEmail());
+        if (client == null) {
+            throw new EntityNotFoundException("Client not found with email: " + input.getClientEmail());
+        }
+
+        return new Project(
+                null,
+                input.getName(),
+                input.getDescription(),
+                client,
+                input.getStartDate(),
+                input.getEndDate(),
+                input.getStatus(),
+                input.getManager(),
+                input.getNotes(),
+                false,
+                null,
+                null
+        );
+    }
+
+    private Map<Integer, String> copyProjects(List<Project> projects) {
+        bulkImportGateway.copyProjects(projects);
+        return Map.of();
+    }
+}
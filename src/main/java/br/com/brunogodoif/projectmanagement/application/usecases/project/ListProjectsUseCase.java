@@ -1,40 +1,140 @@
 package br.com.brunogodoif.projectmanagement.application.usecases.project;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.ListProjectsInterface;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 @Log4j2
+@Transactional(readOnly = true)
 public class ListProjectsUseCase implements ListProjectsInterface {
 
     private final ProjectGatewayInterface projectGateway;
+    private final ProjectStatsGatewayInterface projectStatsGateway;
 
-    public ListProjectsUseCase(ProjectGatewayInterface projectGateway) {
+    public ListProjectsUseCase(ProjectGatewayInterface projectGateway,
+                               ProjectStatsGatewayInterface projectStatsGateway
+                              ) {
         this.projectGateway = projectGateway;
+        this.projectStatsGateway = projectStatsGateway;
     }
 
     @Override
-    public List<Project> execute() {
-        log.info("Listing all active projects");
-        return projectGateway.findAllActive();
+    public CursorPage<Project> execute(PageCursor after, int limit) {
+        log.info("Listing page of active projects (limit: {})", limit);
+        PaginationUtils.validateLimit(limit);
+        return withProgress(projectGateway.findAllActive(after, limit));
     }
 
     @Override
-    public List<Project> executeByStatus(ProjectStatus status) {
-        log.info("Listing all active projects with status: {}", status);
-        return projectGateway.findByStatus(status);
+    public CursorPage<Project> executeByStatus(ProjectStatus status, PageCursor after, int limit) {
+        log.info("Listing page of active projects with status: {} (limit: {})", status, limit);
+        PaginationUtils.validateLimit(limit);
+        return withProgress(projectGateway.findByStatus(status, after, limit));
     }
 
     @Override
-    public List<Project> executeByClient(UUID clientId) {
-        log.info("Listing all active projects for client: {}", clientId);
-        return projectGateway.findByClientId(clientId);
+    public CursorPage<Project> executeByClient(UUID clientId, PageCursor after, int limit) {
+        log.info("Listing page of active projects for client: {} (limit: {})", clientId, limit);
+        PaginationUtils.validateLimit(limit);
+        return withProgress(projectGateway.findByClientId(clientId, after, limit));
+    }
+
+    @Override
+    public Optional<CursorPage<Project>> executeIfModified(PageCursor after, int limit,
+                                                           Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessOfActive(after, limit))) {
+            log.info("Page of active projects not modified (limit: {})", limit);
+            return Optional.empty();
+        }
+        return Optional.of(execute(after, limit));
+    }
+
+    @Override
+    public Optional<CursorPage<Project>> executeByStatusIfModified(ProjectStatus status, PageCursor after, int limit,
+                                                                   Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessByStatus(status, after, limit))) {
+            log.info("Page of active projects with status: {} not modified (limit: {})", status, limit);
+            return Optional.empty();
+        }
+        return Optional.of(executeByStatus(status, after, limit));
+    }
+
+    @Override
+    public Optional<CursorPage<Project>> executeByClientIfModified(UUID clientId, PageCursor after, int limit,
+                                                                   Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessByClientId(clientId, after, limit))) {
+            log.info("Page of active projects for client: {} not modified (limit: {})", clientId, limit);
+            return Optional.empty();
+        }
+        return Optional.of(executeByClient(clientId, after, limit));
+    }
+
+    @Override
+    public Optional<CursorPage<Map<String, Object>>> executeIfModified(PageCursor after, int limit, FieldSet fields,
+                                                                       Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessOfActive(after, limit))) {
+            log.info("Page of active projects not modified (limit: {})", limit);
+            return Optional.empty();
+        }
+        log.info("Listing fields {} of active projects (limit: {})", fields.getNames(), limit);
+        return Optional.of(projectGateway.findAllActive(after, limit, fields));
+    }
+
+    @Override
+    public Optional<CursorPage<Map<String, Object>>> executeByStatusIfModified(ProjectStatus status, PageCursor after,
+                                                                               int limit, FieldSet fields,
+                                                                               Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessByStatus(status, after, limit))) {
+            log.info("Page of active projects with status: {} not modified (limit: {})", status, limit);
+            return Optional.empty();
+        }
+        log.info("Listing fields {} of active projects with status: {} (limit: {})", fields.getNames(), status, limit);
+        return Optional.of(projectGateway.findByStatus(status, after, limit, fields));
+    }
+
+    @Override
+    public Optional<CursorPage<Map<String, Object>>> executeByClientIfModified(UUID clientId, PageCursor after,
+                                                                               int limit, FieldSet fields,
+                                                                               Predicate<ResourceFreshness> unchanged) {
+        PaginationUtils.validateLimit(limit);
+        if (unchanged.test(projectGateway.findFreshnessByClientId(clientId, after, limit))) {
+            log.info("Page of active projects for client: {} not modified (limit: {})", clientId, limit);
+            return Optional.empty();
+        }
+        log.info("Listing fields {} of active projects for client: {} (limit: {})", fields.getNames(), clientId,
+                 limit);
+        return Optional.of(projectGateway.findByClientId(clientId, after, limit, fields));
+    }
+
+    private CursorPage<Project> withProgress(CursorPage<Project> page) {
+        List<Project> projects = page.getItems();
+        Map<UUID, ProjectProgress> progress = projectStatsGateway.findByProjectIds(
+                projects.stream().map(Project::getId).toList());
+        projects.forEach(project -> project.attachProgress(progress.getOrDefault(project.getId(),
+                                                                                  ProjectProgress.empty())));
+        return page;
     }
 }
\ No newline at end of file
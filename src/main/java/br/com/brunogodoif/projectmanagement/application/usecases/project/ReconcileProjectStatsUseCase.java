@@ -0,0 +1,33 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ReconcileProjectStatsInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Log4j2
+public class ReconcileProjectStatsUseCase implements ReconcileProjectStatsInterface {
+
+    private final ProjectStatsGatewayInterface projectStatsGateway;
+
+    public ReconcileProjectStatsUseCase(ProjectStatsGatewayInterface projectStatsGateway) {
+        this.projectStatsGateway = projectStatsGateway;
+    }
+
+    @Override
+    @Transactional
+    public int execute() {
+        log.info("Rebuilding project stats from activities");
+
+        try {
+            int projects = projectStatsGateway.rebuildAll();
+            log.info("Project stats rebuilt for {} projects", projects);
+            return projects;
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to reconcile project stats", e);
+        }
+    }
+}
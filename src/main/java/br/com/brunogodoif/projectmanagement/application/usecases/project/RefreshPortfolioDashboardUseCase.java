@@ -0,0 +1,97 @@
+package br.com.brunogodoif.projectmanagement.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboardFreshness;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.RefreshPortfolioDashboardInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Log4j2
+public class RefreshPortfolioDashboardUseCase implements RefreshPortfolioDashboardInterface {
+
+    private final PortfolioDashboardGatewayInterface portfolioDashboardGateway;
+    private final Duration maxDelay;
+    // Not synchronized: the refresh blocks on JDBC and would pin a virtual thread to its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastSeenChangeCount = -1;
+    private Instant pendingSince;
+
+    public RefreshPortfolioDashboardUseCase(PortfolioDashboardGatewayInterface portfolioDashboardGateway,
+                                            @Value("${app.portfolio-dashboard.max-delay:PT1M}") Duration maxDelay
+                                           ) {
+        this.portfolioDashboardGateway = portfolioDashboardGateway;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public boolean execute() {
+        lock.lock();
+        try {
+            return refresh();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean executeIfStale() {
+        lock.lock();
+        try {
+            return refreshIfStale();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean refresh() {
+        log.info("Refreshing portfolio dashboard");
+
+        try {
+            boolean refreshed = portfolioDashboardGateway.refresh();
+            if (refreshed) {
+                pendingSince = null;
+            } else {
+                log.info("Portfolio dashboard is already being refreshed elsewhere, skipping");
+            }
+            return refreshed;
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to refresh portfolio dashboard", e);
+        }
+    }
+
+    private boolean refreshIfStale() {
+        PortfolioDashboardFreshness freshness;
+        try {
+            freshness = portfolioDashboardGateway.findFreshness();
+        } catch (Exception e) {
+            throw new BusinessOperationException("Failed to check portfolio dashboard freshness", e);
+        }
+
+        boolean writesSettled = freshness.getChangeCount() == lastSeenChangeCount;
+        lastSeenChangeCount = freshness.getChangeCount();
+
+        if (!freshness.isStale()) {
+            pendingSince = null;
+            return false;
+        }
+
+        Instant now = Instant.now();
+        if (pendingSince == null) {
+            pendingSince = now;
+        }
+        if (!writesSettled && now.isBefore(pendingSince.plus(maxDelay))) {
+            log.debug("Portfolio dashboard is stale but writes are still arriving, waiting");
+            return false;
+        }
+
+        return refresh();
+    }
+}
@@ -7,9 +7,11 @@ import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.UpdateProjectInterface;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -27,6 +29,7 @@ public class UpdateProjectUseCase implements UpdateProjectInterface {
     }
 
     @Override
+    @Transactional
     public Project execute(UUID id, ProjectInputDTO projectInputDTO) {
         log.info("Updating project with ID: {}", id);
 
@@ -34,6 +37,10 @@ public class UpdateProjectUseCase implements UpdateProjectInterface {
             Project existingProject = projectGateway.findById(id).orElseThrow(() -> new EntityNotFoundException(
                     "Project not found with ID: " + id));
 
+            if (projectInputDTO.getVersion() != null && projectInputDTO.getVersion() != existingProject.getVersion()) {
+                throw new EntityVersionConflictException("Project with ID " + id + " was modified by another request");
+            }
+
             Client client;
 
             if (!existingProject.getClient().getId().equals(projectInputDTO.getClientId())) {
@@ -54,10 +61,11 @@ public class UpdateProjectUseCase implements UpdateProjectInterface {
                                                  projectInputDTO.getNotes(),
                                                  existingProject.isDeleted(),
                                                  existingProject.getCreatedAt(),
-                                                 LocalDateTime.now());
+                                                 LocalDateTime.now(),
+                                                 existingProject.getVersion());
 
             return projectGateway.save(updatedProject);
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | EntityVersionConflictException e) {
             throw e;
         } catch (Exception e) {
             throw new BusinessOperationException("Failed to update project", e);
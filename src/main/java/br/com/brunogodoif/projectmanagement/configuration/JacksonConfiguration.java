@@ -1,19 +1,53 @@
 package br.com.brunogodoif.projectmanagement.configuration;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import br.com.brunogodoif.projectmanagement.infrastructure.serialization.IsoDateTimeModule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Tunes the ObjectMapper that Spring Boot builds, so {@code spring.jackson.*} and the other Boot customizers still
+ * apply. Blackbird replaces reflective getter calls with generated lambdas and the ISO date writers skip
+ * {@code DateTimeFormatter}; both can be switched off with {@code app.json.accelerated=false}.
+ */
 @Configuration
 public class JacksonConfiguration {
 
+    private final boolean accelerated;
+    private final boolean virtualThreads;
+
+    public JacksonConfiguration(@Value("${app.json.accelerated:true}") boolean accelerated,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+                               ) {
+        this.accelerated = accelerated;
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return objectMapper;
+    public Jackson2ObjectMapperBuilderCustomizer jsonSerializationCustomizer() {
+        return builder -> {
+            builder.factory(JsonFactory.builder().recyclerPool(bufferRecyclerPool()).build());
+            if (accelerated) {
+                // Appended after JavaTimeModule so the date writers take precedence over its serializers
+                builder.modulesToInstall(modules -> {
+                    modules.add(new BlackbirdModule());
+                    modules.add(new IsoDateTimeModule());
+                });
+            }
+        };
+    }
+
+    /**
+     * Jackson keeps generator buffers per thread by default; with a virtual thread per request each response would
+     * allocate fresh ones, so they are shared through a pool instead.
+     */
+    private RecyclerPool<BufferRecycler> bufferRecyclerPool() {
+        return virtualThreads ? JsonRecyclerPools.sharedConcurrentDequePool() : JsonRecyclerPools.threadLocalPool();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package br.com.brunogodoif.projectmanagement.configuration;
 
 import br.com.brunogodoif.projectmanagement.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,13 +28,16 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        http.csrf(csrf -> csrf.disable()).authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/**").permitAll()
+        http.csrf(csrf -> csrf.disable()).authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                                                            .requestMatchers("/api/auth/**").permitAll()
                                                                             .requestMatchers("/swagger-ui/**",
                                                                                              "/swagger-ui.html",
                                                                                              "/swagger-resources/**",
                                                                                              "/v3/api-docs/**",
                                                                                              "/api-docs/**",
                                                                                              "/webjars/**").permitAll()
+                                                                            .requestMatchers("/actuator/health").permitAll()
+                                                                            .requestMatchers("/actuator/**").hasRole("ADMIN")
                                                                             .anyRequest().authenticated())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,16 @@
+package br.com.brunogodoif.projectmanagement.configuration;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementRecorder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlMonitoringConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementRecorderCustomizer(SqlStatementRecorder recorder) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ActivityImportDTO {
+    private String title;
+    private String description;
+    private String projectName;
+    private LocalDate dueDate;
+    private String assignedTo;
+    private boolean completed;
+    private String priority;
+    private int estimatedHours;
+}
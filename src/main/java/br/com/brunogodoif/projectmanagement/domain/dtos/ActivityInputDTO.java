@@ -19,4 +19,5 @@ public class ActivityInputDTO {
     private boolean completed;
     private String priority;
     private int estimatedHours;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+@Getter
+public class BatchItemResult<T> {
+    private final int index;
+    private final T item;
+    private final String error;
+
+    private BatchItemResult(int index, T item, String error) {
+        this.index = index;
+        this.item = item;
+        this.error = error;
+    }
+
+    public static <T> BatchItemResult<T> success(int index, T item) {
+        return new BatchItemResult<>(index, item, null);
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, String error) {
+        return new BatchItemResult<>(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+@Getter
+public class BatchResult<T> {
+    private final List<BatchItemResult<T>> items;
+
+    public BatchResult(List<BatchItemResult<T>> items) {
+        this.items = List.copyOf(items);
+    }
+
+    /**
+     * Builds every input with {@code build}, recording a business rule violation as that item's failure, then
+     * hands all valid items to {@code persist} in a single call. {@code persist} must return them in order.
+     */
+    public static <I, T> BatchResult<T> of(List<I> inputs, Function<I, T> build, UnaryOperator<List<T>> persist) {
+        List<BatchItemResult<T>> results = new ArrayList<>(inputs.size());
+        List<T> valid = new ArrayList<>(inputs.size());
+        List<Integer> validIndexes = new ArrayList<>(inputs.size());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                valid.add(build.apply(inputs.get(i)));
+                validIndexes.add(i);
+                results.add(null);
+            } catch (BusinessException e) {
+                results.add(BatchItemResult.failure(i, e.getMessage()));
+            }
+        }
+
+        List<T> persisted = valid.isEmpty() ? List.of() : persist.apply(valid);
+        for (int i = 0; i < persisted.size(); i++) {
+            int index = validIndexes.get(i);
+            results.set(index, BatchItemResult.success(index, persisted.get(i)));
+        }
+
+        return new BatchResult<>(results);
+    }
+
+    public long getSucceededCount() {
+        return items.stream().filter(BatchItemResult::isSuccess).count();
+    }
+
+    public long getFailedCount() {
+        return items.size() - getSucceededCount();
+    }
+}
@@ -15,4 +15,5 @@ public class ClientInputDTO {
     private String companyName;
     private String address;
     private boolean active;
+    private Long version;
 }
\ No newline at end of file
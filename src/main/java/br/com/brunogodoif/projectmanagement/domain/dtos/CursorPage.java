@@ -0,0 +1,38 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPage<T> {
+    private final List<T> items;
+    private final PageCursor next;
+
+    public CursorPage(List<T> items, PageCursor next) {
+        this.items = (items != null) ? items : List.of();
+        this.next = next;
+    }
+
+    /**
+     * Builds a page from a result fetched with {@code limit + 1} rows: the extra row only signals
+     * that another page exists and is never returned.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, PageCursor> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), next);
+    }
+}
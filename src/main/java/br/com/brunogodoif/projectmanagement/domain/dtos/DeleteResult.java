@@ -0,0 +1,40 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+@Getter
+public class DeleteResult {
+
+    public enum Outcome {
+        DELETED,
+        NOT_FOUND,
+        IN_USE
+    }
+
+    private final Outcome outcome;
+    private final long dependents;
+
+    private DeleteResult(Outcome outcome, long dependents) {
+        this.outcome = outcome;
+        this.dependents = dependents;
+    }
+
+    public static DeleteResult of(boolean deleted, boolean found, long dependents) {
+        if (deleted) {
+            return deleted();
+        }
+        return found ? inUse(dependents) : notFound();
+    }
+
+    public static DeleteResult deleted() {
+        return new DeleteResult(Outcome.DELETED, 0);
+    }
+
+    public static DeleteResult notFound() {
+        return new DeleteResult(Outcome.NOT_FOUND, 0);
+    }
+
+    public static DeleteResult inUse(long dependents) {
+        return new DeleteResult(Outcome.IN_USE, dependents);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class DeletedActivity {
+    private UUID id;
+    private UUID projectId;
+    private boolean completed;
+    private int estimatedHours;
+}
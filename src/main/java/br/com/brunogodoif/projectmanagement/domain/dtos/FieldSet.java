@@ -0,0 +1,27 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Fields a client asked a listing for, in request order and without repetitions. Listings given a field set
+ * read and return only those fields, as rows keyed by field name.
+ */
+@Getter
+public class FieldSet {
+    private final List<String> names;
+
+    public FieldSet(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            throw new IllegalArgumentException("Field set requires at least one field");
+        }
+        this.names = List.copyOf(new LinkedHashSet<>(names));
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+}
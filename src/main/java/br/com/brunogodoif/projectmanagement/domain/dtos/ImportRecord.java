@@ -0,0 +1,32 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+@Getter
+public class ImportRecord<T> {
+    private final long line;
+    private final T value;
+    private final String error;
+
+    private ImportRecord(long line, T value, String error) {
+        this.line = line;
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> ImportRecord<T> of(long line, T value) {
+        return new ImportRecord<>(line, value, null);
+    }
+
+    public static <T> ImportRecord<T> invalid(long line, String error) {
+        return new ImportRecord<>(line, null, error);
+    }
+
+    public ImportRecord<T> reject(String error) {
+        return invalid(line, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
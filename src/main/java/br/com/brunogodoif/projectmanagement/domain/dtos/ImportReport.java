@@ -0,0 +1,88 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Getter
+public class ImportReport {
+    private long accepted;
+    private long rejected;
+
+    private ImportReport() {
+    }
+
+    /**
+     * Pulls records one at a time, builds each with {@code build} and hands them to {@code persist} in chunks of
+     * {@code chunkSize}, so at most one chunk is held in memory. {@code persist} returns the reason for each item it
+     * refused, keyed by position in the chunk. Unreadable records, business rule violations, refused items and every
+     * record of a chunk that fails to persist are passed to {@code rejections} instead of aborting the import.
+     */
+    public static <I, T> ImportReport of(Iterator<ImportRecord<I>> records, Function<I, T> build,
+                                         Function<List<T>, Map<Integer, String>> persist, int chunkSize,
+                                         Consumer<ImportRecord<?>> rejections
+                                        ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        ImportReport report = new ImportReport();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        List<Long> lines = new ArrayList<>(chunkSize);
+
+        while (records.hasNext()) {
+            ImportRecord<I> record = records.next();
+            if (!record.isValid()) {
+                report.reject(record, rejections);
+                continue;
+            }
+
+            try {
+                chunk.add(build.apply(record.getValue()));
+                lines.add(record.getLine());
+            } catch (BusinessException e) {
+                report.reject(record.reject(e.getMessage()), rejections);
+                continue;
+            }
+
+            if (chunk.size() == chunkSize) {
+                report.flush(chunk, lines, persist, rejections);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            report.flush(chunk, lines, persist, rejections);
+        }
+
+        return report;
+    }
+
+    private <T> void flush(List<T> chunk, List<Long> lines, Function<List<T>, Map<Integer, String>> persist,
+                           Consumer<ImportRecord<?>> rejections
+                          ) {
+        try {
+            Map<Integer, String> refused = persist.apply(List.copyOf(chunk));
+            accepted += chunk.size() - refused.size();
+            new TreeMap<>(refused).forEach(
+                    (index, reason) -> reject(ImportRecord.invalid(lines.get(index), reason), rejections));
+        } catch (RuntimeException e) {
+            for (Long line : lines) {
+                reject(ImportRecord.invalid(line, "Chunk could not be saved: " + e.getMessage()), rejections);
+            }
+        }
+        chunk.clear();
+        lines.clear();
+    }
+
+    private void reject(ImportRecord<?> record, Consumer<ImportRecord<?>> rejections) {
+        rejected++;
+        rejections.accept(record);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position of a listing: the (createdAt, id) pair of the last row already returned.
+ */
+@Getter
+public class PageCursor {
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public PageCursor(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires both createdAt and id");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class PortfolioDashboard {
+    private LocalDateTime refreshedAt;
+    private PortfolioSlice total;
+    private List<PortfolioSlice> byStatus;
+    private List<PortfolioSlice> topClients;
+    private List<PortfolioSlice> topManagers;
+}
@@ -0,0 +1,18 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PortfolioDashboardFreshness {
+    private LocalDateTime refreshedAt;
+    private long refreshedChangeCount;
+    private long changeCount;
+
+    public boolean isStale() {
+        return changeCount != refreshedChangeCount;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PortfolioSlice {
+    private String key;
+    private String label;
+    private long projectCount;
+    private long openHours;
+    private long overdueActivities;
+
+    public static PortfolioSlice empty() {
+        return PortfolioSlice.builder().key("").build();
+    }
+}
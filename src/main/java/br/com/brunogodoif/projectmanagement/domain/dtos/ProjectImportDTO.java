@@ -0,0 +1,20 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ProjectImportDTO {
+    private String name;
+    private String description;
+    private String clientEmail;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ProjectStatus status;
+    private String manager;
+    private String notes;
+}
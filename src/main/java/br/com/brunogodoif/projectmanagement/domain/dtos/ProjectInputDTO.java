@@ -19,4 +19,5 @@ public class ProjectInputDTO {
     private ProjectStatus status;
     private String manager;
     private String notes;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ProjectProgress {
+    private long activityCount;
+    private long completedCount;
+    private long totalHours;
+    private long remainingHours;
+    private LocalDateTime lastActivityAt;
+
+    public static ProjectProgress empty() {
+        return ProjectProgress.builder().build();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+public class ProjectStatsDelta {
+    private final int activityCount;
+    private final int completedCount;
+    private final long totalHours;
+    private final long remainingHours;
+    private final LocalDateTime occurredAt;
+
+    private ProjectStatsDelta(int activityCount, int completedCount, long totalHours, long remainingHours,
+                              LocalDateTime occurredAt
+                             ) {
+        this.activityCount = activityCount;
+        this.completedCount = completedCount;
+        this.totalHours = totalHours;
+        this.remainingHours = remainingHours;
+        this.occurredAt = occurredAt;
+    }
+
+    public static ProjectStatsDelta added(Activity activity) {
+        return new ProjectStatsDelta(1,
+                                     activity.isCompleted() ? 1 : 0,
+                                     activity.getEstimatedHours(),
+                                     activity.isCompleted() ? 0 : activity.getEstimatedHours(),
+                                     activity.getUpdatedAt());
+    }
+
+    public static ProjectStatsDelta removed(Activity activity, LocalDateTime occurredAt) {
+        return removed(activity.isCompleted(), activity.getEstimatedHours(), occurredAt);
+    }
+
+    public static ProjectStatsDelta removed(DeletedActivity activity, LocalDateTime occurredAt) {
+        return removed(activity.isCompleted(), activity.getEstimatedHours(), occurredAt);
+    }
+
+    public static ProjectStatsDelta changed(Activity before, Activity after) {
+        ProjectStatsDelta previous = added(before);
+        ProjectStatsDelta current = added(after);
+        return new ProjectStatsDelta(0,
+                                     current.completedCount - previous.completedCount,
+                                     current.totalHours - previous.totalHours,
+                                     current.remainingHours - previous.remainingHours,
+                                     after.getUpdatedAt());
+    }
+
+    public static Map<UUID, ProjectStatsDelta> addedByProject(Collection<Activity> activities) {
+        Map<UUID, ProjectStatsDelta> deltas = new HashMap<>();
+        for (Activity activity : activities) {
+            deltas.merge(activity.getProject().getId(), added(activity), ProjectStatsDelta::plus);
+        }
+        return deltas;
+    }
+
+    private static ProjectStatsDelta removed(boolean completed, long estimatedHours, LocalDateTime occurredAt) {
+        return new ProjectStatsDelta(-1,
+                                     completed ? -1 : 0,
+                                     -estimatedHours,
+                                     completed ? 0 : -estimatedHours,
+                                     occurredAt);
+    }
+
+    public ProjectStatsDelta plus(ProjectStatsDelta other) {
+        LocalDateTime latest = other.occurredAt == null || (occurredAt != null && occurredAt.isAfter(other.occurredAt))
+                ? occurredAt : other.occurredAt;
+        return new ProjectStatsDelta(activityCount + other.activityCount,
+                                     completedCount + other.completedCount,
+                                     totalHours + other.totalHours,
+                                     remainingHours + other.remainingHours,
+                                     latest);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ProjectSummary {
+    private UUID projectId;
+    private long totalActivities;
+    private long completedActivities;
+    private long estimatedHours;
+    private long openHours;
+    private long overdueActivities;
+
+    public static ProjectSummary empty(UUID projectId) {
+        return ProjectSummary.builder().projectId(projectId).build();
+    }
+}
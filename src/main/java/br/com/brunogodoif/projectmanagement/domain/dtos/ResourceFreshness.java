@@ -0,0 +1,20 @@
+package br.com.brunogodoif.projectmanagement.domain.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of what a representation shows: the latest change among its rows, how many rows it lists
+ * and a checksum of their ids, so a row swapped for another within a page is noticed too. Single resources
+ * also carry their row version; listings leave it null.
+ */
+@Getter
+@Builder
+public class ResourceFreshness {
+    private Long version;
+    private LocalDateTime lastModified;
+    private long itemCount;
+    private long checksum;
+}
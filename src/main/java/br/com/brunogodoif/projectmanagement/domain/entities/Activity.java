@@ -19,6 +19,7 @@ public class Activity {
     private int estimatedHours;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
 
     public Activity() {
         this.id = UUID.randomUUID();
@@ -47,6 +48,14 @@ public class Activity {
                     boolean completed, String priority, int estimatedHours, LocalDateTime createdAt,
                     LocalDateTime updatedAt
                    ) {
+        this(id, title, description, project, dueDate, assignedTo, completed, priority, estimatedHours, createdAt,
+             updatedAt, 0);
+    }
+
+    public Activity(UUID id, String title, String description, Project project, LocalDate dueDate, String assignedTo,
+                    boolean completed, String priority, int estimatedHours, LocalDateTime createdAt,
+                    LocalDateTime updatedAt, long version
+                   ) {
         validateTitle(title);
         validateProject(project);
 
@@ -61,6 +70,7 @@ public class Activity {
         this.estimatedHours = estimatedHours;
         this.createdAt = (createdAt != null) ? createdAt : LocalDateTime.now();
         this.updatedAt = (updatedAt != null) ? updatedAt : LocalDateTime.now();
+        this.version = version;
     }
 
     private void validateTitle(String title) {
@@ -19,6 +19,7 @@ public class Client {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean active;
+    private long version;
     private List<Project> projects = new ArrayList<>();
 
     public Client() {
@@ -43,6 +44,12 @@ public class Client {
     public Client(UUID id, String name, String email, String phone, String companyName, String address,
                   LocalDateTime createdAt, LocalDateTime updatedAt, boolean active
                  ) {
+        this(id, name, email, phone, companyName, address, createdAt, updatedAt, active, 0);
+    }
+
+    public Client(UUID id, String name, String email, String phone, String companyName, String address,
+                  LocalDateTime createdAt, LocalDateTime updatedAt, boolean active, long version
+                 ) {
         validateName(name);
         validateEmail(email);
 
@@ -55,6 +62,7 @@ public class Client {
         this.createdAt = (createdAt != null) ? createdAt : LocalDateTime.now();
         this.updatedAt = (updatedAt != null) ? updatedAt : LocalDateTime.now();
         this.active = active;
+        this.version = version;
     }
 
     private void validateName(String name) {
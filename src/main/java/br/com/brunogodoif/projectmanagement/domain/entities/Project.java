@@ -1,5 +1,6 @@
 package br.com.brunogodoif.projectmanagement.domain.entities;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessValidationException;
 import lombok.Getter;
 
@@ -22,7 +23,9 @@ public class Project {
     private boolean isDeleted;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
     private List<Activity> activities = new ArrayList<>();
+    private ProjectProgress progress;
 
     public Project() {
         this.id = UUID.randomUUID();
@@ -54,6 +57,14 @@ public class Project {
                    ProjectStatus status, String manager, String notes, boolean isDeleted, LocalDateTime createdAt,
                    LocalDateTime updatedAt
                   ) {
+        this(id, name, description, client, startDate, endDate, status, manager, notes, isDeleted, createdAt,
+             updatedAt, 0);
+    }
+
+    public Project(UUID id, String name, String description, Client client, LocalDate startDate, LocalDate endDate,
+                   ProjectStatus status, String manager, String notes, boolean isDeleted, LocalDateTime createdAt,
+                   LocalDateTime updatedAt, long version
+                  ) {
         validateName(name);
         validateClient(client);
         validateStatus(status);
@@ -71,6 +82,7 @@ public class Project {
         this.isDeleted = isDeleted;
         this.createdAt = (createdAt != null) ? createdAt : LocalDateTime.now();
         this.updatedAt = (updatedAt != null) ? updatedAt : LocalDateTime.now();
+        this.version = version;
     }
 
     private void validateName(String name) {
@@ -107,4 +119,7 @@ public class Project {
         this.activities.add(activity);
     }
 
+    public void attachProgress(ProjectProgress progress) {
+        this.progress = progress;
+    }
 }
\ No newline at end of file
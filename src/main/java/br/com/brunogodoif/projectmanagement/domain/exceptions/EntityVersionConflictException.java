@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.domain.exceptions;
+
+public class EntityVersionConflictException extends BusinessException {
+    public EntityVersionConflictException(String message) {
+        super(message);
+    }
+
+    public EntityVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
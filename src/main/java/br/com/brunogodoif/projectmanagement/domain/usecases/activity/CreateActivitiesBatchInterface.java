@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+
+import java.util.List;
+
+public interface CreateActivitiesBatchInterface {
+    BatchResult<Activity> execute(List<ActivityInputDTO> inputs);
+}
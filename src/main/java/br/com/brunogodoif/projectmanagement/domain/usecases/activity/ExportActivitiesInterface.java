@@ -0,0 +1,9 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+
+import java.util.function.Consumer;
+
+public interface ExportActivitiesInterface {
+    void execute(Consumer<Activity> sink);
+}
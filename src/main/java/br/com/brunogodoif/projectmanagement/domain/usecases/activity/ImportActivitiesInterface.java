@@ -0,0 +1,12 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportActivitiesInterface {
+    ImportReport execute(Iterator<ImportRecord<ActivityImportDTO>> records, Consumer<ImportRecord<?>> rejections);
+}
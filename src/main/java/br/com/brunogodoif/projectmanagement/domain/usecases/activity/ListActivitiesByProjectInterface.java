@@ -1,10 +1,15 @@
 package br.com.brunogodoif.projectmanagement.domain.usecases.activity;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ListActivitiesByProjectInterface {
-    List<Activity> execute(UUID projectId);
+    CursorPage<Activity> execute(UUID projectId, PageCursor after, int limit);
+
+    CursorPage<Map<String, Object>> execute(UUID projectId, PageCursor after, int limit, FieldSet fields);
 }
@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.client;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+
+import java.util.List;
+
+public interface CreateClientsBatchInterface {
+    BatchResult<Client> execute(List<ClientInputDTO> inputs);
+}
@@ -1,9 +1,16 @@
 package br.com.brunogodoif.projectmanagement.domain.usecases.client;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public interface GetClientInterface {
     Client execute(UUID id);
+
+    Optional<Client> executeIfModified(UUID id, Predicate<ResourceFreshness> unchanged);
+
+    Optional<ResourceFreshness> executeFreshness(UUID id);
 }
\ No newline at end of file
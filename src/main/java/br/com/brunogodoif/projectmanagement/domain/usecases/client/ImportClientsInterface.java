@@ -0,0 +1,12 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.client;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportClientsInterface {
+    ImportReport execute(Iterator<ImportRecord<ClientInputDTO>> records, Consumer<ImportRecord<?>> rejections);
+}
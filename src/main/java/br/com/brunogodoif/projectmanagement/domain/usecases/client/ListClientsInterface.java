@@ -1,9 +1,20 @@
 package br.com.brunogodoif.projectmanagement.domain.usecases.client;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 public interface ListClientsInterface {
-    List<Client> execute();
+    CursorPage<Client> execute(PageCursor after, int limit);
+
+    Optional<CursorPage<Client>> executeIfModified(PageCursor after, int limit, Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Map<String, Object>>> executeIfModified(PageCursor after, int limit, FieldSet fields,
+                                                                Predicate<ResourceFreshness> unchanged);
 }
\ No newline at end of file
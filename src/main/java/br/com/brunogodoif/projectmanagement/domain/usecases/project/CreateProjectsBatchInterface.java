@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+
+import java.util.List;
+
+public interface CreateProjectsBatchInterface {
+    BatchResult<Project> execute(List<ProjectInputDTO> inputs);
+}
@@ -0,0 +1,9 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+
+import java.util.function.Consumer;
+
+public interface ExportProjectsInterface {
+    void execute(Consumer<Project> sink);
+}
@@ -0,0 +1,7 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+
+public interface GetPortfolioDashboardInterface {
+    PortfolioDashboard execute(int limit);
+}
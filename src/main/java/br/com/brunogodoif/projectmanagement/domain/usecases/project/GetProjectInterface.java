@@ -1,9 +1,16 @@
 package br.com.brunogodoif.projectmanagement.domain.usecases.project;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public interface GetProjectInterface {
     Project execute(UUID id);
+
+    Optional<Project> executeIfModified(UUID id, Predicate<ResourceFreshness> unchanged);
+
+    Optional<ResourceFreshness> executeFreshness(UUID id);
 }
@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface GetProjectSummaryInterface {
+    ProjectSummary execute(UUID projectId);
+
+    List<ProjectSummary> execute(Collection<UUID> projectIds);
+}
@@ -0,0 +1,12 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectImportDTO;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportProjectsInterface {
+    ImportReport execute(Iterator<ImportRecord<ProjectImportDTO>> records, Consumer<ImportRecord<?>> rejections);
+}
@@ -1,15 +1,41 @@
 package br.com.brunogodoif.projectmanagement.domain.usecases.project;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public interface ListProjectsInterface {
-    List<Project> execute();
+    CursorPage<Project> execute(PageCursor after, int limit);
 
-    List<Project> executeByStatus(ProjectStatus status);
+    CursorPage<Project> executeByStatus(ProjectStatus status, PageCursor after, int limit);
 
-    List<Project> executeByClient(UUID clientId);
+    CursorPage<Project> executeByClient(UUID clientId, PageCursor after, int limit);
+
+    Optional<CursorPage<Project>> executeIfModified(PageCursor after, int limit,
+                                                    Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Project>> executeByStatusIfModified(ProjectStatus status, PageCursor after, int limit,
+                                                            Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Project>> executeByClientIfModified(UUID clientId, PageCursor after, int limit,
+                                                            Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Map<String, Object>>> executeIfModified(PageCursor after, int limit, FieldSet fields,
+                                                                Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Map<String, Object>>> executeByStatusIfModified(ProjectStatus status, PageCursor after,
+                                                                        int limit, FieldSet fields,
+                                                                        Predicate<ResourceFreshness> unchanged);
+
+    Optional<CursorPage<Map<String, Object>>> executeByClientIfModified(UUID clientId, PageCursor after, int limit,
+                                                                        FieldSet fields,
+                                                                        Predicate<ResourceFreshness> unchanged);
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+public interface ReconcileProjectStatsInterface {
+    int execute();
+}
@@ -0,0 +1,7 @@
+package br.com.brunogodoif.projectmanagement.domain.usecases.project;
+
+public interface RefreshPortfolioDashboardInterface {
+    boolean execute();
+
+    boolean executeIfStale();
+}
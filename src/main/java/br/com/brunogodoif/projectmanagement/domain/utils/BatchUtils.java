@@ -0,0 +1,17 @@
+package br.com.brunogodoif.projectmanagement.domain.utils;
+
+import java.util.List;
+
+public final class BatchUtils {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private BatchUtils() {
+    }
+
+    public static void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+    }
+}
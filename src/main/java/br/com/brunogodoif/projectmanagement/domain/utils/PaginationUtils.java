@@ -0,0 +1,15 @@
+package br.com.brunogodoif.projectmanagement.domain.utils;
+
+public final class PaginationUtils {
+
+    public static final int MAX_LIMIT = 100;
+
+    private PaginationUtils() {
+    }
+
+    public static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -2,24 +2,37 @@ package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
 
 import br.com.brunogodoif.projectmanagement.application.usecases.activity.DeleteActivityUseCase;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.usecases.DeleteEntityInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.CreateActivitiesBatchInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.CreateActivityInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.GetActivityInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ListActivitiesByProjectInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.activity.UpdateActivityInterface;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.BatchRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.BatchResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.CursorPageResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.ConditionalRequests;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.CursorCodec;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.FieldSelection;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ActivityMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -27,23 +40,27 @@ import java.util.UUID;
 @Tag(name = "Activities", description = "Activity management endpoints")
 public class ActivityController {
 
+    private static final FieldSelection LISTING_FIELDS = FieldSelection.of(ActivityResponse.class);
+
     private final CreateActivityInterface createActivityUseCase;
     private final GetActivityInterface getActivityUseCase;
     private final ListActivitiesByProjectInterface listActivitiesByProjectUseCase;
     private final UpdateActivityInterface updateActivityUseCase;
     private final DeleteEntityInterface<UUID> deleteActivity;
+    private final CreateActivitiesBatchInterface createActivitiesBatchUseCase;
     private final ActivityMapper activityMapper;
 
     public ActivityController(CreateActivityInterface createActivityUseCase, GetActivityInterface getActivityUseCase,
                               ListActivitiesByProjectInterface listActivitiesByProjectUseCase,
                               UpdateActivityInterface updateActivityUseCase, DeleteActivityUseCase deleteActivity,
-                              ActivityMapper activityMapper
+                              CreateActivitiesBatchInterface createActivitiesBatchUseCase, ActivityMapper activityMapper
                              ) {
         this.createActivityUseCase = createActivityUseCase;
         this.getActivityUseCase = getActivityUseCase;
         this.listActivitiesByProjectUseCase = listActivitiesByProjectUseCase;
         this.updateActivityUseCase = updateActivityUseCase;
         this.deleteActivity = deleteActivity;
+        this.createActivitiesBatchUseCase = createActivitiesBatchUseCase;
         this.activityMapper = activityMapper;
     }
 
@@ -51,42 +68,59 @@ public class ActivityController {
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Operation(summary = "Create a new activity")
     public ResponseEntity<ActivityResponse> createActivity(@Valid @RequestBody ActivityRequest request) {
-        ActivityInputDTO activityInputDTO = ActivityInputDTO.builder()
-                                                            .id(UUID.randomUUID())
-                                                            .title(request.title())
-                                                            .description(request.description())
-                                                            .projectId(request.projectId())
-                                                            .dueDate(request.dueDate())
-                                                            .assignedTo(request.assignedTo())
-                                                            .completed(request.completed())
-                                                            .priority(request.priority())
-                                                            .estimatedHours(request.estimatedHours())
-                                                            .build();
+        ActivityInputDTO activityInputDTO = toInputDTO(request);
 
         Activity createdActivity = createActivityUseCase.execute(activityInputDTO);
         return new ResponseEntity<>(activityMapper.toResponse(createdActivity), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Create up to 1000 activities in one call, with a result per item")
+    public ResponseEntity<BatchResponse<ActivityResponse>> createActivitiesBatch(
+            @Valid @RequestBody BatchRequest<ActivityRequest> request) {
+        List<ActivityInputDTO> inputs = request.items().stream().map(this::toInputDTO).toList();
+
+        BatchResult<Activity> result = createActivitiesBatchUseCase.execute(inputs);
+        HttpStatus status = result.getFailedCount() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(BatchResponse.from(result, activityMapper::toResponse), status);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Operation(summary = "Get activity by ID")
     public ResponseEntity<ActivityResponse> getActivity(@PathVariable UUID id) {
         Activity activity = getActivityUseCase.execute(id);
-        return ResponseEntity.ok(activityMapper.toResponse(activity));
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(activity.getVersion()))
+                             .body(activityMapper.toResponse(activity));
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "List all activities by project")
-    public ResponseEntity<List<ActivityResponse>> listActivitiesByProject(@PathVariable UUID projectId) {
-        List<Activity> activities = listActivitiesByProjectUseCase.execute(projectId);
-        return ResponseEntity.ok(activityMapper.toResponseList(activities));
+    @Operation(summary = "List activities by project (cursor paginated); fields=title,dueDate,... returns only those fields")
+    public ResponseEntity<CursorPageResponse<?>> listActivitiesByProject(@PathVariable UUID projectId,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int limit,
+                                                                         @RequestParam(required = false) String fields
+                                                                        ) {
+        PageCursor after = CursorCodec.decode(cursor);
+        FieldSet fieldSet = LISTING_FIELDS.parse(fields);
+        if (fieldSet != null) {
+            CursorPage<Map<String, Object>> rows = listActivitiesByProjectUseCase.execute(projectId, after, limit,
+                                                                                          fieldSet);
+            return ResponseEntity.ok(new CursorPageResponse<>(rows.getItems(), CursorCodec.encode(rows.getNext())));
+        }
+
+        CursorPage<Activity> activities = listActivitiesByProjectUseCase.execute(projectId, after, limit);
+        return ResponseEntity.ok(new CursorPageResponse<>(activityMapper.toResponseList(activities.getItems()),
+                                                          CursorCodec.encode(activities.getNext())));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "Update an existing activity")
+    @Operation(summary = "Update an existing activity; requires If-Match with the current ETag or version")
     public ResponseEntity<ActivityResponse> updateActivity(@PathVariable UUID id,
+                                                           @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
                                                            @Valid @RequestBody ActivityRequest request
                                                           ) {
         ActivityInputDTO activityInputDTO = ActivityInputDTO.builder()
@@ -98,10 +132,12 @@ public class ActivityController {
                                                             .completed(request.completed())
                                                             .priority(request.priority())
                                                             .estimatedHours(request.estimatedHours())
+                                                            .version(ConditionalRequests.expectedVersion(ifMatch))
                                                             .build();
 
         Activity updatedActivity = updateActivityUseCase.execute(id, activityInputDTO);
-        return ResponseEntity.ok(activityMapper.toResponse(updatedActivity));
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(updatedActivity.getVersion()))
+                             .body(activityMapper.toResponse(updatedActivity));
     }
 
     @DeleteMapping("/{id}")
@@ -111,4 +147,18 @@ public class ActivityController {
         deleteActivity.execute(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ActivityInputDTO toInputDTO(ActivityRequest request) {
+        return ActivityInputDTO.builder()
+                               .id(UUID.randomUUID())
+                               .title(request.title())
+                               .description(request.description())
+                               .projectId(request.projectId())
+                               .dueDate(request.dueDate())
+                               .assignedTo(request.assignedTo())
+                               .completed(request.completed())
+                               .priority(request.priority())
+                               .estimatedHours(request.estimatedHours())
+                               .build();
+    }
+}
@@ -7,6 +7,7 @@ import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.UserEntity;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.UserRepository;
 import br.com.brunogodoif.projectmanagement.infrastructure.security.JwtTokenProvider;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsCache;
 import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,14 +37,17 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserDetailsCache userDetailsCache;
 
     public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository,
-                          PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider
+                          PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider,
+                          UserDetailsCache userDetailsCache
                          ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @PostMapping("/login")
@@ -94,6 +98,7 @@ public class AuthController {
         user.setUpdatedAt(now);
 
         userRepository.save(user);
+        userDetailsCache.evict(user.getUsername());
 
         return ResponseEntity.ok(new ApiResponse("success", "User registered successfully"));
     }
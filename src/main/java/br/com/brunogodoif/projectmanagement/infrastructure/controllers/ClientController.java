@@ -1,26 +1,41 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
 
 import br.com.brunogodoif.projectmanagement.application.usecases.client.DeleteClientUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.usecases.DeleteEntityInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.CreateClientInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.client.CreateClientsBatchInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.GetClientInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.ListClientsInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.client.UpdateClientInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.BatchRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.BatchResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ClientDetailResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ClientResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.CursorPageResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.ConditionalRequests;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.CursorCodec;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.FieldSelection;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ClientMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -28,22 +43,27 @@ import java.util.UUID;
 @Tag(name = "Clients", description = "Client management endpoints")
 public class ClientController {
 
+    private static final FieldSelection LISTING_FIELDS = FieldSelection.of(ClientResponse.class);
+
     private final CreateClientInterface createClientUseCase;
     private final GetClientInterface getClientUseCase;
     private final ListClientsInterface listClientsUseCase;
     private final UpdateClientInterface updateClientUseCase;
     private final DeleteEntityInterface<UUID> deleteClient;
+    private final CreateClientsBatchInterface createClientsBatchUseCase;
     private final ClientMapper clientMapper;
 
     public ClientController(CreateClientInterface createClientUseCase, GetClientInterface getClientUseCase,
                             ListClientsInterface listClientsUseCase, UpdateClientInterface updateClientUseCase,
-                            DeleteClientUseCase deleteClient, ClientMapper clientMapper
+                            DeleteClientUseCase deleteClient, CreateClientsBatchInterface createClientsBatchUseCase,
+                            ClientMapper clientMapper
                            ) {
         this.createClientUseCase = createClientUseCase;
         this.getClientUseCase = getClientUseCase;
         this.listClientsUseCase = listClientsUseCase;
         this.updateClientUseCase = updateClientUseCase;
         this.deleteClient = deleteClient;
+        this.createClientsBatchUseCase = createClientsBatchUseCase;
         this.clientMapper = clientMapper;
     }
 
@@ -52,40 +72,64 @@ public class ClientController {
     @Operation(summary = "Create a new client")
     public ResponseEntity<ClientResponse> createClient(@Valid @RequestBody ClientRequest request) {
 
-        ClientInputDTO clientInputDTO = ClientInputDTO.builder()
-                                                      .id(UUID.randomUUID())
-                                                      .name(request.name())
-                                                      .email(request.email())
-                                                      .phone(request.phone())
-                                                      .companyName(request.companyName())
-                                                      .address(request.address())
-                                                      .active(request.active())
-                                                      .build();
+        ClientInputDTO clientInputDTO = toInputDTO(request);
 
         Client createdClient = createClientUseCase.execute(clientInputDTO);
         return new ResponseEntity<>(clientMapper.toResponse(createdClient), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create up to 1000 clients in one call, with a result per item")
+    public ResponseEntity<BatchResponse<ClientResponse>> createClientsBatch(
+            @Valid @RequestBody BatchRequest<ClientRequest> request) {
+        List<ClientInputDTO> inputs = request.items().stream().map(this::toInputDTO).toList();
+
+        BatchResult<Client> result = createClientsBatchUseCase.execute(inputs);
+        HttpStatus status = result.getFailedCount() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(BatchResponse.from(result, clientMapper::toResponse), status);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "Get client by ID with associated projects")
-    public ResponseEntity<ClientDetailResponse> getClient(@PathVariable UUID id) {
-        Client client = getClientUseCase.execute(id);
-        return ResponseEntity.ok(clientMapper.toDetailResponse(client));
+    @Operation(summary = "Get client by ID with associated projects; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<ClientDetailResponse> getClient(@PathVariable UUID id, WebRequest webRequest) {
+        return getClientUseCase.executeIfModified(id, ConditionalRequests.unchanged(webRequest))
+                               .map(client -> ResponseEntity.ok(clientMapper.toDetailResponse(client)))
+                               .orElseGet(ConditionalRequests::notModified);
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "List all active clients")
-    public ResponseEntity<List<ClientResponse>> listClients() {
-        List<Client> clients = listClientsUseCase.execute();
-        return ResponseEntity.ok(clientMapper.toResponseList(clients));
+    @Operation(summary = "List active clients (cursor paginated); fields=name,email,... returns only those fields; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<CursorPageResponse<?>> listClients(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int limit,
+                                                             @RequestParam(required = false) String fields,
+                                                             WebRequest webRequest
+                                                            ) {
+        PageCursor after = CursorCodec.decode(cursor);
+        FieldSet fieldSet = LISTING_FIELDS.parse(fields);
+        if (fieldSet != null) {
+            Optional<CursorPage<Map<String, Object>>> rows = listClientsUseCase.executeIfModified(
+                    after, limit, fieldSet, ConditionalRequests.unchanged(webRequest));
+            return rows.<ResponseEntity<CursorPageResponse<?>>>map(page -> ResponseEntity.ok(
+                               new CursorPageResponse<>(page.getItems(), CursorCodec.encode(page.getNext()))))
+                       .orElseGet(ConditionalRequests::notModified);
+        }
+
+        Optional<CursorPage<Client>> clients = listClientsUseCase.executeIfModified(
+                after, limit, ConditionalRequests.unchanged(webRequest));
+        return clients.<ResponseEntity<CursorPageResponse<?>>>map(page -> ResponseEntity.ok(
+                              new CursorPageResponse<>(clientMapper.toResponseList(page.getItems()),
+                                                       CursorCodec.encode(page.getNext()))))
+                      .orElseGet(ConditionalRequests::notModified);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Update an existing client")
+    @Operation(summary = "Update an existing client; requires If-Match with the current ETag or version")
     public ResponseEntity<ClientResponse> updateClient(@PathVariable UUID id,
+                                                       @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
                                                        @Valid @RequestBody ClientRequest request
                                                       ) {
         ClientInputDTO clientInputDTO = ClientInputDTO.builder()
@@ -95,10 +139,14 @@ public class ClientController {
                                                       .companyName(request.companyName())
                                                       .address(request.address())
                                                       .active(request.active())
+                                                      .version(ConditionalRequests.expectedVersion(ifMatch))
                                                       .build();
 
         Client updatedClient = updateClientUseCase.execute(id, clientInputDTO);
-        return ResponseEntity.ok(clientMapper.toResponse(updatedClient));
+        // Same tag a GET of the client now returns, so either can be sent back on the next If-Match
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        getClientUseCase.executeFreshness(id).map(ConditionalRequests::etag).ifPresent(response::eTag);
+        return response.body(clientMapper.toResponse(updatedClient));
     }
 
     @DeleteMapping("/{id}")
@@ -108,4 +156,16 @@ public class ClientController {
         deleteClient.execute(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ClientInputDTO toInputDTO(ClientRequest request) {
+        return ClientInputDTO.builder()
+                             .id(UUID.randomUUID())
+                             .name(request.name())
+                             .email(request.email())
+                             .phone(request.phone())
+                             .companyName(request.companyName())
+                             .address(request.address())
+                             .active(request.active())
+                             .build();
+    }
+}
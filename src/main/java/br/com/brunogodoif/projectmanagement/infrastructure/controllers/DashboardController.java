@@ -0,0 +1,48 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetPortfolioDashboardInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.RefreshPortfolioDashboardInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.PortfolioDashboardResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboard", description = "Pre-aggregated portfolio figures")
+public class DashboardController {
+
+    private final GetPortfolioDashboardInterface getPortfolioDashboardUseCase;
+    private final RefreshPortfolioDashboardInterface refreshPortfolioDashboardUseCase;
+    private final ProjectMapper projectMapper;
+
+    public DashboardController(GetPortfolioDashboardInterface getPortfolioDashboardUseCase,
+                               RefreshPortfolioDashboardInterface refreshPortfolioDashboardUseCase,
+                               ProjectMapper projectMapper
+                              ) {
+        this.getPortfolioDashboardUseCase = getPortfolioDashboardUseCase;
+        this.refreshPortfolioDashboardUseCase = refreshPortfolioDashboardUseCase;
+        this.projectMapper = projectMapper;
+    }
+
+    @GetMapping("/portfolio")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Get projects, open hours and overdue activities per status, client and manager, as of the last refresh")
+    public ResponseEntity<PortfolioDashboardResponse> getPortfolio(@RequestParam(defaultValue = "10") int limit) {
+        PortfolioDashboard dashboard = getPortfolioDashboardUseCase.execute(limit);
+        return ResponseEntity.ok(projectMapper.toDashboardResponse(dashboard));
+    }
+
+    @PostMapping("/portfolio/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Refresh the portfolio figures now instead of waiting for the schedule")
+    public ResponseEntity<PortfolioDashboardResponse> refreshPortfolio(@RequestParam(defaultValue = "10") int limit) {
+        refreshPortfolioDashboardUseCase.execute();
+        PortfolioDashboard dashboard = getPortfolioDashboardUseCase.execute(limit);
+        return ResponseEntity.ok(projectMapper.toDashboardResponse(dashboard));
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ExportActivitiesInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ExportProjectsInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.DataFormat;
+import br.com.brunogodoif.projectmanagement.infrastructure.exporting.ExportRowWriter;
+import br.com.brunogodoif.projectmanagement.infrastructure.exporting.ExportWriterFactory;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ActivityMapper;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Streaming export endpoints for projects and activities")
+public class ExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final ExportProjectsInterface exportProjectsUseCase;
+    private final ExportActivitiesInterface exportActivitiesUseCase;
+    private final ExportWriterFactory exportWriterFactory;
+    private final ProjectMapper projectMapper;
+    private final ActivityMapper activityMapper;
+
+    public ExportController(ExportProjectsInterface exportProjectsUseCase,
+                            ExportActivitiesInterface exportActivitiesUseCase,
+                            ExportWriterFactory exportWriterFactory, ProjectMapper projectMapper,
+                            ActivityMapper activityMapper
+                           ) {
+        this.exportProjectsUseCase = exportProjectsUseCase;
+        this.exportActivitiesUseCase = exportActivitiesUseCase;
+        this.exportWriterFactory = exportWriterFactory;
+        this.projectMapper = projectMapper;
+        this.activityMapper = activityMapper;
+    }
+
+    @GetMapping(value = "/projects", produces = {NDJSON, CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all active projects as NDJSON or CSV, chosen by the Accept header")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = NDJSON) String accept) {
+        DataFormat format = DataFormat.fromAccept(accept);
+        return stream("projects", format, ProjectResponse.class,
+                      rows -> exportProjectsUseCase.execute(project -> rows.accept(projectMapper.toResponse(project))));
+    }
+
+    @GetMapping(value = "/activities", produces = {NDJSON, CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream the activities of all active projects as NDJSON or CSV, chosen by the Accept header")
+    public ResponseEntity<StreamingResponseBody> exportActivities(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = NDJSON) String accept) {
+        DataFormat format = DataFormat.fromAccept(accept);
+        return stream("activities", format, ActivityResponse.class,
+                      rows -> exportActivitiesUseCase.execute(
+                              activity -> rows.accept(activityMapper.toResponse(activity))));
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> stream(String name, DataFormat format, Class<T> rowType,
+                                                             Consumer<Consumer<T>> export
+                                                            ) {
+        StreamingResponseBody body = output -> {
+            try (ExportRowWriter<T> rows = exportWriterFactory.open(output, format, rowType)) {
+                export.accept(rows);
+            }
+        };
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                                                           .filename(name + "." + format.getExtension())
+                                                           .build();
+        return ResponseEntity.ok()
+                             .contentType(format.getMediaType())
+                             .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                             .body(body);
+    }
+}
@@ -1,15 +1,19 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
 
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityInUseException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ErrorResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseBusyException;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -48,6 +52,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<ErrorResponse> handleDatabaseBusyException(DatabaseBusyException ex,
+                                                                     HttpServletRequest request
+                                                                    ) {
+        log.warn("Database busy exception: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                                "Service Unavailable",
+                                                "The service is busy, please retry shortly",
+                                                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex,
                                                                      HttpServletRequest request
@@ -86,6 +104,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, HttpServletRequest request) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseBusyException busy) {
+                return handleDatabaseBusyException(busy, request);
+            }
+        }
+
         log.error("Unexpected exception: {}", ex.getMessage(), ex);
 
         ErrorResponse error = new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -111,6 +135,37 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(EntityVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleEntityVersionConflictException(EntityVersionConflictException ex,
+                                                                              HttpServletRequest request
+                                                                             ) {
+        log.warn("Entity version conflict exception: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(),
+                                                "Precondition Failed",
+                                                ex.getMessage(),
+                                                request.getRequestURI());
+
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<ErrorResponse> handleMissingRequestHeaderException(MissingRequestHeaderException ex,
+                                                                             HttpServletRequest request
+                                                                            ) {
+        log.warn("Missing request header exception: {}", ex.getMessage());
+
+        HttpStatus status = HttpHeaders.IF_MATCH.equalsIgnoreCase(ex.getHeaderName())
+                            ? HttpStatus.PRECONDITION_REQUIRED
+                            : HttpStatus.BAD_REQUEST;
+        ErrorResponse error = new ErrorResponse(status.value(),
+                                                status.getReasonPhrase(),
+                                                "Required header '" + ex.getHeaderName() + "' is missing",
+                                                request.getRequestURI());
+
+        return new ResponseEntity<>(error, status);
+    }
+
     @ExceptionHandler(br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleDomainEntityNotFoundException(
             br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException ex,
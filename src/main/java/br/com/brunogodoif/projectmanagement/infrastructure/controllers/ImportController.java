@@ -0,0 +1,151 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.usecases.activity.ImportActivitiesInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.client.ImportClientsInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ImportProjectsInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityImportRow;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientImportRow;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectImportRow;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ImportResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.DataFormat;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportErrorFiles;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportErrorWriter;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportReaderFactory;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportRecordReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/api/import")
+@Tag(name = "Import", description = "Bulk import endpoints for migrating legacy data")
+public class ImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final ImportClientsInterface importClientsUseCase;
+    private final ImportProjectsInterface importProjectsUseCase;
+    private final ImportActivitiesInterface importActivitiesUseCase;
+    private final ImportReaderFactory importReaderFactory;
+    private final ImportErrorFiles importErrorFiles;
+
+    public ImportController(ImportClientsInterface importClientsUseCase,
+                            ImportProjectsInterface importProjectsUseCase,
+                            ImportActivitiesInterface importActivitiesUseCase,
+                            ImportReaderFactory importReaderFactory, ImportErrorFiles importErrorFiles
+                           ) {
+        this.importClientsUseCase = importClientsUseCase;
+        this.importProjectsUseCase = importProjectsUseCase;
+        this.importActivitiesUseCase = importActivitiesUseCase;
+        this.importReaderFactory = importReaderFactory;
+        this.importErrorFiles = importErrorFiles;
+    }
+
+    @PostMapping(value = "/clients", consumes = {NDJSON, CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream clients from an NDJSON or CSV body straight into the database")
+    public ResponseEntity<ImportResponse> importClients(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body
+                                                       ) throws IOException {
+        return runImport(contentType, body, ClientImportRow.class, this::toInputDTO, importClientsUseCase::execute);
+    }
+
+    @PostMapping(value = "/projects", consumes = {NDJSON, CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream projects from an NDJSON or CSV body, resolving clients by e-mail")
+    public ResponseEntity<ImportResponse> importProjects(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         InputStream body
+                                                        ) throws IOException {
+        return runImport(contentType, body, ProjectImportRow.class, this::toImportDTO, importProjectsUseCase::execute);
+    }
+
+    @PostMapping(value = "/activities", consumes = {NDJSON, CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream activities from an NDJSON or CSV body, resolving projects by name")
+    public ResponseEntity<ImportResponse> importActivities(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        return runImport(contentType, body, ActivityImportRow.class, this::toImportDTO,
+                         importActivitiesUseCase::execute);
+    }
+
+    @GetMapping(value = "/{importId}/errors", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Download the rows rejected by an import, one JSON object per line")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable UUID importId) {
+        Resource errors = importErrorFiles.find(importId).map(FileSystemResource::new).orElseThrow(
+                () -> new EntityNotFoundException("No rejected rows found for import: " + importId));
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(errors);
+    }
+
+    private <R, D> ResponseEntity<ImportResponse> runImport(String contentType, InputStream body, Class<R> rowType,
+                                                            Function<R, D> toInput,
+                                                            BiFunction<Iterator<ImportRecord<D>>, Consumer<ImportRecord<?>>, ImportReport> useCase
+                                                           ) throws IOException {
+        UUID importId = UUID.randomUUID();
+        DataFormat format = DataFormat.fromContentType(contentType);
+
+        try (ImportRecordReader<R, D> records = importReaderFactory.open(body, format, rowType, toInput);
+             ImportErrorWriter rejections = importErrorFiles.open(importId)) {
+            ImportReport report = useCase.apply(records, rejections);
+            return ResponseEntity.ok(ImportResponse.from(importId, report));
+        }
+    }
+
+    private ClientInputDTO toInputDTO(ClientImportRow row) {
+        return ClientInputDTO.builder()
+                             .name(row.name())
+                             .email(row.email())
+                             .phone(row.phone())
+                             .companyName(row.companyName())
+                             .address(row.address())
+                             .active(row.active() == null || row.active())
+                             .build();
+    }
+
+    private ProjectImportDTO toImportDTO(ProjectImportRow row) {
+        return ProjectImportDTO.builder()
+                               .name(row.name())
+                               .description(row.description())
+                               .clientEmail(row.clientEmail())
+                               .startDate(row.startDate())
+                               .endDate(row.endDate())
+                               .status(row.status())
+                               .manager(row.manager())
+                               .notes(row.notes())
+                               .build();
+    }
+
+    private ActivityImportDTO toImportDTO(ActivityImportRow row) {
+        return ActivityImportDTO.builder()
+                                .title(row.title())
+                                .description(row.description())
+                                .projectName(row.projectName())
+                                .dueDate(row.dueDate())
+                                .assignedTo(row.assignedTo())
+                                .completed(Boolean.TRUE.equals(row.completed()))
+                                .priority(row.priority())
+                                .estimatedHours(row.estimatedHours() != null ? row.estimatedHours() : 0)
+                                .build();
+    }
+}
@@ -1,27 +1,45 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.controllers;
 
 import br.com.brunogodoif.projectmanagement.application.usecases.project.DeleteProjectUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.domain.usecases.DeleteEntityInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.CreateProjectInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.CreateProjectsBatchInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetProjectInterface;
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.GetProjectSummaryInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.ListProjectsInterface;
 import br.com.brunogodoif.projectmanagement.domain.usecases.project.UpdateProjectInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.BatchRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.BatchResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.CursorPageResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectDetailResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectSummaryResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.ConditionalRequests;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.CursorCodec;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.FieldSelection;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -29,22 +47,29 @@ import java.util.UUID;
 @Tag(name = "Projects", description = "Project management endpoints")
 public class ProjectController {
 
+    private static final FieldSelection LISTING_FIELDS = FieldSelection.of(ProjectResponse.class, "progress");
+
     private final CreateProjectInterface createProjectUseCase;
     private final GetProjectInterface getProjectUseCase;
     private final ListProjectsInterface listProjectsUseCase;
     private final UpdateProjectInterface updateProjectUseCase;
     private final DeleteEntityInterface<UUID> deleteProject;
+    private final CreateProjectsBatchInterface createProjectsBatchUseCase;
+    private final GetProjectSummaryInterface getProjectSummaryUseCase;
     private final ProjectMapper projectMapper;
 
     public ProjectController(CreateProjectInterface createProjectUseCase, GetProjectInterface getProjectUseCase,
                              ListProjectsInterface listProjectsUseCase, UpdateProjectInterface updateProjectUseCase,
-                             DeleteProjectUseCase deleteProject, ProjectMapper projectMapper
+                             DeleteProjectUseCase deleteProject, CreateProjectsBatchInterface createProjectsBatchUseCase,
+                             GetProjectSummaryInterface getProjectSummaryUseCase, ProjectMapper projectMapper
                             ) {
         this.createProjectUseCase = createProjectUseCase;
         this.getProjectUseCase = getProjectUseCase;
         this.listProjectsUseCase = listProjectsUseCase;
         this.updateProjectUseCase = updateProjectUseCase;
         this.deleteProject = deleteProject;
+        this.createProjectsBatchUseCase = createProjectsBatchUseCase;
+        this.getProjectSummaryUseCase = getProjectSummaryUseCase;
         this.projectMapper = projectMapper;
     }
 
@@ -53,58 +78,110 @@ public class ProjectController {
     @Operation(summary = "Create a new project")
     public ResponseEntity<ProjectResponse> createProject(@Valid @RequestBody ProjectRequest request) {
 
-        ProjectInputDTO projectInputDTO = ProjectInputDTO.builder()
-                                                         .id(UUID.randomUUID())
-                                                         .name(request.name())
-                                                         .description(request.description())
-                                                         .clientId(request.clientId())
-                                                         .startDate(request.startDate())
-                                                         .endDate(request.endDate())
-                                                         .status(request.status())
-                                                         .manager(request.manager())
-                                                         .notes(request.notes())
-                                                         .build();
+        ProjectInputDTO projectInputDTO = toInputDTO(request);
 
         Project createdProject = createProjectUseCase.execute(projectInputDTO);
         return new ResponseEntity<>(projectMapper.toResponse(createdProject), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create up to 1000 projects in one call, with a result per item")
+    public ResponseEntity<BatchResponse<ProjectResponse>> createProjectsBatch(
+            @Valid @RequestBody BatchRequest<ProjectRequest> request) {
+        List<ProjectInputDTO> inputs = request.items().stream().map(this::toInputDTO).toList();
+
+        BatchResult<Project> result = createProjectsBatchUseCase.execute(inputs);
+        HttpStatus status = result.getFailedCount() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(BatchResponse.from(result, projectMapper::toResponse), status);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "Get project by ID with associated activities")
-    public ResponseEntity<ProjectDetailResponse> getProject(@PathVariable UUID id) {
-        Project project = getProjectUseCase.execute(id);
-        return ResponseEntity.ok(projectMapper.toDetailResponse(project));
+    @Operation(summary = "Get project by ID with associated activities; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<ProjectDetailResponse> getProject(@PathVariable UUID id, WebRequest webRequest) {
+        return getProjectUseCase.executeIfModified(id, ConditionalRequests.unchanged(webRequest))
+                                .map(project -> ResponseEntity.ok(projectMapper.toDetailResponse(project)))
+                                .orElseGet(ConditionalRequests::notModified);
+    }
+
+    @GetMapping("/{id}/summary")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Get activity totals of a project without loading its activities")
+    public ResponseEntity<ProjectSummaryResponse> getProjectSummary(@PathVariable UUID id) {
+        ProjectSummary summary = getProjectSummaryUseCase.execute(id);
+        return ResponseEntity.ok(projectMapper.toSummaryResponse(summary));
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Get activity totals of up to 500 projects in one call; projects without activities report zeros")
+    public ResponseEntity<List<ProjectSummaryResponse>> getProjectSummaries(@RequestParam List<UUID> ids) {
+        List<ProjectSummary> summaries = getProjectSummaryUseCase.execute(ids);
+        return ResponseEntity.ok(projectMapper.toSummaryResponseList(summaries));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "List all active projects")
-    public ResponseEntity<List<ProjectResponse>> listProjects() {
-        List<Project> projects = listProjectsUseCase.execute();
-        return ResponseEntity.ok(projectMapper.toResponseList(projects));
+    @Operation(summary = "List active projects (cursor paginated); fields=name,status,... returns only those fields; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<CursorPageResponse<?>> listProjects(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false) String fields,
+                                                              WebRequest webRequest
+                                                             ) {
+        PageCursor after = CursorCodec.decode(cursor);
+        FieldSet fieldSet = LISTING_FIELDS.parse(fields);
+        if (fieldSet != null) {
+            return toFieldsPageResponse(listProjectsUseCase.executeIfModified(after, limit, fieldSet,
+                                                                              ConditionalRequests.unchanged(webRequest)));
+        }
+        return toPageResponse(listProjectsUseCase.executeIfModified(after, limit,
+                                                                    ConditionalRequests.unchanged(webRequest)));
     }
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "List all active projects by status")
-    public ResponseEntity<List<ProjectResponse>> listProjectsByStatus(@PathVariable ProjectStatus status) {
-        List<Project> projects = listProjectsUseCase.executeByStatus(status);
-        return ResponseEntity.ok(projectMapper.toResponseList(projects));
+    @Operation(summary = "List active projects by status (cursor paginated); fields=name,status,... returns only those fields; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<CursorPageResponse<?>> listProjectsByStatus(@PathVariable ProjectStatus status,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int limit,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      WebRequest webRequest
+                                                                     ) {
+        PageCursor after = CursorCodec.decode(cursor);
+        FieldSet fieldSet = LISTING_FIELDS.parse(fields);
+        if (fieldSet != null) {
+            return toFieldsPageResponse(listProjectsUseCase.executeByStatusIfModified(
+                    status, after, limit, fieldSet, ConditionalRequests.unchanged(webRequest)));
+        }
+        return toPageResponse(listProjectsUseCase.executeByStatusIfModified(status, after, limit,
+                                                                            ConditionalRequests.unchanged(webRequest)));
     }
 
     @GetMapping("/client/{clientId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "List all active projects by client")
-    public ResponseEntity<List<ProjectResponse>> listProjectsByClient(@PathVariable UUID clientId) {
-        List<Project> projects = listProjectsUseCase.executeByClient(clientId);
-        return ResponseEntity.ok(projectMapper.toResponseList(projects));
+    @Operation(summary = "List active projects by client (cursor paginated); fields=name,status,... returns only those fields; honours If-None-Match and If-Modified-Since")
+    public ResponseEntity<CursorPageResponse<?>> listProjectsByClient(@PathVariable UUID clientId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int limit,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      WebRequest webRequest
+                                                                     ) {
+        PageCursor after = CursorCodec.decode(cursor);
+        FieldSet fieldSet = LISTING_FIELDS.parse(fields);
+        if (fieldSet != null) {
+            return toFieldsPageResponse(listProjectsUseCase.executeByClientIfModified(
+                    clientId, after, limit, fieldSet, ConditionalRequests.unchanged(webRequest)));
+        }
+        return toPageResponse(listProjectsUseCase.executeByClientIfModified(clientId, after, limit,
+                                                                            ConditionalRequests.unchanged(webRequest)));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Update an existing project")
+    @Operation(summary = "Update an existing project; requires If-Match with the current ETag or version")
     public ResponseEntity<ProjectResponse> updateProject(@PathVariable UUID id,
+                                                         @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
                                                          @Valid @RequestBody ProjectRequest request
                                                         ) {
 
@@ -117,10 +194,14 @@ public class ProjectController {
                                                          .status(request.status())
                                                          .manager(request.manager())
                                                          .notes(request.notes())
+                                                         .version(ConditionalRequests.expectedVersion(ifMatch))
                                                          .build();
 
         Project updatedProject = updateProjectUseCase.execute(id, projectInputDTO);
-        return ResponseEntity.ok(projectMapper.toResponse(updatedProject));
+        // Same tag a GET of the project now returns, so either can be sent back on the next If-Match
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        getProjectUseCase.executeFreshness(id).map(ConditionalRequests::etag).ifPresent(response::eTag);
+        return response.body(projectMapper.toResponse(updatedProject));
     }
 
     @DeleteMapping("/{id}")
@@ -130,4 +211,33 @@ public class ProjectController {
         deleteProject.execute(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<CursorPageResponse<?>> toPageResponse(Optional<CursorPage<Project>> page) {
+        return page.<ResponseEntity<CursorPageResponse<?>>>map(projects -> ResponseEntity.ok(toPageResponse(projects)))
+                   .orElseGet(ConditionalRequests::notModified);
+    }
+
+    private ResponseEntity<CursorPageResponse<?>> toFieldsPageResponse(Optional<CursorPage<Map<String, Object>>> page) {
+        return page.<ResponseEntity<CursorPageResponse<?>>>map(rows -> ResponseEntity.ok(
+                           new CursorPageResponse<>(rows.getItems(), CursorCodec.encode(rows.getNext()))))
+                   .orElseGet(ConditionalRequests::notModified);
+    }
+
+    private CursorPageResponse<ProjectResponse> toPageResponse(CursorPage<Project> page) {
+        return new CursorPageResponse<>(projectMapper.toResponseList(page.getItems()), CursorCodec.encode(page.getNext()));
+    }
+
+    private ProjectInputDTO toInputDTO(ProjectRequest request) {
+        return ProjectInputDTO.builder()
+                              .id(UUID.randomUUID())
+                              .name(request.name())
+                              .description(request.description())
+                              .clientId(request.clientId())
+                              .startDate(request.startDate())
+                              .endDate(request.endDate())
+                              .status(request.status())
+                              .manager(request.manager())
+                              .notes(request.notes())
+                              .build();
+    }
+}
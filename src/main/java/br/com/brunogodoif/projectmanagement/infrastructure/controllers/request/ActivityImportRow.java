@@ -0,0 +1,10 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "One activity row of a bulk import; the project is referenced by name")
+public record ActivityImportRow(String title, String description, String projectName, LocalDate dueDate,
+                                String assignedTo, Boolean completed, String priority, Integer estimatedHours) {
+}
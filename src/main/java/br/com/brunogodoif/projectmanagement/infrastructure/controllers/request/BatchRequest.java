@@ -0,0 +1,14 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request object for creating several items in a single call")
+public record BatchRequest<T>(
+        @Schema(description = "Items to create (1 to 1000)", required = true) @NotEmpty(message = "Batch items are required") @Size(max = 1000, message = "Batch cannot exceed 1000 items") List<@Valid T> items
+) {
+}
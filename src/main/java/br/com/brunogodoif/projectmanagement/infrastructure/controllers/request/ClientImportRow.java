@@ -0,0 +1,8 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One client row of an NDJSON object or CSV line in a bulk import")
+public record ClientImportRow(String name, String email, String phone, String companyName, String address,
+                              Boolean active) {
+}
@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.request;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "One project row of a bulk import; the client is referenced by e-mail")
+public record ProjectImportRow(String name, String description, String clientEmail, LocalDate startDate,
+                               LocalDate endDate, ProjectStatus status, String manager, String notes) {
+}
@@ -30,6 +30,8 @@ public record ActivityResponse(
 
         @Schema(description = "Date and time when the activity was created") LocalDateTime createdAt,
 
-        @Schema(description = "Date and time when the activity was last updated") LocalDateTime updatedAt
+        @Schema(description = "Date and time when the activity was last updated") LocalDateTime updatedAt,
+
+        @Schema(description = "Version of the activity; send it back in If-Match when updating") long version
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a single batch item")
+public record BatchItemResponse<T>(
+        @Schema(description = "Position of the item in the request", example = "0") int index,
+
+        @Schema(description = "Created resource, null when the item failed") T data,
+
+        @Schema(description = "Reason the item was rejected, null when it was created", example = "Project not found with ID: 123e4567-e89b-12d3-a456-426614174000") String error
+) {
+}
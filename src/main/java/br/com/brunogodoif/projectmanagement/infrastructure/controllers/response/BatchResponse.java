@@ -0,0 +1,30 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "Per-item outcome of a batch create")
+public record BatchResponse<T>(
+        @Schema(description = "Number of items created", example = "998") long succeeded,
+
+        @Schema(description = "Number of items rejected", example = "2") long failed,
+
+        @Schema(description = "One result per request item, in request order") List<BatchItemResponse<T>> items
+) {
+
+    public static <D, T> BatchResponse<T> from(BatchResult<D> result, Function<D, T> toResponse) {
+        List<BatchItemResponse<T>> items = result.getItems().stream()
+                                                 .map(item -> new BatchItemResponse<>(item.getIndex(),
+                                                                                      item.isSuccess()
+                                                                                              ? toResponse.apply(
+                                                                                              item.getItem())
+                                                                                              : null,
+                                                                                      item.getError()))
+                                                 .toList();
+
+        return new BatchResponse<>(result.getSucceededCount(), result.getFailedCount(), items);
+    }
+}
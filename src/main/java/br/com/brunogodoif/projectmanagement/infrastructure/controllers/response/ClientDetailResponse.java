@@ -26,6 +26,8 @@ public record ClientDetailResponse(
 
         @Schema(description = "Date and time when the client was last updated") LocalDateTime updatedAt,
 
-        @Schema(description = "Whether the client is active") boolean active
+        @Schema(description = "Whether the client is active") boolean active,
+
+        @Schema(description = "Version of the client; send it back in If-Match when updating") long version
 ) {
 }
\ No newline at end of file
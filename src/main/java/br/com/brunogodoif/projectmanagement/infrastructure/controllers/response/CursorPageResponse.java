@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of results navigated with an opaque cursor")
+public record CursorPageResponse<T>(
+        @Schema(description = "Items of the current page") List<T> items,
+
+        @Schema(description = "Cursor for the next page, null on the last page") String next
+) {
+}
@@ -0,0 +1,23 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Summary of a bulk import")
+public record ImportResponse(
+        @Schema(description = "Identifier of this import", example = "123e4567-e89b-12d3-a456-426614174000") UUID importId,
+
+        @Schema(description = "Number of rows written", example = "999998") long accepted,
+
+        @Schema(description = "Number of rows rejected", example = "2") long rejected,
+
+        @Schema(description = "Where to download the rejected rows, null when none were rejected", example = "/api/import/123e4567-e89b-12d3-a456-426614174000/errors") String errors
+) {
+
+    public static ImportResponse from(UUID importId, ImportReport report) {
+        String errors = report.getRejected() > 0 ? "/api/import/" + importId + "/errors" : null;
+        return new ImportResponse(importId, report.getAccepted(), report.getRejected(), errors);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Portfolio dashboard, as of the last refresh of the pre-aggregated view")
+public record PortfolioDashboardResponse(
+        @Schema(description = "Date and time the figures were computed") LocalDateTime refreshedAt,
+
+        @Schema(description = "Totals of the whole portfolio") PortfolioSliceResponse total,
+
+        @Schema(description = "Totals per project status") List<PortfolioSliceResponse> byStatus,
+
+        @Schema(description = "Clients with the most open hours") List<PortfolioSliceResponse> topClients,
+
+        @Schema(description = "Managers with the most open hours") List<PortfolioSliceResponse> topManagers
+) {
+}
@@ -0,0 +1,17 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Totals of the active projects sharing a status, client or manager")
+public record PortfolioSliceResponse(
+        @Schema(description = "Status name, client ID or manager name; empty for the portfolio total") String key,
+
+        @Schema(description = "Display name of the slice") String label,
+
+        @Schema(description = "Number of active projects") long projectCount,
+
+        @Schema(description = "Sum of the estimated hours of activities not yet completed") long openHours,
+
+        @Schema(description = "Number of activities not completed whose due date has passed") long overdueActivities
+) {
+}
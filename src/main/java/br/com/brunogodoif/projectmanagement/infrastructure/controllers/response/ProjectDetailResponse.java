@@ -34,6 +34,8 @@ public record ProjectDetailResponse(
 
         @Schema(description = "Date and time when the project was created") LocalDateTime createdAt,
 
-        @Schema(description = "Date and time when the project was last updated") LocalDateTime updatedAt
+        @Schema(description = "Date and time when the project was last updated") LocalDateTime updatedAt,
+
+        @Schema(description = "Version of the project; send it back in If-Match when updating") long version
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Activity counters of a project, maintained as activities change")
+public record ProjectProgressResponse(
+        @Schema(description = "Number of activities in the project") long activityCount,
+
+        @Schema(description = "Number of completed activities") long completedCount,
+
+        @Schema(description = "Sum of the estimated hours of all activities") long totalHours,
+
+        @Schema(description = "Sum of the estimated hours of activities not yet completed") long remainingHours,
+
+        @Schema(description = "Date and time of the last activity change") LocalDateTime lastActivityAt
+) {
+}
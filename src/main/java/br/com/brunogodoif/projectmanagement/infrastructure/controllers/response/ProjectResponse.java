@@ -1,6 +1,8 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
 
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -31,6 +33,13 @@ public record ProjectResponse(
 
         @Schema(description = "Date and time when the project was created") LocalDateTime createdAt,
 
-        @Schema(description = "Date and time when the project was last updated") LocalDateTime updatedAt
+        @Schema(description = "Date and time when the project was last updated") LocalDateTime updatedAt,
+
+        @Schema(description = "Version of the project; send it back in If-Match when updating") long version,
+
+        @Schema(description = "Activity counters of the project, present on listings") @JsonInclude(JsonInclude.Include.NON_NULL) @JsonView(ProjectResponse.Listing.class) ProjectProgressResponse progress
 ) {
+
+    public interface Listing {
+    }
 }
\ No newline at end of file
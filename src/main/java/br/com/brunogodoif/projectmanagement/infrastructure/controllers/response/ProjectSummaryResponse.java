@@ -0,0 +1,21 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Response containing activity totals of a project")
+public record ProjectSummaryResponse(
+        @Schema(description = "ID of the summarized project") UUID projectId,
+
+        @Schema(description = "Number of activities in the project") long totalActivities,
+
+        @Schema(description = "Number of completed activities") long completedActivities,
+
+        @Schema(description = "Sum of the estimated hours of all activities") long estimatedHours,
+
+        @Schema(description = "Sum of the estimated hours of activities not yet completed") long openHours,
+
+        @Schema(description = "Number of activities not completed whose due date has passed") long overdueActivities
+) {
+}
@@ -0,0 +1,89 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates {@code If-None-Match} / {@code If-Modified-Since} against a {@link ResourceFreshness}, so a poll that
+ * finds nothing new is answered with 304 before the representation is loaded. Either way the response carries
+ * the {@code ETag} and {@code Last-Modified} headers for the next poll.
+ *
+ * <p>Single resources put their row version in front of the tag ({@code W/"3-..."}), which is what
+ * {@code If-Match} is checked against on updates: a PUT replaces the resource's own fields, so only its
+ * version has to match, not the nested rows the detail view also shows. An update answers with the tag a GET would
+ * now return, so a client can keep either one for its next request. Activities have no nested rows and are tagged
+ * with their version alone ({@code "3"}) on both.
+ *
+ * <p>Project and client tags are weak, listings included: Tomcat never gzips a response carrying a strong tag, since
+ * the compressed bytes would no longer be the ones it names, and a detail view with its activities is exactly the kind
+ * of body worth compressing. {@code If-None-Match} compares weakly anyway, and {@code If-Match} stays exact because
+ * it compares the row version, not the tag.
+ */
+public final class ConditionalRequests {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final char VERSION_SEPARATOR = '-';
+
+    private ConditionalRequests() {
+    }
+
+    public static Predicate<ResourceFreshness> unchanged(WebRequest request) {
+        return freshness -> request.checkNotModified(etag(freshness), lastModified(freshness));
+    }
+
+    public static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    public static String etag(ResourceFreshness freshness) {
+        String raw = freshness.getLastModified() + "|" + freshness.getItemCount() + "|" + freshness.getChecksum();
+        String digest = DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+        if (freshness.getVersion() == null) {
+            return WEAK_PREFIX + "\"" + digest + "\"";
+        }
+        return WEAK_PREFIX + "\"" + freshness.getVersion() + VERSION_SEPARATOR + digest + "\"";
+    }
+
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version out of an {@code If-Match} tag, or returns {@code null} for {@code *}. The weak marker a GET
+     * put on the tag is ignored, since the version is compared exactly; a tag that carries no version, such as a
+     * listing's, can never match a resource and is rejected as a conflict.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        String opaque = tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+        if (opaque.length() < 2 || !opaque.startsWith("\"") || !opaque.endsWith("\"")) {
+            throw new EntityVersionConflictException("If-Match does not match the current version: " + tag);
+        }
+
+        String value = opaque.substring(1, opaque.length() - 1);
+        int separator = value.indexOf(VERSION_SEPARATOR);
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new EntityVersionConflictException("If-Match does not match the current version: " + tag);
+        }
+    }
+
+    private static long lastModified(ResourceFreshness freshness) {
+        if (freshness.getLastModified() == null) {
+            return -1;
+        }
+        return freshness.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
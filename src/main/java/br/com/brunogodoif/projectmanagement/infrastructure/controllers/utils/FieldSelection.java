@@ -0,0 +1,59 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the {@code fields} query parameter of a listing against the components of its response record, so only
+ * names the full representation already exposes can be requested.
+ */
+public final class FieldSelection {
+
+    private final Set<String> allowed;
+
+    private FieldSelection(Set<String> allowed) {
+        this.allowed = allowed;
+    }
+
+    public static FieldSelection of(Class<? extends Record> representation, String... excluded) {
+        Set<String> allowed = Arrays.stream(representation.getRecordComponents())
+                                    .map(RecordComponent::getName)
+                                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        allowed.removeAll(Set.of(excluded));
+        return new FieldSelection(Set.copyOf(allowed));
+    }
+
+    /**
+     * @return the requested fields, or null when the parameter is absent and the full representation applies
+     */
+    public FieldSet parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "'; allowed fields: "
+                                                           + String.join(", ", allowed.stream().sorted().toList()));
+            }
+            names.add(trimmed);
+        }
+
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("Parameter fields must name at least one field");
+        }
+        return new FieldSet(names);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.exporting;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+public class ExportRowWriter<T> implements Consumer<T>, Closeable {
+
+    private final SequenceWriter rows;
+
+    ExportRowWriter(SequenceWriter rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public void accept(T row) {
+        try {
+            rows.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing exported row", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
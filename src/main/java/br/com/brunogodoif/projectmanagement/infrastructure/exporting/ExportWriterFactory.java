@@ -0,0 +1,46 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.exporting;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.DataFormat;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+public class ExportWriterFactory {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public ExportWriterFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                                  .findAndAddModules()
+                                  .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                                  .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                  .build();
+    }
+
+    public <T> ExportRowWriter<T> open(OutputStream output, DataFormat format, Class<T> rowType) throws IOException {
+        ObjectWriter writer = switch (format) {
+            case NDJSON -> objectMapper.writerFor(rowType).withRootValueSeparator("\n");
+            case CSV -> csvMapper.writerFor(rowType)
+                                 .withView(FlatRow.class)
+                                 .with(csvMapper.schemaForWithView(rowType, FlatRow.class).withHeader());
+        };
+
+        return new ExportRowWriter<>(writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                                           .writeValues(output));
+    }
+
+    /**
+     * CSV has no room for nested objects, so properties restricted to a {@code @JsonView} are left out of CSV rows.
+     */
+    private interface FlatRow {
+    }
+}
@@ -1,58 +1,140 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeletedActivity;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ActivityMapper;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ActivityEntity;
-import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ActivitySummaryProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.DeletedActivityProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.SparseProjection;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class ActivityGateway implements ActivityGatewayInterface {
 
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+    private static final SparseProjection SPARSE_ACTIVITIES = SparseProjection.of("ActivityEntity", "a")
+                                                                              .field("id", "a.id")
+                                                                              .field("title", "a.title")
+                                                                              .field("description", "a.description")
+                                                                              .field("projectId", "a.project.id")
+                                                                              .field("projectName", "p.name", "join a.project p")
+                                                                              .field("dueDate", "a.dueDate")
+                                                                              .field("assignedTo", "a.assignedTo")
+                                                                              .field("completed", "a.completed")
+                                                                              .field("priority", "a.priority")
+                                                                              .field("estimatedHours", "a.estimatedHours")
+                                                                              .field("createdAt", "a.createdAt")
+                                                                              .field("updatedAt", "a.updatedAt")
+                                                                              .field("version", "a.version")
+                                                                              .build();
+
     private final ActivityRepository activityRepository;
     private final ProjectRepository projectRepository;
     private final ActivityMapper activityMapper;
+    private final EntityManager entityManager;
 
     public ActivityGateway(ActivityRepository activityRepository, ProjectRepository projectRepository,
-                           ActivityMapper activityMapper
+                           ActivityMapper activityMapper, EntityManager entityManager
                           ) {
         this.activityRepository = activityRepository;
         this.projectRepository = projectRepository;
         this.activityMapper = activityMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
+    public Activity create(Activity activity) {
+        try {
+            ActivityEntity entity = toEntityWithProjectReference(activity);
+            entity.markNew();
+            entity = activityRepository.save(entity);
+            entityManager.flush();
+            return activityMapper.toDomain(entity, activity.getProject());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving activity", e);
+        }
+    }
+
+    @Override
+    @Transactional
     public Activity save(Activity activity) {
         try {
-            ActivityEntity entity = activityMapper.toEntity(activity);
+            ActivityEntity entity = activityRepository.save(toEntityWithProjectReference(activity));
+            entityManager.flush();
+            return activityMapper.toDomain(entity, activity.getProject());
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            throw new EntityVersionConflictException("Activity with ID " + activity.getId() + " was modified by another request", e);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving activity", e);
+        }
+    }
+
+    private ActivityEntity toEntityWithProjectReference(Activity activity) {
+        if (activity.getProject() == null || activity.getProject().getId() == null) {
+            throw new IllegalArgumentException("Activity project is required");
+        }
 
-            if (activity.getProject() != null && activity.getProject().getId() != null) {
-                ProjectEntity projectEntity = projectRepository.findById(activity.getProject().getId())
-                                                               .orElseThrow(() -> new IllegalArgumentException(
-                                                                       "Project not found"));
-                entity.setProject(projectEntity);
+        ActivityEntity entity = activityMapper.toEntity(activity);
+        entity.setProject(projectRepository.getReferenceById(activity.getProject().getId()));
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public List<Activity> saveAll(List<Activity> activities) {
+        try {
+            List<ActivityEntity> entities = new ArrayList<>(activities.size());
+            for (Activity activity : activities) {
+                ActivityEntity entity = activityMapper.toEntity(activity);
+                entity.setProject(projectRepository.getReferenceById(activity.getProject().getId()));
+                entityManager.persist(entity);
+                entities.add(entity);
             }
+            entityManager.flush();
 
-            entity = activityRepository.save(entity);
-            return activityMapper.toDomain(entity);
+            List<Activity> saved = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                saved.add(activityMapper.toDomain(entities.get(i), activities.get(i).getProject()));
+            }
+            return saved;
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error saving activity", e);
+            throw new DatabaseOperationException("Error saving activities in batch", e);
         }
     }
 
     @Override
     public Optional<Activity> findById(UUID id) {
         try {
-            return activityRepository.findById(id).map(activityMapper::toDomain);
+            return activityRepository.findByIdWithProject(id).map(activityMapper::toDomain);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding activity by ID", e);
         }
@@ -61,57 +143,133 @@ public class ActivityGateway implements ActivityGatewayInterface {
     @Override
     public List<Activity> findAll() {
         try {
-            List<ActivityEntity> entities = activityRepository.findAll();
+            List<ActivityEntity> entities = activityRepository.findAllWithProject();
             return activityMapper.toDomainList(entities);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding all activities", e);
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllOfActiveProjects(Consumer<Activity> consumer) {
+        try (Stream<ActivityEntity> entities = activityRepository.streamAllOfActiveProjects()) {
+            int[] count = {0};
+            entities.forEach(entity -> {
+                consumer.accept(activityMapper.toDomain(entity));
+                if (++count[0] % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            });
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error streaming activities", e);
+        }
+    }
+
     @Override
     public List<Activity> findByProjectId(UUID projectId) {
         try {
-            Optional<ProjectEntity> projectEntity = projectRepository.findById(projectId);
-            if (projectEntity.isPresent()) {
-                List<ActivityEntity> entities = activityRepository.findByProject(projectEntity.get());
-                return activityMapper.toDomainList(entities);
-            }
-            return List.of();
+            List<ActivityEntity> entities = activityRepository.findByProjectIdWithProject(projectId);
+            return activityMapper.toDomainList(entities);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding activities by project", e);
         }
     }
 
+    @Override
+    public CursorPage<Activity> findByProjectId(UUID projectId, PageCursor after, int limit) {
+        try {
+            Pageable pageable = PageRequest.of(0, limit + 1, KEYSET_ORDER);
+            List<ActivityEntity> entities = (after == null)
+                    ? activityRepository.findByProjectId(projectId, pageable)
+                    : activityRepository.findByProjectIdAfter(projectId, after.getCreatedAt(), after.getId(), pageable);
+            return CursorPage.of(entities, limit, entity -> new PageCursor(entity.getCreatedAt(), entity.getId()))
+                             .map(activityMapper::toDomain);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding page of activities by project", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> findByProjectId(UUID projectId, PageCursor after, int limit,
+                                                           FieldSet fields) {
+        try {
+            return SPARSE_ACTIVITIES.page(entityManager, fields, "a.project.id = :projectId",
+                                          Map.of("projectId", projectId), after, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding fields of activities page by project", e);
+        }
+    }
+
     @Override
     public List<Activity> findPendingByProjectId(UUID projectId) {
         try {
-            Optional<ProjectEntity> projectEntity = projectRepository.findById(projectId);
-            if (projectEntity.isPresent()) {
-                List<ActivityEntity> entities = activityRepository.findByProjectAndCompletedFalse(projectEntity.get());
-                return activityMapper.toDomainList(entities);
-            }
-            return List.of();
+            List<ActivityEntity> entities = activityRepository.findPendingByProjectIdWithProject(projectId);
+            return activityMapper.toDomainList(entities);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding pending activities by project", e);
         }
     }
 
     @Override
-    public void deleteById(UUID id) {
+    public ProjectSummary summarizeByProjectId(UUID projectId) {
+        return summarizeByProjectIds(List.of(projectId)).get(0);
+    }
+
+    @Override
+    public List<ProjectSummary> summarizeByProjectIds(Collection<UUID> projectIds) {
+        try {
+            if (projectIds.isEmpty()) {
+                return List.of();
+            }
+            Map<UUID, ProjectSummary> summaries = new HashMap<>();
+            for (ActivitySummaryProjection row : activityRepository.summarizeByProjectIdIn(projectIds)) {
+                summaries.put(row.getProjectId(), toSummary(row));
+            }
+            return projectIds.stream().map(id -> summaries.getOrDefault(id, ProjectSummary.empty(id))).toList();
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error summarizing activities by project", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Optional<DeletedActivity> deleteReturning(UUID id) {
         try {
             if (id == null) {
                 throw new IllegalArgumentException("Activity ID cannot be null");
             }
 
-            if (!activityRepository.existsById(id)) {
-                throw new EntityNotFoundException("Activity with ID " + id + " not found");
+            entityManager.flush();
+            Optional<DeletedActivity> deleted = activityRepository.deleteReturning(id).map(this::toDeletedActivity);
+            if (deleted.isPresent()) {
+                entityManager.clear();
             }
-
-            activityRepository.deleteById(id);
-        } catch (EntityNotFoundException | IllegalArgumentException e) {
+            return deleted;
+        } catch (IllegalArgumentException e) {
             throw e;
         } catch (Exception e) {
             throw new DatabaseOperationException("Error deleting activity with ID: " + id, e);
         }
     }
+
+    private DeletedActivity toDeletedActivity(DeletedActivityProjection row) {
+        return DeletedActivity.builder()
+                              .id(row.getId())
+                              .projectId(row.getProjectId())
+                              .completed(Boolean.TRUE.equals(row.getCompleted()))
+                              .estimatedHours(row.getEstimatedHours() != null ? row.getEstimatedHours() : 0)
+                              .build();
+    }
+
+    private ProjectSummary toSummary(ActivitySummaryProjection row) {
+        return ProjectSummary.builder()
+                             .projectId(row.getProjectId())
+                             .totalActivities(row.getTotalActivities())
+                             .completedActivities(row.getCompletedActivities())
+                             .estimatedHours(row.getEstimatedHours())
+                             .openHours(row.getOpenHours())
+                             .overdueActivities(row.getOverdueActivities())
+                             .build();
+    }
 }
@@ -0,0 +1,144 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class BulkImportGateway implements BulkImportGatewayInterface {
+
+    private static final String CREATE_CLIENT_STAGING =
+            "CREATE TEMP TABLE IF NOT EXISTS client_import (LIKE clients INCLUDING DEFAULTS) ON COMMIT DELETE ROWS";
+    private static final String COPY_CLIENTS =
+            "COPY client_import (id, name, email, phone, company_name, address, created_at, updated_at, active) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_STAGED_CLIENTS =
+            "INSERT INTO clients SELECT * FROM client_import ON CONFLICT (email) DO NOTHING RETURNING id";
+    private static final String CLEAR_CLIENT_STAGING = "TRUNCATE client_import";
+    private static final String COPY_PROJECTS =
+            "COPY projects (id, name, description, client_id, start_date, end_date, status, manager, notes, "
+                    + "is_deleted, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_ACTIVITIES =
+            "COPY activities (id, title, description, project_id, due_date, assigned_to, completed, priority, "
+                    + "estimated_hours, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+
+    public BulkImportGateway(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> copyClients(List<Client> clients) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_CLIENT_STAGING);
+            copy(connection, COPY_CLIENTS, clients, client -> new Object[]{
+                    client.getId(), client.getName(), client.getEmail(), client.getPhone(), client.getCompanyName(),
+                    client.getAddress(), client.getCreatedAt(), client.getUpdatedAt(), client.isActive()
+            });
+
+            Set<UUID> skipped = clients.stream().map(Client::getId).collect(Collectors.toCollection(HashSet::new));
+            try (ResultSet inserted = statement.executeQuery(INSERT_STAGED_CLIENTS)) {
+                while (inserted.next()) {
+                    skipped.remove(inserted.getObject(1, UUID.class));
+                }
+            }
+            statement.execute(CLEAR_CLIENT_STAGING);
+            return skipped;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error copying " + clients.size() + " clients into the database", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public void copyProjects(List<Project> projects) {
+        copy(COPY_PROJECTS, projects, project -> new Object[]{
+                project.getId(), project.getName(), project.getDescription(), project.getClient().getId(),
+                project.getStartDate(), project.getEndDate(), project.getStatus(), project.getManager(),
+                project.getNotes(), project.isDeleted(), project.getCreatedAt(), project.getUpdatedAt()
+        });
+    }
+
+    @Override
+    @Transactional
+    public void copyActivities(List<Activity> activities) {
+        copy(COPY_ACTIVITIES, activities, activity -> new Object[]{
+                activity.getId(), activity.getTitle(), activity.getDescription(), activity.getProject().getId(),
+                activity.getDueDate(), activity.getAssignedTo(), activity.isCompleted(), activity.getPriority(),
+                activity.getEstimatedHours(), activity.getCreatedAt(), activity.getUpdatedAt()
+        });
+    }
+
+    private <T> void copy(String sql, List<T> rows, Function<T, Object[]> columns) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            copy(connection, sql, rows, columns);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error copying " + rows.size() + " rows into the database", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private <T> void copy(Connection connection, String sql, List<T> rows, Function<T, Object[]> columns)
+            throws SQLException, IOException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8));
+            for (T row : rows) {
+                writeCsvLine(writer, columns.apply(row));
+            }
+            writer.flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+}
@@ -1,27 +1,79 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ClientMapper;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.GuardedDeleteProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ResourceFreshnessProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.SparseProjection;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
 public class ClientGateway implements ClientGatewayInterface {
 
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    private static final PageCursor FIRST_PAGE = new PageCursor(LocalDateTime.of(1, 1, 1, 0, 0), new UUID(0, 0));
+    private static final SparseProjection SPARSE_CLIENTS = SparseProjection.of("ClientEntity", "c")
+                                                                           .field("id", "c.id")
+                                                                           .field("name", "c.name")
+                                                                           .field("email", "c.email")
+                                                                           .field("phone", "c.phone")
+                                                                           .field("companyName", "c.companyName")
+                                                                           .field("address", "c.address")
+                                                                           .field("createdAt", "c.createdAt")
+                                                                           .field("updatedAt", "c.updatedAt")
+                                                                           .field("active", "c.active")
+                                                                           .field("version", "c.version")
+                                                                           .build();
+
     private final ClientRepository clientRepository;
     private final ClientMapper clientMapper;
+    private final EntityManager entityManager;
 
-    public ClientGateway(ClientRepository clientRepository, ClientMapper clientMapper) {
+    public ClientGateway(ClientRepository clientRepository, ClientMapper clientMapper, EntityManager entityManager) {
         this.clientRepository = clientRepository;
         this.clientMapper = clientMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Client create(Client client) {
+        try {
+            ClientEntity entity = clientMapper.toEntity(client);
+            entity.markNew();
+            entity = clientRepository.save(entity);
+            entityManager.flush();
+            return clientMapper.toDomain(entity);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving client", e);
+        }
     }
 
     @Override
@@ -29,12 +81,32 @@ public class ClientGateway implements ClientGatewayInterface {
         try {
             ClientEntity entity = clientMapper.toEntity(client);
             entity = clientRepository.save(entity);
+            entityManager.flush();
             return clientMapper.toDomain(entity);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            throw new EntityVersionConflictException("Client with ID " + client.getId() + " was modified by another request", e);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error saving client", e);
         }
     }
 
+    @Override
+    @Transactional
+    public List<Client> saveAll(List<Client> clients) {
+        try {
+            List<ClientEntity> entities = new ArrayList<>(clients.size());
+            for (Client client : clients) {
+                ClientEntity entity = clientMapper.toEntity(client);
+                entityManager.persist(entity);
+                entities.add(entity);
+            }
+            entityManager.flush();
+            return clientMapper.toDomainList(entities);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving clients in batch", e);
+        }
+    }
+
     @Override
     public Optional<Client> findById(UUID id) {
         try {
@@ -44,6 +116,27 @@ public class ClientGateway implements ClientGatewayInterface {
         }
     }
 
+    @Override
+    public Optional<ResourceFreshness> findFreshness(UUID id) {
+        try {
+            return clientRepository.findFreshnessById(id).map(ClientGateway::toFreshness);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking client freshness", e);
+        }
+    }
+
+    @Override
+    public List<Client> findAllByIds(Collection<UUID> ids) {
+        try {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            return clientMapper.toDomainList(clientRepository.findAllById(ids));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding clients by IDs", e);
+        }
+    }
+
     @Override
     public List<Client> findAll() {
         try {
@@ -55,30 +148,58 @@ public class ClientGateway implements ClientGatewayInterface {
     }
 
     @Override
-    public List<Client> findAllActive() {
+    public CursorPage<Client> findAllActive(PageCursor after, int limit) {
         try {
-            List<ClientEntity> entities = clientRepository.findAll();
-            return clientMapper.toDomainList(entities);
+            Pageable pageable = PageRequest.of(0, limit + 1, KEYSET_ORDER);
+            List<ClientEntity> entities = (after == null)
+                    ? clientRepository.findByActiveTrue(pageable)
+                    : clientRepository.findActiveAfter(after.getCreatedAt(), after.getId(), pageable);
+            return CursorPage.of(entities, limit, entity -> new PageCursor(entity.getCreatedAt(), entity.getId()))
+                             .map(clientMapper::toDomain);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding page of active clients", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> findAllActive(PageCursor after, int limit, FieldSet fields) {
+        try {
+            return SPARSE_CLIENTS.page(entityManager, fields, "c.active = true", Map.of(), after, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding fields of active clients page", e);
+        }
+    }
+
+    @Override
+    public ResourceFreshness findFreshnessOfActive(PageCursor after, int limit) {
+        try {
+            PageCursor from = (after == null) ? FIRST_PAGE : after;
+            return toFreshness(clientRepository.findActivePageFreshness(from.getCreatedAt(), from.getId(),
+                                                                        limit + 1));
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error finding active clients", e);
+            throw new DatabaseOperationException("Error checking freshness of active clients page", e);
         }
     }
 
     @Override
-    public void deleteById(UUID id) {
+    @Transactional
+    public DeleteResult deleteIfUnused(UUID id) {
         try {
             if (id == null) {
                 throw new IllegalArgumentException("Client ID cannot be null");
             }
 
-            ClientEntity client = clientRepository.findById(id)
-                                                  .orElseThrow(() -> new EntityNotFoundException("Client with ID " + id + " not found"));
-
-            clientRepository.delete(client);
-        } catch (EntityNotFoundException | IllegalArgumentException e) {
+            entityManager.flush();
+            GuardedDeleteProjection row = clientRepository.deleteIfUnused(id);
+            DeleteResult result = DeleteResult.of(row.getDeleted(), row.getFound(), row.getDependents());
+            if (result.getOutcome() == DeleteResult.Outcome.DELETED) {
+                entityManager.clear();
+            }
+            return result;
+        } catch (IllegalArgumentException e) {
             throw e;
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error deactivating client with ID: " + id, e);
+            throw new DatabaseOperationException("Error deleting client with ID: " + id, e);
         }
     }
 
@@ -90,4 +211,25 @@ public class ClientGateway implements ClientGatewayInterface {
             throw new DatabaseOperationException("Error checking if email exists", e);
         }
     }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        try {
+            if (emails.isEmpty()) {
+                return Set.of();
+            }
+            return new HashSet<>(clientRepository.findEmailsIn(emails));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking existing emails", e);
+        }
+    }
+
+    private static ResourceFreshness toFreshness(ResourceFreshnessProjection row) {
+        return ResourceFreshness.builder()
+                                .version(row.getVersion())
+                                .lastModified(row.getLastModified())
+                                .itemCount(row.getItemCount())
+                                .checksum(row.getChecksum())
+                                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboardFreshness;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioSlice;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.PortfolioDashboardEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.PortfolioDashboardFreshnessProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.PortfolioDashboardRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class PortfolioDashboardGateway implements PortfolioDashboardGatewayInterface {
+
+    private static final String TOTAL = "TOTAL";
+    private static final String STATUS = "STATUS";
+    private static final String CLIENT = "CLIENT";
+    private static final String MANAGER = "MANAGER";
+
+    private final PortfolioDashboardRepository portfolioDashboardRepository;
+
+    public PortfolioDashboardGateway(PortfolioDashboardRepository portfolioDashboardRepository) {
+        this.portfolioDashboardRepository = portfolioDashboardRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public PortfolioDashboard find(int limit) {
+        try {
+            List<PortfolioDashboardEntity> summary = portfolioDashboardRepository.findByDimensionIn(
+                    List.of(TOTAL, STATUS));
+
+            return PortfolioDashboard.builder()
+                                     .refreshedAt(portfolioDashboardRepository.findFreshness().getRefreshedAt())
+                                     .total(summary.stream()
+                                                   .filter(row -> TOTAL.equals(row.getDimension()))
+                                                   .findFirst()
+                                                   .map(this::toSlice)
+                                                   .orElseGet(PortfolioSlice::empty))
+                                     .byStatus(summary.stream()
+                                                      .filter(row -> STATUS.equals(row.getDimension()))
+                                                      .sorted(Comparator.comparing(
+                                                              PortfolioDashboardEntity::getDimensionKey))
+                                                      .map(this::toSlice)
+                                                      .toList())
+                                     .topClients(findTop(CLIENT, limit))
+                                     .topManagers(findTop(MANAGER, limit))
+                                     .build();
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding portfolio dashboard", e);
+        }
+    }
+
+    @Override
+    public PortfolioDashboardFreshness findFreshness() {
+        try {
+            PortfolioDashboardFreshnessProjection freshness = portfolioDashboardRepository.findFreshness();
+            return PortfolioDashboardFreshness.builder()
+                                              .refreshedAt(freshness.getRefreshedAt())
+                                              .refreshedChangeCount(freshness.getRefreshedChangeCount())
+                                              .changeCount(freshness.getChangeCount())
+                                              .build();
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking portfolio dashboard freshness", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean refresh() {
+        try {
+            Optional<Long> refreshedChangeCount = portfolioDashboardRepository.lockForRefresh();
+            if (refreshedChangeCount.isEmpty()) {
+                return false;
+            }
+
+            long changeCount = portfolioDashboardRepository.currentChangeCount();
+            portfolioDashboardRepository.refreshView();
+            portfolioDashboardRepository.markRefreshed(changeCount);
+            return true;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error refreshing portfolio dashboard", e);
+        }
+    }
+
+    private List<PortfolioSlice> findTop(String dimension, int limit) {
+        return portfolioDashboardRepository.findTopByDimension(dimension, Limit.of(limit))
+                                           .stream()
+                                           .map(this::toSlice)
+                                           .toList();
+    }
+
+    private PortfolioSlice toSlice(PortfolioDashboardEntity row) {
+        return PortfolioSlice.builder()
+                             .key(row.getDimensionKey())
+                             .label(row.getLabel())
+                             .projectCount(row.getProjectCount())
+                             .openHours(row.getOpenHours())
+                             .overdueActivities(row.getOverdueActivities())
+                             .build();
+    }
+}
@@ -1,68 +1,181 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
 import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapper;
-import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.GuardedDeleteProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ResourceFreshnessProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.SparseProjection;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class ProjectGateway implements ProjectGatewayInterface {
 
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    private static final PageCursor FIRST_PAGE = new PageCursor(LocalDateTime.of(1, 1, 1, 0, 0), new UUID(0, 0));
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+    private static final SparseProjection SPARSE_PROJECTS = SparseProjection.of("ProjectEntity", "p")
+                                                                            .field("id", "p.id")
+                                                                            .field("name", "p.name")
+                                                                            .field("description", "p.description")
+                                                                            .field("clientId", "p.client.id")
+                                                                            .field("clientName", "c.name", "join p.client c")
+                                                                            .field("startDate", "p.startDate")
+                                                                            .field("endDate", "p.endDate")
+                                                                            .field("status", "p.status")
+                                                                            .field("manager", "p.manager")
+                                                                            .field("notes", "p.notes")
+                                                                            .field("createdAt", "p.createdAt")
+                                                                            .field("updatedAt", "p.updatedAt")
+                                                                            .field("version", "p.version")
+                                                                            .build();
+
     private final ProjectRepository projectRepository;
     private final ClientRepository clientRepository;
     private final ProjectMapper projectMapper;
+    private final EntityManager entityManager;
 
     public ProjectGateway(ProjectRepository projectRepository, ClientRepository clientRepository,
-                          ProjectMapper projectMapper
+                          ProjectMapper projectMapper, EntityManager entityManager
                          ) {
         this.projectRepository = projectRepository;
         this.clientRepository = clientRepository;
         this.projectMapper = projectMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
+    public Project create(Project project) {
+        try {
+            ProjectEntity entity = toEntityWithClientReference(project);
+            entity.markNew();
+            entity = projectRepository.save(entity);
+            entityManager.flush();
+            return projectMapper.toDomain(entity, project.getClient());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving project", e);
+        }
+    }
+
+    @Override
+    @Transactional
     public Project save(Project project) {
         try {
-            ProjectEntity entity = projectMapper.toEntity(project);
+            ProjectEntity entity = projectRepository.save(toEntityWithClientReference(project));
+            entityManager.flush();
+            return projectMapper.toDomain(entity, project.getClient());
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            throw new EntityVersionConflictException("Project with ID " + project.getId() + " was modified by another request", e);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error saving project", e);
+        }
+    }
 
-            if (project.getClient() != null && project.getClient().getId() != null) {
-                ClientEntity clientEntity = clientRepository.findById(project.getClient().getId())
-                                                            .orElseThrow(() -> new IllegalArgumentException(
-                                                                    "Client not found"));
-                entity.setClient(clientEntity);
+    private ProjectEntity toEntityWithClientReference(Project project) {
+        if (project.getClient() == null || project.getClient().getId() == null) {
+            throw new IllegalArgumentException("Project client is required");
+        }
+
+        ProjectEntity entity = projectMapper.toEntity(project);
+        entity.setClient(clientRepository.getReferenceById(project.getClient().getId()));
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public List<Project> saveAll(List<Project> projects) {
+        try {
+            List<ProjectEntity> entities = new ArrayList<>(projects.size());
+            for (Project project : projects) {
+                ProjectEntity entity = projectMapper.toEntity(project);
+                entity.setClient(clientRepository.getReferenceById(project.getClient().getId()));
+                entityManager.persist(entity);
+                entities.add(entity);
             }
+            entityManager.flush();
 
-            entity = projectRepository.save(entity);
-            return projectMapper.toDomain(entity);
+            List<Project> saved = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                saved.add(projectMapper.toDomain(entities.get(i), projects.get(i).getClient()));
+            }
+            return saved;
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error saving project", e);
+            throw new DatabaseOperationException("Error saving projects in batch", e);
         }
     }
 
     @Override
     public Optional<Project> findById(UUID id) {
         try {
-            return projectRepository.findById(id).map(projectMapper::toDomain);
+            return projectRepository.findByIdWithClient(id).map(projectMapper::toDomain);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding project by ID", e);
         }
     }
 
+    @Override
+    public Optional<ResourceFreshness> findFreshness(UUID id) {
+        try {
+            return projectRepository.findFreshnessById(id).map(ProjectGateway::toFreshness);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking project freshness", e);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        try {
+            return projectRepository.existsById(id);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking project existence by ID", e);
+        }
+    }
+
+    @Override
+    public List<Project> findAllByIds(Collection<UUID> ids) {
+        try {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            return projectMapper.toDomainList(projectRepository.findAllWithClientByIdIn(ids));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding projects by IDs", e);
+        }
+    }
+
     @Override
     public List<Project> findAll() {
         try {
-            List<ProjectEntity> entities = projectRepository.findAll();
+            List<ProjectEntity> entities = projectRepository.findAllWithClient();
             return projectMapper.toDomainList(entities);
         } catch (Exception e) {
             throw new DatabaseOperationException("Error finding all projects", e);
@@ -70,54 +183,167 @@ public class ProjectGateway implements ProjectGatewayInterface {
     }
 
     @Override
-    public List<Project> findAllActive() {
+    @Transactional(readOnly = true)
+    public void streamAllActive(Consumer<Project> consumer) {
+        try (Stream<ProjectEntity> entities = projectRepository.streamActiveWithClient()) {
+            int[] count = {0};
+            entities.forEach(entity -> {
+                consumer.accept(projectMapper.toDomain(entity));
+                if (++count[0] % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            });
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error streaming active projects", e);
+        }
+    }
+
+    @Override
+    public List<Project> findByClientId(UUID clientId) {
         try {
-            List<ProjectEntity> entities = projectRepository.findByIsDeletedFalse();
+            List<ProjectEntity> entities = projectRepository.findByClientIdWithClient(clientId);
             return projectMapper.toDomainList(entities);
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error finding active projects", e);
+            throw new DatabaseOperationException("Error finding projects by client", e);
         }
     }
 
     @Override
-    public List<Project> findByStatus(ProjectStatus status) {
+    public CursorPage<Project> findAllActive(PageCursor after, int limit) {
         try {
-            List<ProjectEntity> entities = projectRepository.findByStatusAndIsDeletedFalse(status);
-            return projectMapper.toDomainList(entities);
+            Pageable pageable = PageRequest.of(0, limit + 1, KEYSET_ORDER);
+            List<ProjectEntity> entities = (after == null)
+                    ? projectRepository.findByIsDeletedFalse(pageable)
+                    : projectRepository.findActiveAfter(after.getCreatedAt(), after.getId(), pageable);
+            return toPage(entities, limit);
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error finding projects by status", e);
+            throw new DatabaseOperationException("Error finding page of active projects", e);
         }
     }
 
     @Override
-    public List<Project> findByClientId(UUID clientId) {
+    public CursorPage<Project> findByStatus(ProjectStatus status, PageCursor after, int limit) {
         try {
-            Optional<ClientEntity> clientEntity = clientRepository.findById(clientId);
-            if (clientEntity.isPresent()) {
-                List<ProjectEntity> entities = projectRepository.findByClientAndIsDeletedFalse(clientEntity.get());
-                return projectMapper.toDomainList(entities);
-            }
-            return List.of();
+            Pageable pageable = PageRequest.of(0, limit + 1, KEYSET_ORDER);
+            List<ProjectEntity> entities = (after == null)
+                    ? projectRepository.findByStatusAndIsDeletedFalse(status, pageable)
+                    : projectRepository.findByStatusAfter(status, after.getCreatedAt(), after.getId(), pageable);
+            return toPage(entities, limit);
         } catch (Exception e) {
-            throw new DatabaseOperationException("Error finding projects by client", e);
+            throw new DatabaseOperationException("Error finding page of projects by status", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Project> findByClientId(UUID clientId, PageCursor after, int limit) {
+        try {
+            Pageable pageable = PageRequest.of(0, limit + 1, KEYSET_ORDER);
+            List<ProjectEntity> entities = (after == null)
+                    ? projectRepository.findByClientId(clientId, pageable)
+                    : projectRepository.findByClientIdAfter(clientId, after.getCreatedAt(), after.getId(), pageable);
+            return toPage(entities, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding page of projects by client", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> findAllActive(PageCursor after, int limit, FieldSet fields) {
+        try {
+            return SPARSE_PROJECTS.page(entityManager, fields, "p.isDeleted = false", Map.of(), after, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding fields of active projects page", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> findByStatus(ProjectStatus status, PageCursor after, int limit,
+                                                        FieldSet fields) {
+        try {
+            return SPARSE_PROJECTS.page(entityManager, fields, "p.status = :status and p.isDeleted = false",
+                                        Map.of("status", status), after, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding fields of projects page by status", e);
+        }
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> findByClientId(UUID clientId, PageCursor after, int limit,
+                                                          FieldSet fields) {
+        try {
+            return SPARSE_PROJECTS.page(entityManager, fields, "p.client.id = :clientId and p.isDeleted = false",
+                                        Map.of("clientId", clientId), after, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding fields of projects page by client", e);
+        }
+    }
+
+    @Override
+    public ResourceFreshness findFreshnessOfActive(PageCursor after, int limit) {
+        try {
+            PageCursor from = (after == null) ? FIRST_PAGE : after;
+            return toFreshness(projectRepository.findActivePageFreshness(from.getCreatedAt(), from.getId(),
+                                                                         limit + 1));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking freshness of active projects page", e);
+        }
+    }
+
+    @Override
+    public ResourceFreshness findFreshnessByStatus(ProjectStatus status, PageCursor after, int limit) {
+        try {
+            PageCursor from = (after == null) ? FIRST_PAGE : after;
+            return toFreshness(projectRepository.findStatusPageFreshness(status.name(), from.getCreatedAt(),
+                                                                         from.getId(), limit + 1));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking freshness of projects page by status", e);
         }
     }
 
     @Override
-    public void deleteById(UUID id) {
+    public ResourceFreshness findFreshnessByClientId(UUID clientId, PageCursor after, int limit) {
+        try {
+            PageCursor from = (after == null) ? FIRST_PAGE : after;
+            return toFreshness(projectRepository.findClientPageFreshness(clientId, from.getCreatedAt(),
+                                                                         from.getId(), limit + 1));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error checking freshness of projects page by client", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public DeleteResult deleteIfUnused(UUID id) {
         try {
             if (id == null) {
                 throw new IllegalArgumentException("Project ID cannot be null");
             }
 
-            ProjectEntity project = projectRepository.findById(id)
-                                                     .orElseThrow(() -> new EntityNotFoundException("Project with ID " + id + " not found"));
-
-            projectRepository.delete(project);
-        } catch (EntityNotFoundException | IllegalArgumentException e) {
+            entityManager.flush();
+            GuardedDeleteProjection row = projectRepository.deleteIfUnused(id);
+            DeleteResult result = DeleteResult.of(row.getDeleted(), row.getFound(), row.getDependents());
+            if (result.getOutcome() == DeleteResult.Outcome.DELETED) {
+                entityManager.clear();
+            }
+            return result;
+        } catch (IllegalArgumentException e) {
             throw e;
         } catch (Exception e) {
             throw new DatabaseOperationException("Error deleting project with ID: " + id, e);
         }
     }
+
+    private CursorPage<Project> toPage(List<ProjectEntity> entities, int limit) {
+        return CursorPage.of(entities, limit, entity -> new PageCursor(entity.getCreatedAt(), entity.getId()))
+                         .map(projectMapper::toDomain);
+    }
+
+    private static ResourceFreshness toFreshness(ResourceFreshnessProjection row) {
+        return ResourceFreshness.builder()
+                                .version(row.getVersion())
+                                .lastModified(row.getLastModified())
+                                .itemCount(row.getItemCount())
+                                .checksum(row.getChecksum())
+                                .build();
+    }
 }
@@ -0,0 +1,85 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.gateways;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ProjectProgressProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class ProjectStatsGateway implements ProjectStatsGatewayInterface {
+
+    private final ProjectStatsRepository projectStatsRepository;
+    private final int stripes;
+
+    public ProjectStatsGateway(ProjectStatsRepository projectStatsRepository,
+                               @Value("${app.project-stats.stripes:8}") int stripes
+                              ) {
+        if (stripes < 1 || stripes > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Project stats stripes must be between 1 and " + Short.MAX_VALUE);
+        }
+        this.projectStatsRepository = projectStatsRepository;
+        this.stripes = stripes;
+    }
+
+    @Override
+    @Transactional
+    public void increment(UUID projectId, ProjectStatsDelta delta) {
+        try {
+            short slot = (short) ThreadLocalRandom.current().nextInt(stripes);
+            projectStatsRepository.increment(projectId, slot, delta.getActivityCount(), delta.getCompletedCount(),
+                                             delta.getTotalHours(), delta.getRemainingHours(),
+                                             delta.getOccurredAt());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error updating stats of project: " + projectId, e);
+        }
+    }
+
+    @Override
+    public Map<UUID, ProjectProgress> findByProjectIds(Collection<UUID> projectIds) {
+        try {
+            if (projectIds.isEmpty()) {
+                return Map.of();
+            }
+            Map<UUID, ProjectProgress> progress = new HashMap<>();
+            for (ProjectProgressProjection row : projectStatsRepository.sumByProjectIdIn(projectIds)) {
+                progress.put(row.getProjectId(), toProgress(row));
+            }
+            return progress;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error finding stats of projects", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        try {
+            projectStatsRepository.lockForRebuild();
+            projectStatsRepository.deleteAllRows();
+            return projectStatsRepository.insertFromActivities();
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Error rebuilding project stats", e);
+        }
+    }
+
+    private ProjectProgress toProgress(ProjectProgressProjection row) {
+        return ProjectProgress.builder()
+                              .activityCount(row.getActivityCount())
+                              .completedCount(row.getCompletedCount())
+                              .totalHours(row.getTotalHours())
+                              .remainingHours(row.getRemainingHours())
+                              .lastActivityAt(row.getLastActivityAt())
+                              .build();
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions;
+
+
+public class DatabaseBusyException extends DatabaseOperationException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+
+    public DatabaseBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
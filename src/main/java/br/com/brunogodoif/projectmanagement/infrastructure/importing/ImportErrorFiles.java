@@ -0,0 +1,74 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Log4j2
+public class ImportErrorFiles {
+
+    private static final String SUFFIX = "-errors.ndjson";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public ImportErrorFiles(@Value("${app.import.error-dir:${java.io.tmpdir}/projectmanagement-imports}") Path directory,
+                            ObjectMapper objectMapper
+                           ) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    public ImportErrorWriter open(UUID importId) {
+        return new ImportErrorWriter(resolve(importId), objectMapper);
+    }
+
+    public Optional<Path> find(UUID importId) {
+        Path file = resolve(importId);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Deletes the error files last written before {@code cutoff}, so rejected rows stay downloadable for the
+     * retention period without accumulating on disk.
+     *
+     * @return how many files were deleted
+     */
+    public int deleteOlderThan(Instant cutoff) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (NoSuchFileException e) {
+                    log.debug("Import error file already removed: {}", file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error purging import error files from " + directory, e);
+        }
+        return deleted;
+    }
+
+    private Path resolve(UUID importId) {
+        return directory.resolve(importId + SUFFIX);
+    }
+}
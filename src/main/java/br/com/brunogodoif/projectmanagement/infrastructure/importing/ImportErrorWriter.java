@@ -0,0 +1,53 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.importing;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+public class ImportErrorWriter implements Consumer<ImportRecord<?>>, Closeable {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+
+    ImportErrorWriter(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void accept(ImportRecord<?> record) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(file.getParent());
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            writer.write(objectMapper.writeValueAsString(new RejectedRow(record.getLine(), record.getError())));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing rejected row to " + file, e);
+        }
+    }
+
+    public boolean hasErrors() {
+        return writer != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    public record RejectedRow(long line, String error) {
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.importing;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.utils.DataFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+@Component
+public class ImportReaderFactory {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public ImportReaderFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                                  .findAndAddModules()
+                                  .enable(CsvParser.Feature.TRIM_SPACES)
+                                  .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                                  .build();
+    }
+
+    public <R, D> ImportRecordReader<R, D> open(InputStream input, DataFormat format, Class<R> rowType,
+                                                Function<R, D> toInput
+                                               ) throws IOException {
+        ObjectReader reader = switch (format) {
+            case NDJSON -> objectMapper.readerFor(rowType);
+            case CSV -> csvMapper.readerFor(rowType).with(CsvSchema.emptySchema().withHeader());
+        };
+
+        return new ImportRecordReader<>(reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                              .readValues(input), toInput);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.importing;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Reads one row at a time from the upload. A row that cannot be mapped is returned as an invalid record and reading
+ * resumes at the next row; a syntax error ends the stream, since nothing after it can be trusted.
+ */
+public class ImportRecordReader<R, D> implements Iterator<ImportRecord<D>>, Closeable {
+
+    private final MappingIterator<R> rows;
+    private final Function<R, D> toInput;
+    private ImportRecord<D> next;
+    private boolean finished;
+
+    public ImportRecordReader(MappingIterator<R> rows, Function<R, D> toInput) {
+        this.rows = rows;
+        this.toInput = toInput;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord<D> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord<D> current = next;
+        next = null;
+        return current;
+    }
+
+    private ImportRecord<D> advance() {
+        long line = rows.getCurrentLocation().getLineNr();
+        try {
+            if (!rows.hasNextValue()) {
+                finished = true;
+                return null;
+            }
+            line = rows.getParser().currentLocation().getLineNr();
+            try {
+                return ImportRecord.of(line, toInput.apply(rows.nextValue()));
+            } catch (JsonMappingException e) {
+                return ImportRecord.invalid(line, e.getOriginalMessage());
+            }
+        } catch (IOException e) {
+            finished = true;
+            return ImportRecord.invalid(line, "Malformed input, import stopped: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
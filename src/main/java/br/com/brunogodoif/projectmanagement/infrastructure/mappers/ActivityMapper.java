@@ -1,6 +1,7 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.mappers;
 
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityDetailResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityResponse;
@@ -27,18 +28,27 @@ public abstract class ActivityMapper {
             return null;
         }
 
+        return toDomain(entity, projectMapper.toDomain(entity.getProject()));
+    }
+
+    public Activity toDomain(ActivityEntity entity, Project project) {
+        if (entity == null) {
+            return null;
+        }
+
         return new Activity(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDescription(),
-                projectMapper.toDomain(entity.getProject()),
+                project,
                 entity.getDueDate(),
                 entity.getAssignedTo(),
                 entity.isCompleted(),
                 entity.getPriority(),
                 entity.getEstimatedHours(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
@@ -68,6 +78,7 @@ public abstract class ActivityMapper {
         entity.setEstimatedHours(domain.getEstimatedHours());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+        entity.setVersion(domain.getVersion());
 
         if (domain.getProject() != null) {
             entity.setProject(projectMapper.toEntity(domain.getProject()));
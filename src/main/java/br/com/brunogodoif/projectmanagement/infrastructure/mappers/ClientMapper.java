@@ -27,7 +27,8 @@ public abstract class ClientMapper {
                           entity.getAddress(),
                           entity.getCreatedAt(),
                           entity.getUpdatedAt(),
-                          entity.isActive());
+                          entity.isActive(),
+                          entity.getVersion());
     }
 
     public List<Client> toDomainList(List<ClientEntity> entities) {
@@ -53,6 +54,7 @@ public abstract class ClientMapper {
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
         entity.setActive(domain.isActive());
+        entity.setVersion(domain.getVersion());
 
         return entity;
     }
@@ -1,9 +1,14 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.mappers;
 
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.PortfolioDashboardResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectDetailResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectSummaryResponse;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,11 +32,19 @@ public abstract class ProjectMapper {
             return null;
         }
 
+        return toDomain(entity, clientMapper.toDomain(entity.getClient()));
+    }
+
+    public Project toDomain(ProjectEntity entity, Client client) {
+        if (entity == null) {
+            return null;
+        }
+
         return new Project(
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
-                clientMapper.toDomain(entity.getClient()),
+                client,
                 entity.getStartDate(),
                 entity.getEndDate(),
                 entity.getStatus(),
@@ -39,7 +52,8 @@ public abstract class ProjectMapper {
                 entity.getNotes(),
                 entity.isDeleted(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
@@ -70,6 +84,7 @@ public abstract class ProjectMapper {
         entity.setDeleted(domain.isDeleted());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+        entity.setVersion(domain.getVersion());
 
         if (domain.getClient() != null) {
             entity.setClient(clientMapper.toEntity(domain.getClient()));
@@ -103,6 +118,12 @@ public abstract class ProjectMapper {
 
     public abstract ProjectDetailResponse toDetailResponse(Project domain);
 
+    public abstract ProjectSummaryResponse toSummaryResponse(ProjectSummary summary);
+
+    public abstract List<ProjectSummaryResponse> toSummaryResponseList(List<ProjectSummary> summaries);
+
+    public abstract PortfolioDashboardResponse toDashboardResponse(PortfolioDashboard dashboard);
+
     public void updateEntityFromDomain(Project domain, ProjectEntity entity) {
         if (domain == null || entity == null) {
             return;
@@ -0,0 +1,51 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.database.limiter.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class DatabaseAccessLimitAspect {
+
+    private final DatabaseAccessLimiter limiter;
+
+    public DatabaseAccessLimitAspect(DatabaseAccessLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    // Runs before the transaction interceptor, so a permit is held before a connection is taken and
+    // transactional use cases keep it for every gateway call they make. Every gateway holds a connection while it
+    // runs, the COPY imports and the stats and dashboard rebuilds from the scheduled jobs included
+    @Around("within(br.com.brunogodoif.projectmanagement.infrastructure.gateways.*Gateway)"
+            + " && execution(public * *(..))")
+    public Object limitGateway(ProceedingJoinPoint joinPoint) throws Throwable {
+        return limit(joinPoint);
+    }
+
+    @Around("within(br.com.brunogodoif.projectmanagement.application.usecases..*)"
+            + " && (@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional))")
+    public Object limitTransactionalUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return limit(joinPoint);
+    }
+
+    // Programmatic transactions, such as an import chunk, take their permit before the template opens the
+    // transaction, like the annotated use cases above
+    @Around("execution(public * org.springframework.transaction.support.TransactionOperations+.execute(..))")
+    public Object limitProgrammaticTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        return limit(joinPoint);
+    }
+
+    private Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (DatabaseAccessLimiter.Permit ignored = limiter.acquire()) {
+            return joinPoint.proceed();
+        }
+    }
+}
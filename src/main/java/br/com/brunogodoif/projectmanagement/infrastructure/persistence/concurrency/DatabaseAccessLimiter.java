@@ -0,0 +1,107 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Log4j2
+@ConditionalOnProperty(name = "app.database.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseAccessLimiter {
+
+    public static final String WAIT_TIMER = "app.db.limiter.wait";
+    public static final String QUEUED_GAUGE = "app.db.limiter.queued";
+    public static final String ACTIVE_GAUGE = "app.db.limiter.active";
+
+    private static final Permit NESTED = () -> {
+    };
+
+    private final Semaphore semaphore;
+    private final int maxConcurrency;
+    private final Duration maxWait;
+    private final Timer acquiredTimer;
+    private final Timer rejectedTimer;
+    private final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> false);
+
+    public DatabaseAccessLimiter(@Value("${app.database.limiter.max-concurrency:10}") int maxConcurrency,
+                                 @Value("${app.database.limiter.max-wait:500ms}") Duration maxWait,
+                                 MeterRegistry meterRegistry
+                                ) {
+        this.semaphore = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.maxWait = maxWait;
+        this.acquiredTimer = waitTimer("acquired").register(meterRegistry);
+        this.rejectedTimer = waitTimer("rejected").register(meterRegistry);
+
+        Gauge.builder(QUEUED_GAUGE, semaphore, Semaphore::getQueueLength)
+             .description("Callers waiting for database access").register(meterRegistry);
+        Gauge.builder(ACTIVE_GAUGE, semaphore, permits -> maxConcurrency - permits.availablePermits())
+             .description("Callers holding database access").register(meterRegistry);
+    }
+
+    public Permit acquire() {
+        if (holding.get()) {
+            return NESTED;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for database access", e);
+        }
+        long waited = System.nanoTime() - start;
+
+        if (!acquired) {
+            rejectedTimer.record(waited, TimeUnit.NANOSECONDS);
+            log.warn("Database access rejected after {} ms, {} callers queued", maxWait.toMillis(),
+                     semaphore.getQueueLength());
+            throw new DatabaseBusyException("Database access not available within " + maxWait.toMillis() + " ms");
+        }
+
+        acquiredTimer.record(waited, TimeUnit.NANOSECONDS);
+        holding.set(true);
+        return this::release;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueueLength() {
+        return semaphore.getQueueLength();
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    private void release() {
+        holding.remove();
+        semaphore.release();
+    }
+
+    private Timer.Builder waitTimer(String outcome) {
+        return Timer.builder(WAIT_TIMER)
+                    .description("Time spent waiting for database access")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram();
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+@Entity
+@Immutable
+@Table(name = "portfolio_dashboard")
+@IdClass(PortfolioDashboardEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioDashboardEntity {
+
+    @Id
+    @Column(name = "dimension")
+    private String dimension;
+
+    @Id
+    @Column(name = "dimension_key")
+    private String dimensionKey;
+
+    @Column(name = "label")
+    private String label;
+
+    @Column(name = "project_count")
+    private long projectCount;
+
+    @Column(name = "open_hours")
+    private long openHours;
+
+    @Column(name = "overdue_activities")
+    private long overdueActivities;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String dimension;
+        private String dimensionKey;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_stats")
+@IdClass(ProjectStatsEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsEntity {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Id
+    @Column(name = "slot")
+    private short slot;
+
+    @Column(name = "activity_count", nullable = false)
+    private long activityCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "total_hours", nullable = false)
+    private long totalHours;
+
+    @Column(name = "remaining_hours", nullable = false)
+    private long remainingHours;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID projectId;
+        private short slot;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities;
 
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
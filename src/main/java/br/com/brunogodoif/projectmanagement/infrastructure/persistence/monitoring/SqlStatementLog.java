@@ -0,0 +1,57 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+public class SqlStatementLog implements AutoCloseable {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<String> statements = new ArrayList<>();
+    private final Consumer<SqlStatementLog> onClose;
+
+    SqlStatementLog(Consumer<SqlStatementLog> onClose) {
+        this.onClose = onClose;
+    }
+
+    void add(String sql) {
+        statements.add(sql);
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public Map<String, Long> repeatedShapes(int minOccurrences) {
+        Map<String, Long> occurrences = new LinkedHashMap<>();
+        for (String statement : statements) {
+            occurrences.merge(shapeOf(statement), 1L, Long::sum);
+        }
+        occurrences.values().removeIf(count -> count < minOccurrences);
+        return occurrences;
+    }
+
+    public static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+
+    @Override
+    public void close() {
+        onClose.accept(this);
+    }
+}
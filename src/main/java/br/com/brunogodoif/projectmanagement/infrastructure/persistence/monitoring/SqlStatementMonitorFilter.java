@@ -0,0 +1,62 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-monitor.enabled", havingValue = "true", matchIfMissing = false)
+@Log4j2
+public class SqlStatementMonitorFilter extends OncePerRequestFilter {
+
+    private final SqlStatementRecorder recorder;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementMonitorFilter(SqlStatementRecorder recorder,
+                                     @Value("${app.sql-monitor.statement-budget:20}") int statementBudget,
+                                     @Value("${app.sql-monitor.repeated-statement-threshold:3}") int repeatedStatementThreshold
+                                    ) {
+        this.recorder = recorder;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain
+                                   ) throws ServletException, IOException {
+        SqlStatementLog statements = recorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.close();
+            report(request, statements);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementLog statements) {
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        log.debug("{} executed {} SQL statements", endpoint, statements.count());
+
+        if (statements.count() > statementBudget) {
+            log.warn("{} executed {} SQL statements, above the budget of {}", endpoint, statements.count(),
+                     statementBudget);
+        }
+
+        statements.repeatedShapes(repeatedStatementThreshold)
+                  .forEach((shape, count) -> log.warn("Possible N+1 on {}: statement executed {} times: {}",
+                                                      endpoint, count, shape));
+    }
+}
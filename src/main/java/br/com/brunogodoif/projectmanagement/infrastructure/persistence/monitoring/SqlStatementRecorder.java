@@ -0,0 +1,28 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+@Component
+public class SqlStatementRecorder implements StatementInspector {
+
+    private final ThreadLocal<Deque<SqlStatementLog>> activeLogs = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public String inspect(String sql) {
+        for (SqlStatementLog log : activeLogs.get()) {
+            log.add(sql);
+        }
+        return sql;
+    }
+
+    public SqlStatementLog start() {
+        Deque<SqlStatementLog> logs = activeLogs.get();
+        SqlStatementLog log = new SqlStatementLog(logs::remove);
+        logs.push(log);
+        return log;
+    }
+}
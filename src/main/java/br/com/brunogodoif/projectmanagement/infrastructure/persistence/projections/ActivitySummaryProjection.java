@@ -0,0 +1,17 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import java.util.UUID;
+
+public interface ActivitySummaryProjection {
+    UUID getProjectId();
+
+    long getTotalActivities();
+
+    long getCompletedActivities();
+
+    long getEstimatedHours();
+
+    long getOpenHours();
+
+    long getOverdueActivities();
+}
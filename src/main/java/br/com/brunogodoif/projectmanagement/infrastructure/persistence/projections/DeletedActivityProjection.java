@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import java.util.UUID;
+
+public interface DeletedActivityProjection {
+    UUID getId();
+
+    UUID getProjectId();
+
+    Boolean getCompleted();
+
+    Integer getEstimatedHours();
+}
@@ -0,0 +1,9 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+public interface GuardedDeleteProjection {
+    boolean getDeleted();
+
+    boolean getFound();
+
+    long getDependents();
+}
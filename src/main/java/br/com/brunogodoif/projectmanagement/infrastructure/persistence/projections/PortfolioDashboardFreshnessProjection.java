@@ -0,0 +1,11 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import java.time.LocalDateTime;
+
+public interface PortfolioDashboardFreshnessProjection {
+    LocalDateTime getRefreshedAt();
+
+    long getRefreshedChangeCount();
+
+    long getChangeCount();
+}
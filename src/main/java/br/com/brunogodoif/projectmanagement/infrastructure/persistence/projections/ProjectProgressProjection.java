@@ -0,0 +1,18 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ProjectProgressProjection {
+    UUID getProjectId();
+
+    long getActivityCount();
+
+    long getCompletedCount();
+
+    long getTotalHours();
+
+    long getRemainingHours();
+
+    LocalDateTime getLastActivityAt();
+}
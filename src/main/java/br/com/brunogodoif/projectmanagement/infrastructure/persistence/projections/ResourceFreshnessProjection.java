@@ -0,0 +1,13 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import java.time.LocalDateTime;
+
+public interface ResourceFreshnessProjection {
+    Long getVersion();
+
+    LocalDateTime getLastModified();
+
+    long getItemCount();
+
+    long getChecksum();
+}
@@ -0,0 +1,135 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keyset page of an entity that selects only the columns behind the requested fields, as a tuple query, instead
+ * of loading whole entities. Id and createdAt are always selected because the cursor is built from them; a field
+ * reached through an association adds its join only when requested.
+ */
+public final class SparseProjection {
+
+    private static final String ID = "id";
+    private static final String CREATED_AT = "createdAt";
+
+    private final String from;
+    private final String alias;
+    private final Map<String, String> expressions;
+    private final Map<String, String> joins;
+
+    private SparseProjection(Builder builder) {
+        this.from = builder.entity + " " + builder.alias;
+        this.alias = builder.alias;
+        this.expressions = Map.copyOf(builder.expressions);
+        this.joins = Map.copyOf(builder.joins);
+    }
+
+    public static Builder of(String entity, String alias) {
+        return new Builder(entity, alias);
+    }
+
+    /**
+     * @param where      JPQL condition over the entity alias, without the keyset predicate
+     * @param parameters values of the named parameters used in {@code where}
+     */
+    public CursorPage<Map<String, Object>> page(EntityManager entityManager, FieldSet fields, String where,
+                                                Map<String, Object> parameters, PageCursor after, int limit
+                                               ) {
+        List<String> selected = selected(fields);
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql(selected, where, after != null), Tuple.class);
+        parameters.forEach(query::setParameter);
+        if (after != null) {
+            query.setParameter("cursorCreatedAt", after.getCreatedAt());
+            query.setParameter("cursorId", after.getId());
+        }
+
+        List<Tuple> rows = query.setMaxResults(limit + 1).getResultList();
+        int idIndex = selected.indexOf(ID);
+        int createdAtIndex = selected.indexOf(CREATED_AT);
+        return CursorPage.of(rows, limit, row -> new PageCursor(row.get(createdAtIndex, LocalDateTime.class),
+                                                                row.get(idIndex, UUID.class)))
+                         .map(row -> toFields(row, fields));
+    }
+
+    private List<String> selected(FieldSet fields) {
+        Set<String> selected = new LinkedHashSet<>(fields.getNames());
+        selected.add(ID);
+        selected.add(CREATED_AT);
+        for (String name : selected) {
+            if (!expressions.containsKey(name)) {
+                throw new IllegalArgumentException("Field '" + name + "' has no column in " + from);
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private String jpql(List<String> selected, String where, boolean afterCursor) {
+        StringBuilder jpql = new StringBuilder("select ");
+        Set<String> requiredJoins = new LinkedHashSet<>();
+        for (int i = 0; i < selected.size(); i++) {
+            String name = selected.get(i);
+            jpql.append(i == 0 ? "" : ", ").append(expressions.get(name));
+            if (joins.containsKey(name)) {
+                requiredJoins.add(joins.get(name));
+            }
+        }
+
+        jpql.append(" from ").append(from);
+        requiredJoins.forEach(join -> jpql.append(' ').append(join));
+        jpql.append(" where ").append(where);
+        if (afterCursor) {
+            jpql.append(" and (").append(alias).append(".createdAt, ").append(alias)
+                .append(".id) > (:cursorCreatedAt, :cursorId)");
+        }
+        return jpql.append(" order by ").append(alias).append(".createdAt, ").append(alias).append(".id").toString();
+    }
+
+    private static Map<String, Object> toFields(Tuple row, FieldSet fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        List<String> names = fields.getNames();
+        for (int i = 0; i < names.size(); i++) {
+            values.put(names.get(i), row.get(i));
+        }
+        return values;
+    }
+
+    public static final class Builder {
+        private final String entity;
+        private final String alias;
+        private final Map<String, String> expressions = new LinkedHashMap<>();
+        private final Map<String, String> joins = new LinkedHashMap<>();
+
+        private Builder(String entity, String alias) {
+            this.entity = entity;
+            this.alias = alias;
+        }
+
+        public Builder field(String name, String expression) {
+            expressions.put(name, expression);
+            return this;
+        }
+
+        public Builder field(String name, String expression, String join) {
+            joins.put(name, join);
+            return field(name, expression);
+        }
+
+        public SparseProjection build() {
+            return new SparseProjection(this);
+        }
+    }
+}
@@ -1,16 +1,65 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories;
 
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ActivityEntity;
-import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ActivitySummaryProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.DeletedActivityProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<ActivityEntity, UUID> {
-    List<ActivityEntity> findByProject(ProjectEntity project);
 
-    List<ActivityEntity> findByProjectAndCompletedFalse(ProjectEntity project);
-}
\ No newline at end of file
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client")
+    List<ActivityEntity> findAllWithProject();
+
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client where a.id = :id")
+    Optional<ActivityEntity> findByIdWithProject(@Param("id") UUID id);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client where p.isDeleted = false")
+    Stream<ActivityEntity> streamAllOfActiveProjects();
+
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client where p.id = :projectId")
+    List<ActivityEntity> findByProjectIdWithProject(@Param("projectId") UUID projectId);
+
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client " +
+           "where p.id = :projectId and a.completed = false")
+    List<ActivityEntity> findPendingByProjectIdWithProject(@Param("projectId") UUID projectId);
+
+    @Query("select a.project.id as projectId, count(a) as totalActivities, " +
+           "sum(case when a.completed = true then 1 else 0 end) as completedActivities, " +
+           "sum(a.estimatedHours) as estimatedHours, " +
+           "sum(case when a.completed = false then a.estimatedHours else 0 end) as openHours, " +
+           "sum(case when a.completed = false and a.dueDate < current_date then 1 else 0 end) as overdueActivities " +
+           "from ActivityEntity a where a.project.id in :projectIds group by a.project.id")
+    List<ActivitySummaryProjection> summarizeByProjectIdIn(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client where p.id = :projectId")
+    List<ActivityEntity> findByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query("select a from ActivityEntity a join fetch a.project p join fetch p.client where p.id = :projectId " +
+           "and (a.createdAt, a.id) > (:createdAt, :id)")
+    List<ActivityEntity> findByProjectIdAfter(@Param("projectId") UUID projectId,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                              Pageable pageable
+                                             );
+
+    @Query(value = "delete from activities where id = :id returning id, project_id as \"projectId\", completed, " +
+                   "estimated_hours as \"estimatedHours\"",
+           nativeQuery = true)
+    Optional<DeletedActivityProjection> deleteReturning(@Param("id") UUID id);
+}
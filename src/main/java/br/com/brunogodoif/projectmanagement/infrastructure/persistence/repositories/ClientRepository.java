@@ -1,16 +1,63 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories;
 
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.GuardedDeleteProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ResourceFreshnessProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ClientRepository extends JpaRepository<ClientEntity, UUID> {
 
-    List<ClientEntity> findByActiveTrue();
-
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("select c.email from ClientEntity c where c.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    List<ClientEntity> findByActiveTrue(Pageable pageable);
+
+    @Query("select c from ClientEntity c where c.active = true and (c.createdAt, c.id) > (:createdAt, :id)")
+    List<ClientEntity> findActiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                       Pageable pageable
+                                      );
+
+    @Query(value = "select c.version as version, " +
+                   "greatest(c.updated_at, pr.last_modified, pr.last_activity_at) as lastModified, " +
+                   "pr.item_count as itemCount, pr.checksum as checksum from clients c " +
+                   "cross join lateral (select max(p.updated_at) as last_modified, count(*) as item_count, " +
+                   "coalesce(sum(hashtext(p.id::text)), 0) as checksum, " +
+                   "max((select max(s.last_activity_at) from project_stats s where s.project_id = p.id)) " +
+                   "as last_activity_at " +
+                   "from projects p where p.client_id = c.id and p.is_deleted = false) pr " +
+                   "where c.id = :id",
+           nativeQuery = true)
+    Optional<ResourceFreshnessProjection> findFreshnessById(@Param("id") UUID id);
+
+    @Query(value = "with page as (select c.id, c.updated_at from clients c " +
+                   "where c.active = true and (c.created_at, c.id) > (:createdAt, :id) " +
+                   "order by c.created_at, c.id limit :limit) " +
+                   "select max(page.updated_at) as lastModified, count(*) as itemCount, " +
+                   "coalesce(sum(hashtext(page.id::text)), 0) as checksum from page",
+           nativeQuery = true)
+    ResourceFreshnessProjection findActivePageFreshness(@Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id, @Param("limit") int limit
+                                                       );
+
+    @Query(value = "with deleted as (delete from clients c where c.id = :id " +
+                   "and not exists (select 1 from projects p where p.client_id = c.id and not p.is_deleted) " +
+                   "returning c.id) " +
+                   "select exists (select 1 from deleted) as deleted, " +
+                   "exists (select 1 from clients where id = :id) as found, " +
+                   "(select count(*) from projects where client_id = :id and not is_deleted) as dependents",
+           nativeQuery = true)
+    GuardedDeleteProjection deleteIfUnused(@Param("id") UUID id);
+}
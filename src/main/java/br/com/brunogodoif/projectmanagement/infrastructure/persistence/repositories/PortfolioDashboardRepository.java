@@ -0,0 +1,48 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.PortfolioDashboardEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.PortfolioDashboardFreshnessProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PortfolioDashboardRepository
+        extends JpaRepository<PortfolioDashboardEntity, PortfolioDashboardEntity.Key> {
+
+    List<PortfolioDashboardEntity> findByDimensionIn(Collection<String> dimensions);
+
+    @Query("select d from PortfolioDashboardEntity d where d.dimension = :dimension " +
+           "order by d.openHours desc, d.dimensionKey")
+    List<PortfolioDashboardEntity> findTopByDimension(@Param("dimension") String dimension, Limit limit);
+
+    @Query(value = "select r.refreshed_at as refreshedAt, r.change_count as refreshedChangeCount, " +
+                   "(select last_value from portfolio_dashboard_changes) as changeCount " +
+                   "from portfolio_dashboard_refresh r where r.id = 1",
+           nativeQuery = true)
+    PortfolioDashboardFreshnessProjection findFreshness();
+
+    @Query(value = "select change_count from portfolio_dashboard_refresh where id = 1 for update skip locked",
+           nativeQuery = true)
+    Optional<Long> lockForRefresh();
+
+    @Query(value = "select last_value from portfolio_dashboard_changes", nativeQuery = true)
+    long currentChangeCount();
+
+    @Modifying
+    @Query(value = "refresh materialized view concurrently portfolio_dashboard", nativeQuery = true)
+    void refreshView();
+
+    @Modifying
+    @Query(value = "update portfolio_dashboard_refresh set refreshed_at = now(), change_count = :changeCount " +
+                   "where id = 1",
+           nativeQuery = true)
+    void markRefreshed(@Param("changeCount") long changeCount);
+}
@@ -1,19 +1,124 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories;
 
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
-import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.GuardedDeleteProjection;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ResourceFreshnessProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
-    List<ProjectEntity> findByIsDeletedFalse();
 
-    List<ProjectEntity> findByStatusAndIsDeletedFalse(ProjectStatus status);
+    // Freshness of a listing page: the same keyset window as the page query, plus the client and activity
+    // counters each row shows
+    String PAGE_FRESHNESS = "select max(greatest(page.updated_at, c.updated_at, " +
+                            "(select max(s.last_activity_at) from project_stats s where s.project_id = page.id))) " +
+                            "as lastModified, count(*) as itemCount, " +
+                            "coalesce(sum(hashtext(page.id::text)), 0) as checksum " +
+                            "from page join clients c on c.id = page.client_id";
 
-    List<ProjectEntity> findByClientAndIsDeletedFalse(ClientEntity client);
-}
\ No newline at end of file
+    @Query("select p from ProjectEntity p join fetch p.client")
+    List<ProjectEntity> findAllWithClient();
+
+    @Query("select p from ProjectEntity p join fetch p.client where p.id = :id")
+    Optional<ProjectEntity> findByIdWithClient(@Param("id") UUID id);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select p from ProjectEntity p join fetch p.client where p.isDeleted = false")
+    Stream<ProjectEntity> streamActiveWithClient();
+
+    @Query("select p from ProjectEntity p join fetch p.client where p.id in :ids")
+    List<ProjectEntity> findAllWithClientByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p from ProjectEntity p join fetch p.client c where c.id = :clientId and p.isDeleted = false")
+    List<ProjectEntity> findByClientIdWithClient(@Param("clientId") UUID clientId);
+
+    @EntityGraph(attributePaths = "client")
+    List<ProjectEntity> findByIsDeletedFalse(Pageable pageable);
+
+    @Query("select p from ProjectEntity p join fetch p.client " +
+           "where p.isDeleted = false and (p.createdAt, p.id) > (:createdAt, :id)")
+    List<ProjectEntity> findActiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                        Pageable pageable
+                                       );
+
+    @EntityGraph(attributePaths = "client")
+    List<ProjectEntity> findByStatusAndIsDeletedFalse(ProjectStatus status, Pageable pageable);
+
+    @Query("select p from ProjectEntity p join fetch p.client where p.status = :status and p.isDeleted = false " +
+           "and (p.createdAt, p.id) > (:createdAt, :id)")
+    List<ProjectEntity> findByStatusAfter(@Param("status") ProjectStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                          Pageable pageable
+                                         );
+
+    @Query("select p from ProjectEntity p join fetch p.client c where c.id = :clientId and p.isDeleted = false")
+    List<ProjectEntity> findByClientId(@Param("clientId") UUID clientId, Pageable pageable);
+
+    @Query("select p from ProjectEntity p join fetch p.client c where c.id = :clientId and p.isDeleted = false " +
+           "and (p.createdAt, p.id) > (:createdAt, :id)")
+    List<ProjectEntity> findByClientIdAfter(@Param("clientId") UUID clientId,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                            Pageable pageable
+                                           );
+
+    @Query(value = "select p.version as version, " +
+                   "greatest(p.updated_at, c.updated_at, max(a.updated_at)) as lastModified, " +
+                   "count(a.id) as itemCount, coalesce(sum(hashtext(a.id::text)), 0) as checksum " +
+                   "from projects p join clients c on c.id = p.client_id " +
+                   "left join activities a on a.project_id = p.id " +
+                   "where p.id = :id group by p.id, c.id",
+           nativeQuery = true)
+    Optional<ResourceFreshnessProjection> findFreshnessById(@Param("id") UUID id);
+
+    @Query(value = "with page as (select p.id, p.client_id, p.updated_at from projects p " +
+                   "where p.is_deleted = false and (p.created_at, p.id) > (:createdAt, :id) " +
+                   "order by p.created_at, p.id limit :limit) " + PAGE_FRESHNESS,
+           nativeQuery = true)
+    ResourceFreshnessProjection findActivePageFreshness(@Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id, @Param("limit") int limit
+                                                       );
+
+    @Query(value = "with page as (select p.id, p.client_id, p.updated_at from projects p " +
+                   "where p.status = :status and p.is_deleted = false and (p.created_at, p.id) > (:createdAt, :id) " +
+                   "order by p.created_at, p.id limit :limit) " + PAGE_FRESHNESS,
+           nativeQuery = true)
+    ResourceFreshnessProjection findStatusPageFreshness(@Param("status") String status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id, @Param("limit") int limit
+                                                       );
+
+    @Query(value = "with page as (select p.id, p.client_id, p.updated_at from projects p " +
+                   "where p.client_id = :clientId and p.is_deleted = false " +
+                   "and (p.created_at, p.id) > (:createdAt, :id) " +
+                   "order by p.created_at, p.id limit :limit) " + PAGE_FRESHNESS,
+           nativeQuery = true)
+    ResourceFreshnessProjection findClientPageFreshness(@Param("clientId") UUID clientId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id, @Param("limit") int limit
+                                                       );
+
+    @Query(value = "with deleted as (delete from projects p where p.id = :id " +
+                   "and not exists (select 1 from activities a where a.project_id = p.id) returning p.id) " +
+                   "select exists (select 1 from deleted) as deleted, " +
+                   "exists (select 1 from projects where id = :id) as found, " +
+                   "(select count(*) from activities where project_id = :id) as dependents",
+           nativeQuery = true)
+    GuardedDeleteProjection deleteIfUnused(@Param("id") UUID id);
+}
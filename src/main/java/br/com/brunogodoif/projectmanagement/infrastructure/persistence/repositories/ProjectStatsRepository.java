@@ -0,0 +1,60 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectStatsEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.projections.ProjectProgressProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStatsEntity, ProjectStatsEntity.Key> {
+
+    @Modifying
+    @Query(value = "insert into project_stats (project_id, slot, activity_count, completed_count, total_hours, " +
+                   "remaining_hours, last_activity_at) " +
+                   "values (:projectId, :slot, :activityCount, :completedCount, :totalHours, :remainingHours, " +
+                   ":lastActivityAt) " +
+                   "on conflict (project_id, slot) do update set " +
+                   "activity_count = project_stats.activity_count + excluded.activity_count, " +
+                   "completed_count = project_stats.completed_count + excluded.completed_count, " +
+                   "total_hours = project_stats.total_hours + excluded.total_hours, " +
+                   "remaining_hours = project_stats.remaining_hours + excluded.remaining_hours, " +
+                   "last_activity_at = greatest(project_stats.last_activity_at, excluded.last_activity_at)",
+           nativeQuery = true)
+    void increment(@Param("projectId") UUID projectId, @Param("slot") short slot,
+                   @Param("activityCount") long activityCount, @Param("completedCount") long completedCount,
+                   @Param("totalHours") long totalHours, @Param("remainingHours") long remainingHours,
+                   @Param("lastActivityAt") LocalDateTime lastActivityAt
+                  );
+
+    @Query("select s.projectId as projectId, sum(s.activityCount) as activityCount, " +
+           "sum(s.completedCount) as completedCount, sum(s.totalHours) as totalHours, " +
+           "sum(s.remainingHours) as remainingHours, max(s.lastActivityAt) as lastActivityAt " +
+           "from ProjectStatsEntity s where s.projectId in :projectIds group by s.projectId")
+    List<ProjectProgressProjection> sumByProjectIdIn(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Modifying
+    @Query(value = "lock table project_stats in exclusive mode", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "delete from project_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "insert into project_stats (project_id, slot, activity_count, completed_count, total_hours, " +
+                   "remaining_hours, last_activity_at) " +
+                   "select project_id, 0, count(*), count(*) filter (where completed), " +
+                   "coalesce(sum(estimated_hours), 0), " +
+                   "coalesce(sum(estimated_hours) filter (where not coalesce(completed, false)), 0), max(updated_at) " +
+                   "from activities group by project_id",
+           nativeQuery = true)
+    int insertFromActivities();
+}
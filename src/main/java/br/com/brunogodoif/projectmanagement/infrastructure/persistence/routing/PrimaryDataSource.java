@@ -0,0 +1,20 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class PrimaryDataSource extends DelegatingDataSource {
+
+    public PrimaryDataSource(DataSource primaryDataSource) {
+        super(primaryDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReadWriteRoutingContext.pinToPrimary();
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing;
+
+public final class ReadWriteRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadWriteRoutingContext() {
+    }
+
+    public static void begin(boolean pinnedToPrimary) {
+        PINNED_TO_PRIMARY.set(pinnedToPrimary);
+    }
+
+    public static void pinToPrimary() {
+        if (PINNED_TO_PRIMARY.get() != null) {
+            PINNED_TO_PRIMARY.set(true);
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+public class ReadWriteRoutingFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    // A request that may write is served by the primary from its first read, so reads made after its own
+    // transaction commits still see those writes
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain
+                                   ) throws ServletException, IOException {
+        ReadWriteRoutingContext.begin(!READ_METHODS.contains(request.getMethod()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingContext.clear();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Log4j2
+public class ReplicaLagMonitor {
+
+    public static final String LAG_GAUGE = "app.db.replica.lag";
+
+    // A standby that has replayed everything it received is not lagging, however old its last transaction is
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE coalesce(extract(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                       END
+            """;
+
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+
+        Gauge.builder(LAG_GAUGE, this, monitor -> monitor.lagSeconds)
+             .description("Replication lag of the read replica in seconds, NaN when unreachable")
+             .baseUnit("seconds")
+             .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica-lag-check-interval:PT2S}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag == null ? 0 : lag;
+        } catch (Exception e) {
+            if (!Double.isNaN(lagSeconds)) {
+                log.warn("Read replica unavailable, reads fall back to the primary: {}", e.getMessage());
+            }
+            lagSeconds = Double.NaN;
+            return;
+        }
+
+        if (!isUsable()) {
+            log.warn("Read replica is {}s behind, above the tolerance of {}s; reads fall back to the primary",
+                     lagSeconds, maxLag.toSeconds());
+        }
+    }
+
+    public boolean isUsable() {
+        return !Double.isNaN(lagSeconds) && lagSeconds * 1000 <= maxLag.toMillis();
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource replicaDataSource, DataSource primaryDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadWriteRoutingContext.isPinnedToPrimary() || !replicaLagMonitor.isUsable()) {
+            return primaryDataSource.getConnection();
+        }
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.scheduling;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportErrorFiles;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+@Log4j2
+public class ImportErrorFilesCleanupJob {
+
+    private final ImportErrorFiles importErrorFiles;
+    private final Duration retention;
+
+    public ImportErrorFilesCleanupJob(ImportErrorFiles importErrorFiles,
+                                      @Value("${app.import.error-retention:P7D}") Duration retention
+                                     ) {
+        this.importErrorFiles = importErrorFiles;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.import.error-cleanup-cron:0 0 * * * *}")
+    public void purge() {
+        try {
+            int deleted = importErrorFiles.deleteOlderThan(Instant.now().minus(retention));
+            if (deleted > 0) {
+                log.info("Deleted {} import error files older than {}", deleted, retention);
+            }
+        } catch (Exception e) {
+            log.error("Import error files cleanup failed", e);
+        }
+    }
+}
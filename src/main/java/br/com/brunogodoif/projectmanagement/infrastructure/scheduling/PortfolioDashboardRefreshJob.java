@@ -0,0 +1,35 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.scheduling;
+
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.RefreshPortfolioDashboardInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+public class PortfolioDashboardRefreshJob {
+
+    private final RefreshPortfolioDashboardInterface refreshPortfolioDashboardUseCase;
+
+    public PortfolioDashboardRefreshJob(RefreshPortfolioDashboardInterface refreshPortfolioDashboardUseCase) {
+        this.refreshPortfolioDashboardUseCase = refreshPortfolioDashboardUseCase;
+    }
+
+    @Scheduled(cron = "${app.portfolio-dashboard.refresh-cron:0 */15 * * * *}")
+    public void refresh() {
+        try {
+            refreshPortfolioDashboardUseCase.execute();
+        } catch (Exception e) {
+            log.error("Portfolio dashboard refresh failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.portfolio-dashboard.stale-check-cron:*/10 * * * * *}")
+    public void refreshIfStale() {
+        try {
+            refreshPortfolioDashboardUseCase.executeIfStale();
+        } catch (Exception e) {
+            log.error("Portfolio dashboard refresh after writes failed", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.scheduling;
+
+import br.com.brunogodoif.projectmanagement.domain.usecases.project.ReconcileProjectStatsInterface;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+public class ProjectStatsReconciliationJob {
+
+    private final ReconcileProjectStatsInterface reconcileProjectStatsUseCase;
+
+    public ProjectStatsReconciliationJob(ReconcileProjectStatsInterface reconcileProjectStatsUseCase) {
+        this.reconcileProjectStatsUseCase = reconcileProjectStatsUseCase;
+    }
+
+    @Scheduled(cron = "${app.project-stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            reconcileProjectStatsUseCase.execute();
+        } catch (Exception e) {
+            log.error("Project stats reconciliation failed", e);
+        }
+    }
+}
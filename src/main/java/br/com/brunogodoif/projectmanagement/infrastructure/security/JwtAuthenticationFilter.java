@@ -1,6 +1,9 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.security;
 
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,17 +18,30 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @Log4j2
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String VALIDATION_TIMER = "app.jwt.validation";
+
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final Timer successTimer;
+    private final Timer invalidTimer;
+    private final Timer errorTimer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsServiceImpl userDetailsService,
+                                   MeterRegistry meterRegistry
+                                  ) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.successTimer = validationTimer("success");
+        this.invalidTimer = validationTimer("invalid");
+        this.errorTimer = validationTimer("error");
     }
 
     @Override
@@ -34,16 +50,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                    ) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
-                                                                                                             null,
-                                                                                                             userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (jwt != null) {
+                verify(jwt).flatMap(this::loadUserDetails)
+                           .ifPresent(userDetails -> authenticate(request, userDetails));
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
@@ -52,6 +61,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Optional<Claims> verify(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer outcome = errorTimer;
+        try {
+            Optional<Claims> claims = tokenProvider.parseAndVerify(jwt);
+            outcome = claims.isPresent() ? successTimer : invalidTimer;
+            return claims;
+        } finally {
+            sample.stop(outcome);
+        }
+    }
+
+    private Timer validationTimer(String outcome) {
+        return Timer.builder(VALIDATION_TIMER)
+                    .description("JWT parsing and signature verification time")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+    }
+
+    private Optional<? extends UserDetails> loadUserDetails(Claims claims) {
+        if (tokenProvider.isStateless()) {
+            return tokenProvider.getUserDetailsFromClaims(claims);
+        }
+        return Optional.of(userDetailsService.loadUserByUsername(claims.getSubject()));
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
+                                                                                                     null,
+                                                                                                     userDetails.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -1,5 +1,8 @@
 package br.com.brunogodoif.projectmanagement.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -7,11 +10,19 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 
 @Component
@@ -24,11 +35,37 @@ public class JwtTokenProvider {
     @Value("${app.jwt.expiration-ms}")
     private int jwtExpirationMs;
 
+    @Value("${app.jwt.stateless:false}")
+    private boolean stateless;
+
+    @Value("${app.jwt.stateless-expiration-ms:900000}")
+    private int statelessExpirationMs;
+
+    @Value("${app.jwt.token-version:1}")
+    private int tokenVersion;
+
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
     private Key key;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedClaims;
+
+    public JwtTokenProvider(TokenRevocationRegistry tokenRevocationRegistry) {
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+    }
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        if (claimsCacheMaxSize > 0) {
+            this.verifiedClaims = Caffeine.newBuilder().maximumSize(claimsCacheMaxSize)
+                                          .expireAfter(new ExpireAtTokenExpiration()).build();
+        }
     }
 
     public String generateToken(Authentication authentication) {
@@ -37,28 +74,113 @@ public class JwtTokenProvider {
         List<String> roles = userPrincipal.getAuthorities().stream().map(GrantedAuthority::getAuthority)
                                           .toList();
 
-        return Jwts.builder().setSubject(userPrincipal.getUsername()).claim("roles", roles).setIssuedAt(new Date())
-                   .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
+        int expirationMs = stateless ? statelessExpirationMs : jwtExpirationMs;
+        Date issuedAt = new Date();
+
+        // iat is serialized in whole seconds; iat_ms keeps the precision revocation needs to tell a re-login
+        // apart from a token issued moments before the user changed
+        return Jwts.builder().setSubject(userPrincipal.getUsername()).claim("roles", roles)
+                   .claim("uid", userPrincipal.getId().toString()).claim("ver", tokenVersion)
+                   .claim("iat_ms", issuedAt.getTime()).setIssuedAt(issuedAt)
+                   .setExpiration(new Date(issuedAt.getTime() + expirationMs))
                    .signWith(key, SignatureAlgorithm.HS512).compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    public boolean isStateless() {
+        return stateless;
     }
 
-    public boolean validateToken(String token) {
+    public Optional<Claims> parseAndVerify(String token) {
+        if (verifiedClaims == null) {
+            return verify(token);
+        }
+
+        String digest = digest(token);
+        Claims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Claims> claims = verify(token);
+        claims.filter(verified -> verified.getExpiration() != null)
+              .ifPresent(verified -> verifiedClaims.put(digest, verified));
+        return claims;
+    }
+
+    public Optional<UserDetailsImpl> getUserDetailsFromClaims(Claims claims) {
+        Integer version = claims.get("ver", Integer.class);
+        if (version == null || version != tokenVersion) {
+            log.error("JWT token version {} is no longer accepted", version);
+            return Optional.empty();
+        }
+
+        if (tokenRevocationRegistry.isRevoked(claims.getSubject(), claims.get("iat_ms", Long.class))) {
+            log.error("JWT token was revoked for user: {}", claims.getSubject());
+            return Optional.empty();
+        }
+
+        String userId = claims.get("uid", String.class);
+        List<?> roles = claims.get("roles", List.class);
+        if (userId == null || roles == null) {
+            log.error("JWT token is missing the uid or roles claim");
+            return Optional.empty();
+        }
+
+        List<GrantedAuthority> authorities = roles.stream()
+                                                  .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(
+                                                          role.toString()))
+                                                  .toList();
+
+        return Optional.of(new UserDetailsImpl(UUID.fromString(userId),
+                                               claims.getSubject(),
+                                               null,
+                                               null,
+                                               authorities,
+                                               true));
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT token could not be verified: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
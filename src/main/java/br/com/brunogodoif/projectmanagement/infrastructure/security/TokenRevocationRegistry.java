@@ -0,0 +1,44 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers, per username, the instant its tokens stopped being accepted, so tokens issued before a user changed
+ * are rejected even when the request is authenticated from the claims alone. Entries live as long as a token can,
+ * so the registry never outgrows the set of recently changed users.
+ * <p>
+ * The registry is held in memory and is local to this instance: a revocation recorded here is not seen by other
+ * nodes. Deployments with more than one instance must run the stateful mode or rotate {@code app.jwt.token-version}
+ * to invalidate tokens everywhere.
+ */
+@Component
+@Log4j2
+public class TokenRevocationRegistry {
+
+    private final Cache<String, Long> revokedAtEpochMilli;
+
+    public TokenRevocationRegistry(@Value("${app.jwt.expiration-ms}") long jwtExpirationMs) {
+        this.revokedAtEpochMilli = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(jwtExpirationMs)).build();
+    }
+
+    public void revoke(String username) {
+        if (username != null) {
+            log.debug("Revoking tokens issued up to now for: {}", username);
+            revokedAtEpochMilli.put(username, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @param issuedAtEpochMilli issue time of the token in milliseconds, or null when the token does not carry one
+     */
+    public boolean isRevoked(String username, Long issuedAtEpochMilli) {
+        Long revokedAt = revokedAtEpochMilli.getIfPresent(username);
+        return revokedAt != null && (issuedAtEpochMilli == null || issuedAtEpochMilli <= revokedAt);
+    }
+}
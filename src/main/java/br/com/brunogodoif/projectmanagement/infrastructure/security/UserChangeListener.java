@@ -0,0 +1,25 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.security;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.UserEntity;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserChangeListener {
+
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    public UserChangeListener(UserDetailsCache userDetailsCache, TokenRevocationRegistry tokenRevocationRegistry) {
+        this.userDetailsCache = userDetailsCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(UserEntity user) {
+        userDetailsCache.evict(user.getUsername());
+        tokenRevocationRegistry.revoke(user.getUsername());
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+@Log4j2
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserDetailsCache(@Value("${app.security.user-cache.ttl:60s}") Duration ttl,
+                            @Value("${app.security.user-cache.max-size:10000}") long maxSize
+                           ) {
+        this.cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build();
+    }
+
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        UserDetailsImpl cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Loaded outside Cache.get: the query may flush a user update whose listener evicts from this cache
+        UserDetailsImpl loaded = loader.apply(username);
+        cache.put(username, loaded);
+        return loaded;
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            log.debug("Evicting cached user details for: {}", username);
+            cache.invalidate(username);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-details");
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.serialization;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Writes dates and times exactly as {@code DateTimeFormatter.ISO_LOCAL_DATE} / {@code ISO_LOCAL_DATE_TIME} print
+ * them, straight into a char buffer: every two-digit field is copied from precomputed tables instead of going
+ * through the formatter's printer chain and an intermediate String.
+ */
+final class IsoDateChars {
+
+    static final int DATE_LENGTH = 10;
+    static final int MAX_DATE_TIME_LENGTH = 29; // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+
+    private static final char[] TENS = new char[100];
+    private static final char[] ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS[i] = (char) ('0' + i / 10);
+            ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private IsoDateChars() {
+    }
+
+    /**
+     * The ISO formatters sign years outside 0000-9999; those are left to the formatter.
+     */
+    static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    static int writeDate(LocalDate date, char[] buffer, int offset) {
+        int year = date.getYear();
+        offset = writeTwoDigits(year / 100, buffer, offset);
+        offset = writeTwoDigits(year % 100, buffer, offset);
+        buffer[offset++] = '-';
+        offset = writeTwoDigits(date.getMonthValue(), buffer, offset);
+        buffer[offset++] = '-';
+        return writeTwoDigits(date.getDayOfMonth(), buffer, offset);
+    }
+
+    static int writeDateTime(LocalDateTime dateTime, char[] buffer) {
+        int offset = writeDate(dateTime.toLocalDate(), buffer, 0);
+        buffer[offset++] = 'T';
+        return writeTime(dateTime.toLocalTime(), buffer, offset);
+    }
+
+    private static int writeTime(LocalTime time, char[] buffer, int offset) {
+        offset = writeTwoDigits(time.getHour(), buffer, offset);
+        buffer[offset++] = ':';
+        offset = writeTwoDigits(time.getMinute(), buffer, offset);
+        buffer[offset++] = ':';
+        offset = writeTwoDigits(time.getSecond(), buffer, offset);
+
+        int nano = time.getNano();
+        if (nano == 0) {
+            return offset;
+        }
+
+        // Same as appendFraction(NANO_OF_SECOND, 0, 9, true): up to nine digits without the trailing zeros
+        buffer[offset++] = '.';
+        buffer[offset++] = (char) ('0' + nano / 100_000_000);
+        offset = writeTwoDigits(nano / 1_000_000 % 100, buffer, offset);
+        offset = writeTwoDigits(nano / 10_000 % 100, buffer, offset);
+        offset = writeTwoDigits(nano / 100 % 100, buffer, offset);
+        offset = writeTwoDigits(nano % 100, buffer, offset);
+        while (buffer[offset - 1] == '0') {
+            offset--;
+        }
+        return offset;
+    }
+
+    private static int writeTwoDigits(int value, char[] buffer, int offset) {
+        buffer[offset] = TENS[value];
+        buffer[offset + 1] = ONES[value];
+        return offset + 2;
+    }
+}
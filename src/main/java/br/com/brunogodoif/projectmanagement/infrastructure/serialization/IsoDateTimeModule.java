@@ -0,0 +1,27 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.serialization;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Replaces the JavaTimeModule serializers of the date types every response carries with writers that skip
+ * {@code DateTimeFormatter}. Must be registered after JavaTimeModule, which still handles deserialization.
+ */
+public class IsoDateTimeModule extends SimpleModule {
+
+    public IsoDateTimeModule() {
+        super(IsoDateTimeModule.class.getSimpleName());
+        addSerializer(LocalDate.class, IsoLocalDateSerializer.INSTANCE);
+        addSerializer(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE);
+    }
+
+    static boolean hasFormatOverride(JsonFormat.Value format) {
+        JsonFormat.Shape shape = format.getShape();
+        return format.hasPattern() || format.hasLocale() || format.hasTimeZone()
+                || (shape != JsonFormat.Shape.ANY && shape != JsonFormat.Shape.STRING)
+                || format.getFeature(JsonFormat.Feature.WRITE_DATES_WITH_ZONE_ID) != null;
+    }
+}
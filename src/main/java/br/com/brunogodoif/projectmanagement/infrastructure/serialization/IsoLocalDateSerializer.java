@@ -0,0 +1,55 @@
+package br.com.brunogodoif.projectmanagement.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * ISO-8601 text for {@link LocalDate}, identical to the JavaTimeModule output. Timestamps, {@code @JsonFormat}
+ * overrides and signed years are handed to the JavaTimeModule serializer.
+ */
+public class IsoLocalDateSerializer extends StdSerializer<LocalDate> implements ContextualSerializer {
+
+    public static final IsoLocalDateSerializer INSTANCE = new IsoLocalDateSerializer();
+
+    private IsoLocalDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || !IsoDateChars.isFourDigitYear(value.getYear())) {
+            LocalDateSerializer.INSTANCE.serialize(value, generator, provider);
+            return;
+        }
+
+        char[] buffer = new char[IsoDateChars.DATE_LENGTH];
+        generator.writeString(buffer, 0, IsoDateChars.writeDate(value, buffer, 0));
+    }
+
+    @Override
+    public void serializeWithType(LocalDate value, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        LocalDateSerializer.INSTANCE.serializeWithType(value, generator, provider, typeSerializer);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (IsoDateTimeModule.hasFormatOverride(findFormatOverrides(provider, property, handledType()))) {
+            return LocalDateSerializer.INSTANCE.createContextual(provider, property);
+        }
+        return this;
+    }
+}
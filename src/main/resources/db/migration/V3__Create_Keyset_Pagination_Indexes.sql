@@ -0,0 +1,6 @@
+-- Índices para paginação por cursor (keyset) em (created_at, id)
+CREATE INDEX idx_projects_active_keyset ON projects (created_at, id) WHERE is_deleted = false;
+CREATE INDEX idx_projects_status_keyset ON projects (status, created_at, id) WHERE is_deleted = false;
+CREATE INDEX idx_projects_client_keyset ON projects (client_id, created_at, id) WHERE is_deleted = false;
+CREATE INDEX idx_clients_active_keyset ON clients (created_at, id) WHERE active = true;
+CREATE INDEX idx_activities_project_keyset ON activities (project_id, created_at, id);
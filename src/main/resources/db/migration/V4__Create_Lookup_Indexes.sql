@@ -0,0 +1,4 @@
+-- Índices para as consultas dos repositórios e para as chaves estrangeiras com ON DELETE CASCADE
+CREATE INDEX idx_projects_client_id ON projects (client_id);
+CREATE INDEX idx_activities_project_pending ON activities (project_id, created_at) WHERE completed = false;
+CREATE INDEX idx_user_roles_user_id ON user_roles (user_id);
@@ -0,0 +1,26 @@
+-- Contadores de atividades por projeto, mantidos incrementalmente pelos casos de uso.
+-- Cada projeto tem até N linhas (slot) para que escritas concorrentes não disputem a mesma linha;
+-- a leitura soma os slots.
+CREATE TABLE project_stats (
+                               project_id UUID NOT NULL,
+                               slot SMALLINT NOT NULL,
+                               activity_count BIGINT NOT NULL DEFAULT 0,
+                               completed_count BIGINT NOT NULL DEFAULT 0,
+                               total_hours BIGINT NOT NULL DEFAULT 0,
+                               remaining_hours BIGINT NOT NULL DEFAULT 0,
+                               last_activity_at TIMESTAMP,
+                               PRIMARY KEY (project_id, slot),
+                               FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+INSERT INTO project_stats (project_id, slot, activity_count, completed_count, total_hours, remaining_hours,
+                           last_activity_at)
+SELECT project_id,
+       0,
+       count(*),
+       count(*) FILTER (WHERE completed),
+       coalesce(sum(estimated_hours), 0),
+       coalesce(sum(estimated_hours) FILTER (WHERE NOT coalesce(completed, false)), 0),
+       max(updated_at)
+FROM activities
+GROUP BY project_id;
@@ -0,0 +1,80 @@
+-- Painel do portfólio pré-agregado por dimensão (total, status, cliente e gerente).
+-- A view é atualizada com REFRESH MATERIALIZED VIEW CONCURRENTLY, que exige o índice único.
+CREATE MATERIALIZED VIEW portfolio_dashboard AS
+WITH project_activity AS (SELECT p.id,
+                                 p.status,
+                                 p.client_id,
+                                 c.name AS client_name,
+                                 p.manager,
+                                 coalesce(sum(a.estimated_hours) FILTER (WHERE NOT coalesce(a.completed, false)),
+                                          0) AS open_hours,
+                                 count(a.id) FILTER (WHERE NOT coalesce(a.completed, false)
+                                     AND a.due_date < current_date) AS overdue_activities
+                          FROM projects p
+                                   JOIN clients c ON c.id = p.client_id
+                                   LEFT JOIN activities a ON a.project_id = p.id
+                          WHERE NOT coalesce(p.is_deleted, false)
+                          GROUP BY p.id, c.name)
+SELECT CASE
+           WHEN grouping(status) = 0 THEN 'STATUS'
+           WHEN grouping(client_id) = 0 THEN 'CLIENT'
+           WHEN grouping(manager) = 0 THEN 'MANAGER'
+           ELSE 'TOTAL'
+           END AS dimension,
+       CASE
+           WHEN grouping(status) = 0 THEN status
+           WHEN grouping(client_id) = 0 THEN client_id::text
+           ELSE coalesce(manager, '')
+           END AS dimension_key,
+       CASE
+           WHEN grouping(status) = 0 THEN status
+           WHEN grouping(client_id) = 0 THEN client_name
+           ELSE manager
+           END AS label,
+       count(*) AS project_count,
+       sum(open_hours)::bigint AS open_hours,
+       sum(overdue_activities)::bigint AS overdue_activities
+FROM project_activity
+GROUP BY GROUPING SETS ((), (status), (client_id, client_name), (manager));
+
+CREATE UNIQUE INDEX ux_portfolio_dashboard_dimension_key ON portfolio_dashboard (dimension, dimension_key);
+CREATE INDEX idx_portfolio_dashboard_open_hours ON portfolio_dashboard (dimension, open_hours DESC);
+
+-- Toda escrita em clientes, projetos ou atividades avança a sequência; o job de atualização compara
+-- o valor atual com o da última atualização para saber se a view está desatualizada.
+CREATE SEQUENCE portfolio_dashboard_changes;
+
+CREATE FUNCTION portfolio_dashboard_touch() RETURNS trigger AS
+$$
+BEGIN
+    PERFORM nextval('portfolio_dashboard_changes');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_clients_portfolio_dashboard
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON clients
+    FOR EACH STATEMENT
+EXECUTE FUNCTION portfolio_dashboard_touch();
+
+CREATE TRIGGER trg_projects_portfolio_dashboard
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON projects
+    FOR EACH STATEMENT
+EXECUTE FUNCTION portfolio_dashboard_touch();
+
+CREATE TRIGGER trg_activities_portfolio_dashboard
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON activities
+    FOR EACH STATEMENT
+EXECUTE FUNCTION portfolio_dashboard_touch();
+
+CREATE TABLE portfolio_dashboard_refresh (
+                                             id SMALLINT PRIMARY KEY CHECK (id = 1),
+                                             refreshed_at TIMESTAMP NOT NULL,
+                                             change_count BIGINT NOT NULL
+);
+
+INSERT INTO portfolio_dashboard_refresh (id, refreshed_at, change_count)
+VALUES (1, now(), nextval('portfolio_dashboard_changes'));
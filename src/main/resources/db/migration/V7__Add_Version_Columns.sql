@@ -0,0 +1,5 @@
+-- Versão para controle de concorrência otimista: o UPDATE só vale para a versão lida,
+-- então edições concorrentes falham em vez de sobrescrever umas às outras sem bloquear leitores.
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE activities ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
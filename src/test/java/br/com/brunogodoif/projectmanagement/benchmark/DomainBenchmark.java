@@ -0,0 +1,74 @@
+package br.com.brunogodoif.projectmanagement.benchmark;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.domain.utils.ValidationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the validating domain constructors and of the email check they run, which every mapped row and every
+ * request goes through.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DomainBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBenchmark {
+
+    private UUID id;
+    private LocalDate today;
+    private LocalDateTime now;
+    private Client client;
+    private Project project;
+
+    @Setup
+    public void setup() {
+        id = UUID.randomUUID();
+        today = LocalDate.now();
+        now = LocalDateTime.now();
+        client = newClient();
+        project = newProject();
+    }
+
+    @Benchmark
+    public boolean isValidEmail(EmailState state) {
+        return ValidationUtils.isValidEmail(state.email);
+    }
+
+    @Benchmark
+    public Client newClient() {
+        return new Client(id, "Empresa Teste LTDA", "contato@empresateste.com.br", "(11) 4321-8765",
+                          "Empresa Teste Soluções", "Av. Paulista, 1000, São Paulo-SP", now, now, true);
+    }
+
+    @Benchmark
+    public Project newProject() {
+        return new Project(id, "Projeto Teste", "Descrição do projeto de teste", client, today, today.plusMonths(3),
+                           ProjectStatus.IN_PROGRESS, "Gerente Teste", "Notas do projeto", false, now, now);
+    }
+
+    @Benchmark
+    public Activity newActivity() {
+        return new Activity(id, "Atividade Teste", "Descrição da atividade", project, today.plusDays(7),
+                            "Desenvolvedor Teste", false, "MEDIA", 8, now, now);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmailState {
+
+        @Param({"contato@empresateste.com.br", "nome.sobrenome-muito.longo@subdominio.empresa-exemplo.com.br",
+                "email-invalido@"})
+        private String email;
+    }
+}
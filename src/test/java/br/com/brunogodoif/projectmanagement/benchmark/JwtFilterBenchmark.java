@@ -0,0 +1,77 @@
+package br.com.brunogodoif.projectmanagement.benchmark;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.security.JwtTokenProvider;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.TokenRevocationRegistry;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification cost per request in JwtAuthenticationFilter: the former validateToken + getUsernameFromToken
+ * pair (parser built and signature checked twice) against parseAndVerify with and without the claims cache.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "3778214125442A472D4B6150645367566B59703373367639792F423F4528482B";
+
+    private Key key;
+    private String token;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        uncachedProvider = provider(0);
+        cachedProvider = provider(10_000);
+
+        UserDetailsImpl user = new UserDetailsImpl(UUID.randomUUID(), "admin", "admin@teste.com.br", "senha",
+                                                   List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), true);
+        token = cachedProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null,
+                                                                                     user.getAuthorities()));
+    }
+
+    @Benchmark
+    public String validateThenGetUsername() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseAndVerifyUncached() {
+        return uncachedProvider.parseAndVerify(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    @Benchmark
+    public String parseAndVerifyCached() {
+        return cachedProvider.parseAndVerify(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    private JwtTokenProvider provider(long claimsCacheMaxSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new TokenRevocationRegistry(86_400_000L));
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(provider, "tokenVersion", 1);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", claimsCacheMaxSize);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.brunogodoif.projectmanagement.benchmark;
+
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ClientResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ActivityMapper;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ActivityMapperImpl;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ClientMapper;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ClientMapperImpl;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapper;
+import br.com.brunogodoif.projectmanagement.infrastructure.mappers.ProjectMapperImpl;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ActivityEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to domain and domain to response mapping of the three MapStruct mappers, per list size. Activities point
+ * to a few distinct projects, so toDomain walks activity -> project -> client as the gateways do.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MapperBenchmark}; the gc profiler reports the
+ * allocation rate next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ClientMapper clientMapper;
+    private ProjectMapper projectMapper;
+    private ActivityMapper activityMapper;
+
+    private List<ClientEntity> clientEntities;
+    private List<ProjectEntity> projectEntities;
+    private List<ActivityEntity> activityEntities;
+    private List<Client> clients;
+    private List<Project> projects;
+    private List<Activity> activities;
+
+    @Setup
+    public void setup() {
+        clientMapper = new ClientMapperImpl();
+        projectMapper = new ProjectMapperImpl();
+        ReflectionTestUtils.setField(projectMapper, "clientMapper", clientMapper);
+        activityMapper = new ActivityMapperImpl();
+        activityMapper.setProjectMapper(projectMapper);
+
+        clientEntities = new ArrayList<>(size);
+        projectEntities = new ArrayList<>(size);
+        activityEntities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ClientEntity client = clientEntity(i);
+            ProjectEntity project = projectEntity(i, client);
+            clientEntities.add(client);
+            projectEntities.add(project);
+            activityEntities.add(activityEntity(i, projectEntities.get(i % Math.min(size, 10))));
+        }
+
+        clients = clientMapper.toDomainList(clientEntities);
+        projects = projectMapper.toDomainList(projectEntities);
+        activities = activityMapper.toDomainList(activityEntities);
+    }
+
+    @Benchmark
+    public List<Client> clientToDomainList() {
+        return clientMapper.toDomainList(clientEntities);
+    }
+
+    @Benchmark
+    public List<Project> projectToDomainList() {
+        return projectMapper.toDomainList(projectEntities);
+    }
+
+    @Benchmark
+    public List<Activity> activityToDomainList() {
+        return activityMapper.toDomainList(activityEntities);
+    }
+
+    @Benchmark
+    public Activity activityToDomain() {
+        return activityMapper.toDomain(activityEntities.get(0));
+    }
+
+    @Benchmark
+    public List<ClientResponse> clientToResponseList() {
+        return clientMapper.toResponseList(clients);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projectToResponseList() {
+        return projectMapper.toResponseList(projects);
+    }
+
+    @Benchmark
+    public List<ActivityResponse> activityToResponseList() {
+        return activityMapper.toResponseList(activities);
+    }
+
+    private ClientEntity clientEntity(int i) {
+        ClientEntity entity = new ClientEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setName("Cliente " + i);
+        entity.setEmail("cliente" + i + "@empresa.com.br");
+        entity.setPhone("(11) 4321-8765");
+        entity.setCompanyName("Cliente " + i + " LTDA");
+        entity.setAddress("Av. Paulista, 1000, São Paulo-SP");
+        entity.setCreatedAt(LocalDateTime.now());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    private ProjectEntity projectEntity(int i, ClientEntity client) {
+        ProjectEntity entity = new ProjectEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setName("Projeto " + i);
+        entity.setDescription("Descrição do projeto " + i);
+        entity.setClient(client);
+        entity.setStartDate(LocalDate.now());
+        entity.setEndDate(LocalDate.now().plusMonths(3));
+        entity.setStatus(ProjectStatus.IN_PROGRESS);
+        entity.setManager("Gerente " + i);
+        entity.setNotes("Notas do projeto");
+        entity.setCreatedAt(LocalDateTime.now());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    private ActivityEntity activityEntity(int i, ProjectEntity project) {
+        ActivityEntity entity = new ActivityEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setTitle("Atividade " + i);
+        entity.setDescription("Descrição da atividade " + i);
+        entity.setProject(project);
+        entity.setDueDate(LocalDate.now().plusDays(7));
+        entity.setAssignedTo("Desenvolvedor " + i);
+        entity.setPriority("MEDIA");
+        entity.setEstimatedHours(8);
+        entity.setCreatedAt(LocalDateTime.now());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.brunogodoif.projectmanagement.benchmark;
+
+import br.com.brunogodoif.projectmanagement.configuration.JacksonConfiguration;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ActivityResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.ProjectDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of GET /api/projects/{id}, per number of activities, with the ObjectMapper Spring Boot builds
+ * before ({@code plain}) and after ({@code accelerated}) the JacksonConfiguration tuning.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProjectDetailSerializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectDetailSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int activities;
+
+    @Param({"plain", "accelerated"})
+    private String mapper;
+
+    private ObjectWriter writer;
+    private ProjectDetailResponse response;
+
+    @Setup
+    public void setup() {
+        writer = objectMapper("accelerated".equals(mapper)).writerFor(ProjectDetailResponse.class);
+
+        UUID projectId = UUID.randomUUID();
+        List<ActivityResponse> activityResponses = new ArrayList<>(activities);
+        for (int i = 0; i < activities; i++) {
+            activityResponses.add(new ActivityResponse(UUID.randomUUID(), "Atividade " + i,
+                                                       "Descrição da atividade " + i, projectId, "Projeto Teste",
+                                                       LocalDate.now().plusDays(i % 30), "Desenvolvedor " + i % 5,
+                                                       i % 3 == 0, "MEDIA", 8, LocalDateTime.now(),
+                                                       LocalDateTime.now(), 0));
+        }
+
+        response = new ProjectDetailResponse(projectId, "Projeto Teste", "Descrição do projeto de teste",
+                                             UUID.randomUUID(), "Empresa Teste LTDA", LocalDate.now(),
+                                             LocalDate.now().plusMonths(3), ProjectStatus.IN_PROGRESS,
+                                             "Gerente Teste", "Notas do projeto", activityResponses,
+                                             LocalDateTime.now(), LocalDateTime.now(), 0);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    private static ObjectMapper objectMapper(boolean accelerated) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfiguration(accelerated, false).jsonSerializationCustomizer().customize(builder);
+        return builder.build();
+    }
+}
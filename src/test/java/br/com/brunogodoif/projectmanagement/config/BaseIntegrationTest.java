@@ -4,9 +4,15 @@ package br.com.brunogodoif.projectmanagement.config;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.AuthRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.UserRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.TokenResponse;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementLog;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementRecorder;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -20,7 +26,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +38,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 public abstract class BaseIntegrationTest {
 
+    private static final int REPEATED_STATEMENT_THRESHOLD = 3;
+
     private static final PostgreSQLContainer<?> postgreSQLContainer;
 
     static {
@@ -57,6 +67,51 @@ public abstract class BaseIntegrationTest {
     @Autowired(required = false)
     protected UserRepository userRepository;
 
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected SqlStatementRecorder sqlStatementRecorder;
+
+    protected long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        long before = statistics.getPrepareStatementCount();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount() - before;
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    protected SqlStatementLog recordStatements(SqlAction action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        try (SqlStatementLog statements = sqlStatementRecorder.start()) {
+            action.run();
+            return statements;
+        }
+    }
+
+    protected void assertStatementBudget(int budget, SqlAction action) throws Exception {
+        SqlStatementLog statements = recordStatements(action);
+
+        Map<String, Long> repeated = statements.repeatedShapes(REPEATED_STATEMENT_THRESHOLD);
+        if (!repeated.isEmpty()) {
+            fail("Possível N+1, instruções repetidas: " + repeated);
+        }
+        if (statements.count() > budget) {
+            fail("Esperado no máximo " + budget + " instruções SQL, executadas " + statements.count() + ": "
+                 + String.join(System.lineSeparator(), statements.getStatements()));
+        }
+    }
+
     protected String createAndLoginAdminUser() throws Exception {
         checkMockMvcAndObjectMapper();
 
@@ -126,4 +181,9 @@ public abstract class BaseIntegrationTest {
                     "MockMvc ou ObjectMapper não foram injetados. Verifique se a classe de teste está anotada com @AutoConfigureMockMvc.");
         }
     }
+
+    @FunctionalInterface
+    protected interface SqlAction {
+        void run() throws Exception;
+    }
 }
\ No newline at end of file
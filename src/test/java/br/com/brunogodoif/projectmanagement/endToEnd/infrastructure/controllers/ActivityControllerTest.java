@@ -3,6 +3,7 @@ package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.BatchRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
@@ -14,11 +15,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
@@ -183,6 +186,28 @@ public class ActivityControllerTest extends BaseIntegrationTest {
                .andExpect(jsonPath("$.status").exists()); // Verifica apenas se há status de erro
     }
 
+    @Test
+    @DisplayName("Deve criar atividades em lote com usuário comum reportando projeto inexistente")
+    void shouldCreateActivitiesBatchReportingNonExistentProject() throws Exception {
+        UUID unknownProjectId = UUID.randomUUID();
+        BatchRequest<ActivityRequest> request = new BatchRequest<>(List.of(
+                new ActivityRequest("Tarefa Um", "Primeira tarefa do lote", projectId, LocalDate.now().plusWeeks(1),
+                                    "Ana Desenvolvedora", false, "MEDIA", 4),
+                new ActivityRequest("Tarefa Órfã", "Tarefa sem projeto", unknownProjectId,
+                                    LocalDate.now().plusWeeks(1), "Ana Desenvolvedora", false, "BAIXA", 2),
+                new ActivityRequest("Tarefa Dois", "Segunda tarefa do lote", projectId, LocalDate.now().plusWeeks(2),
+                                    "Pedro Desenvolvedor", false, "ALTA", 8)));
+
+        mockMvc.perform(post("/api/activities/batch").header("Authorization", "Bearer " + authToken)
+                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                     .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isMultiStatus()).andExpect(jsonPath("$.succeeded", is(2)))
+               .andExpect(jsonPath("$.failed", is(1)))
+               .andExpect(jsonPath("$.items[0].data.title", is("Tarefa Um")))
+               .andExpect(jsonPath("$.items[1].error", is("Project not found with ID: " + unknownProjectId)))
+               .andExpect(jsonPath("$.items[2].data.projectId", is(projectId.toString())));
+    }
+
     @Test
     @DisplayName("Deve recuperar atividade com usuário comum")
     void shouldFailWhenRetrieveActivityWithNormalUser() throws Exception {
@@ -222,8 +247,43 @@ public class ActivityControllerTest extends BaseIntegrationTest {
     void shouldListActivitiesByProjectSuccessfully() throws Exception {
         mockMvc.perform(get("/api/activities/project/{projectId}", projectId).header("Authorization",
                                                                                      "Bearer " + authTokenAdmin))
-               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
-               .andExpect(jsonPath("$[0].projectId", is(projectId.toString())));
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(1))))
+               .andExpect(jsonPath("$.items[0].projectId", is(projectId.toString())));
+    }
+
+    @Test
+    @DisplayName("Deve listar atividades por projeto dentro do orçamento de instruções SQL")
+    void shouldListActivitiesByProjectWithinStatementBudget() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            ActivityRequest request = new ActivityRequest("Atividade " + i, "Atividade adicional do projeto",
+                                                          projectId, LocalDate.now().plusDays(i + 1),
+                                                          "Pedro Desenvolvedor", false, "MEDIA", 4);
+
+            mockMvc.perform(post("/api/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(objectMapper.writeValueAsString(request)))
+                   .andExpect(status().isCreated());
+        }
+
+        assertStatementBudget(3, () -> mockMvc.perform(get("/api/activities/project/{projectId}", projectId)
+                                                                  .header("Authorization", "Bearer " + authTokenAdmin))
+                                              .andExpect(status().isOk())
+                                              .andExpect(jsonPath("$.items", hasSize(6))));
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas os campos pedidos das atividades do projeto")
+    void shouldListOnlyRequestedActivityFields() throws Exception {
+        assertStatementBudget(2, () -> mockMvc.perform(get("/api/activities/project/{projectId}", projectId)
+                                                                  .param("fields", "title,completed,projectName")
+                                                                  .header("Authorization", "Bearer " + authTokenAdmin))
+                                              .andExpect(status().isOk())
+                                              .andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(1))))
+                                              .andExpect(jsonPath("$.items[0].title").exists())
+                                              .andExpect(jsonPath("$.items[0].completed").exists())
+                                              .andExpect(jsonPath("$.items[0].projectName").exists())
+                                              .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                                              .andExpect(jsonPath("$.items[0].dueDate").doesNotExist()));
     }
 
     @Test
@@ -242,6 +302,7 @@ public class ActivityControllerTest extends BaseIntegrationTest {
         );
 
         mockMvc.perform(put("/api/activities/{id}", activityId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                               .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                                .contentType(MediaType.APPLICATION_JSON)
                                                                .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().isOk()).andExpect(jsonPath("$.id", is(activityId.toString())))
@@ -264,6 +325,7 @@ public class ActivityControllerTest extends BaseIntegrationTest {
                                                             20);
 
         mockMvc.perform(put("/api/activities/{id}", nonExistentId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                                  .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                                   .contentType(MediaType.APPLICATION_JSON)
                                                                   .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().is4xxClientError()) // Aceita qualquer erro 4xx
@@ -1,6 +1,7 @@
 package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
 
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.BatchRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,14 +10,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -104,6 +109,52 @@ public class ClientControllerTest extends BaseIntegrationTest {
                .andExpect(jsonPath("$.error", is("Validation Error")));
     }
 
+    @Test
+    @DisplayName("Deve criar clientes em lote com sucesso")
+    void shouldCreateClientsBatchSuccessfully() throws Exception {
+        BatchRequest<ClientRequest> request = new BatchRequest<>(List.of(
+                new ClientRequest("Cliente Lote Um", "um@lote.com.br", "(11) 1111-1111", "Lote Um", "Rua A, 1", true),
+                new ClientRequest("Cliente Lote Dois", "dois@lote.com.br", "(11) 2222-2222", "Lote Dois", "Rua B, 2",
+                                  true)));
+
+        mockMvc.perform(post("/api/clients/batch").header("Authorization", "Bearer " + authTokenAdmin)
+                                                  .contentType(MediaType.APPLICATION_JSON)
+                                                  .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isCreated()).andExpect(jsonPath("$.succeeded", is(2)))
+               .andExpect(jsonPath("$.failed", is(0))).andExpect(jsonPath("$.items", hasSize(2)))
+               .andExpect(jsonPath("$.items[0].index", is(0)))
+               .andExpect(jsonPath("$.items[0].data.email", is("um@lote.com.br")))
+               .andExpect(jsonPath("$.items[1].data.id", notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar multi-status quando parte do lote de clientes falha")
+    void shouldReturnMultiStatusWhenPartOfClientsBatchFails() throws Exception {
+        BatchRequest<ClientRequest> request = new BatchRequest<>(List.of(
+                new ClientRequest("Cliente Lote Um", "um@lote.com.br", "(11) 1111-1111", "Lote Um", "Rua A, 1", true),
+                new ClientRequest("Cliente Repetido", "contato@empresateste.com.br", "(11) 2222-2222", "Repetido",
+                                  "Rua B, 2", true)));
+
+        mockMvc.perform(post("/api/clients/batch").header("Authorization", "Bearer " + authTokenAdmin)
+                                                  .contentType(MediaType.APPLICATION_JSON)
+                                                  .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isMultiStatus()).andExpect(jsonPath("$.succeeded", is(1)))
+               .andExpect(jsonPath("$.failed", is(1)))
+               .andExpect(jsonPath("$.items[1].data").doesNotExist())
+               .andExpect(jsonPath("$.items[1].error",
+                                   is("Client with email contato@empresateste.com.br already exists")));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao criar lote de clientes vazio")
+    void shouldFailWhenCreatingEmptyClientsBatch() throws Exception {
+        mockMvc.perform(post("/api/clients/batch").header("Authorization", "Bearer " + authTokenAdmin)
+                                                  .contentType(MediaType.APPLICATION_JSON)
+                                                  .content(objectMapper.writeValueAsString(
+                                                          new BatchRequest<ClientRequest>(List.of()))))
+               .andExpect(status().isBadRequest()).andExpect(jsonPath("$.status", is(400)));
+    }
+
     @Test
     @DisplayName("Deve falhar ao criar cliente com usuário sem permissão")
     void shouldFailWhenCreatingClientWithoutAdminRole() throws Exception {
@@ -167,8 +218,24 @@ public class ClientControllerTest extends BaseIntegrationTest {
 
         // Listar todos os clientes
         mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)) // Usar token de admin
-               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(2))))
-               .andExpect(jsonPath("$[*].name", hasItems("Empresa de Teste LTDA", "Outro Cliente LTDA")));
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(2))))
+               .andExpect(jsonPath("$.items[*].name", hasItems("Empresa de Teste LTDA", "Outro Cliente LTDA")));
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas os campos pedidos dos clientes")
+    void shouldListOnlyRequestedClientFields() throws Exception {
+        mockMvc.perform(get("/api/clients").param("fields", "name,email")
+                                           .header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.items[*].name", hasItem("Empresa de Teste LTDA")))
+               .andExpect(jsonPath("$.items[0].email").exists())
+               .andExpect(jsonPath("$.items[0].address").doesNotExist())
+               .andExpect(jsonPath("$.items[0].version").doesNotExist());
+
+        mockMvc.perform(get("/api/clients").param("fields", "projects")
+                                           .header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -179,6 +246,69 @@ public class ClientControllerTest extends BaseIntegrationTest {
                .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("Deve responder 304 para o cliente até que ele seja alterado")
+    void shouldAnswerNotModifiedClientUntilClientChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/clients/{id}", clientId).header("Authorization",
+                                                                                "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clients/{id}", clientId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                          .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(""));
+
+        ClientRequest updateRequest = new ClientRequest("Empresa de Teste Renomeada LTDA",
+                                                        "contato@empresateste.com.br",
+                                                        "(11) 4321-8765",
+                                                        "Empresa Teste Soluções",
+                                                        "Av. Paulista, 1000, São Paulo-SP",
+                                                        true);
+        String updatedEtag = mockMvc.perform(put("/api/clients/{id}", clientId)
+                                                     .header("Authorization", "Bearer " + authTokenAdmin)
+                                                     .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                     .content(objectMapper.writeValueAsString(updateRequest)))
+                                    .andExpect(status().isOk())
+                                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clients/{id}", clientId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                          .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, updatedEtag))
+               .andExpect(jsonPath("$.name", is("Empresa de Teste Renomeada LTDA")));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para a página de clientes até que um cliente seja criado")
+    void shouldAnswerNotModifiedClientsPageUntilClientCreated() throws Exception {
+        String etag = mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                           .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isNotModified());
+
+        ClientRequest clientRequest = new ClientRequest("Outra Empresa LTDA",
+                                                        "contato@outraempresa.com.br",
+                                                        "(11) 3000-1000",
+                                                        "Outra Empresa",
+                                                        "Rua Augusta, 500, São Paulo-SP",
+                                                        true);
+        mockMvc.perform(post("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(clientRequest)))
+               .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                           .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.items[*].name", hasItem("Outra Empresa LTDA")));
+    }
+
     @Test
     @DisplayName("Deve atualizar cliente com sucesso")
     void shouldUpdateClientSuccessfully() throws Exception {
@@ -190,6 +320,7 @@ public class ClientControllerTest extends BaseIntegrationTest {
                                                         true);
 
         mockMvc.perform(put("/api/clients/{id}", clientId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                          .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                           .contentType(MediaType.APPLICATION_JSON)
                                                           .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().isOk()).andExpect(jsonPath("$.id", is(clientId.toString())))
@@ -210,6 +341,7 @@ public class ClientControllerTest extends BaseIntegrationTest {
 
         mockMvc.perform(put("/api/clients/{id}", clientId).header("Authorization",
                                                                   "Bearer " + authToken) // Token de usuário comum
+                                                          .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                           .contentType(MediaType.APPLICATION_JSON)
                                                           .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().isForbidden());
@@ -228,6 +360,7 @@ public class ClientControllerTest extends BaseIntegrationTest {
                                                         true);
 
         mockMvc.perform(put("/api/clients/{id}", nonExistentId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                               .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                                .contentType(MediaType.APPLICATION_JSON)
                                                                .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().is4xxClientError()) // Aceita qualquer erro 4xx
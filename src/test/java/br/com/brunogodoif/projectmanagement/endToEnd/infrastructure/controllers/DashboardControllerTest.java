@@ -0,0 +1,128 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+public class DashboardControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private UUID clientId;
+    private String authToken;
+    private String authTokenAdmin;
+
+    @BeforeEach
+    void setup() throws Exception {
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        authTokenAdmin = createAndLoginAdminUser();
+        authToken = createAndLoginNormalUser();
+
+        ClientRequest clientRequest = new ClientRequest("Empresa de Teste LTDA",
+                                                        "contato@empresateste.com.br",
+                                                        "(11) 4321-8765",
+                                                        "Empresa Teste Soluções",
+                                                        "Av. Paulista, 1000, São Paulo-SP",
+                                                        true);
+
+        MvcResult clientResult = mockMvc.perform(post("/api/clients").header("Authorization",
+                                                                             "Bearer " + authTokenAdmin)
+                                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(
+                                                                             clientRequest)))
+                                        .andExpect(status().isCreated()).andReturn();
+        clientId = UUID.fromString(objectMapper.readTree(clientResult.getResponse().getContentAsString())
+                                               .get("id").asText());
+
+        ProjectRequest projectRequest = new ProjectRequest("Portal Institucional",
+                                                           "Desenvolvimento do portal institucional da empresa",
+                                                           clientId,
+                                                           LocalDate.now(),
+                                                           LocalDate.now().plusMonths(3),
+                                                           ProjectStatus.IN_PROGRESS,
+                                                           "Carlos Gerente",
+                                                           "Projeto prioritário para o trimestre");
+
+        MvcResult projectResult = mockMvc.perform(post("/api/projects").header("Authorization",
+                                                                               "Bearer " + authTokenAdmin)
+                                                                       .contentType(MediaType.APPLICATION_JSON)
+                                                                       .content(objectMapper.writeValueAsString(
+                                                                               projectRequest)))
+                                         .andExpect(status().isCreated()).andReturn();
+        UUID projectId = UUID.fromString(objectMapper.readTree(projectResult.getResponse().getContentAsString())
+                                                     .get("id").asText());
+
+        ActivityRequest activityRequest = new ActivityRequest("Implementar Autenticação",
+                                                              "Implementar sistema de autenticação com JWT",
+                                                              projectId,
+                                                              LocalDate.now().minusDays(1),
+                                                              "Pedro Desenvolvedor",
+                                                              false,
+                                                              "ALTA",
+                                                              12);
+
+        mockMvc.perform(post("/api/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                               .contentType(MediaType.APPLICATION_JSON)
+                                               .content(objectMapper.writeValueAsString(activityRequest)))
+               .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e retornar o painel do portfólio")
+    void shouldRefreshAndReturnPortfolioDashboard() throws Exception {
+        mockMvc.perform(post("/api/dashboard/portfolio/refresh").header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/dashboard/portfolio").header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.refreshedAt", notNullValue()))
+               .andExpect(jsonPath("$.total.projectCount", is(1)))
+               .andExpect(jsonPath("$.total.openHours", is(12)))
+               .andExpect(jsonPath("$.total.overdueActivities", is(1)))
+               .andExpect(jsonPath("$.byStatus[0].key", is(ProjectStatus.IN_PROGRESS.name())))
+               .andExpect(jsonPath("$.topClients[0].key", is(clientId.toString())))
+               .andExpect(jsonPath("$.topClients[0].label", is("Empresa de Teste LTDA")))
+               .andExpect(jsonPath("$.topManagers[0].label", is("Carlos Gerente")));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao atualizar o painel com usuário sem permissão")
+    void shouldFailWhenRefreshingDashboardWithoutAdminRole() throws Exception {
+        mockMvc.perform(post("/api/dashboard/portfolio/refresh").header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo")
+    void shouldRejectLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/dashboard/portfolio").param("limit", "0")
+                                                       .header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ActivityEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// O corpo da exportação é escrito em outra thread, que não enxerga a transação do teste
+@AutoConfigureMockMvc
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class ExportControllerTest extends BaseIntegrationTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private String authToken;
+    private String authTokenAdmin;
+
+    @BeforeEach
+    void setup() throws Exception {
+        cleanup();
+
+        authTokenAdmin = createAndLoginAdminUser();
+        authToken = createAndLoginNormalUser();
+
+        ClientEntity client = new ClientEntity();
+        client.setId(UUID.randomUUID());
+        client.setName("Empresa de Teste LTDA");
+        client.setEmail("contato@empresateste.com.br");
+        client.setActive(true);
+        client = clientRepository.save(client);
+
+        for (int i = 1; i <= 3; i++) {
+            ProjectEntity project = new ProjectEntity();
+            project.setId(UUID.randomUUID());
+            project.setName("Projeto " + i);
+            project.setClient(client);
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setStartDate(LocalDate.of(2025, 1, i));
+            project.setDeleted(i == 3);
+            project = projectRepository.save(project);
+
+            ActivityEntity activity = new ActivityEntity();
+            activity.setId(UUID.randomUUID());
+            activity.setTitle("Atividade do projeto " + i);
+            activity.setProject(project);
+            activity.setPriority("HIGH");
+            activity.setEstimatedHours(8);
+            activityRepository.save(activity);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve exportar projetos ativos em NDJSON, um por linha")
+    void shouldExportActiveProjectsAsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export/projects").header("Authorization",
+                                                                               "Bearer " + authTokenAdmin)
+                                                                       .accept(NDJSON))
+                                   .andExpect(request().asyncStarted()).andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+                             .andExpect(content().contentType(NDJSON))
+                             .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                                                        containsString("projects.ndjson")))
+                             .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertEquals("Empresa de Teste LTDA", objectMapper.readTree(line).get("clientName").asText());
+        }
+        assertTrue(body.contains("\"startDate\":\"2025-01-01\""));
+    }
+
+    @Test
+    @DisplayName("Deve exportar atividades de projetos ativos em CSV com cabeçalho")
+    void shouldExportActivitiesAsCsvWithHeader() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export/activities").header("Authorization",
+                                                                                 "Bearer " + authTokenAdmin)
+                                                                         .accept(CSV))
+                                   .andExpect(request().asyncStarted()).andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+                             .andExpect(content().contentType(CSV))
+                             .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                                                        containsString("activities.csv")))
+                             .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,projectId,projectName"));
+        assertTrue(body.contains("Atividade do projeto 1"));
+        assertTrue(body.contains("Atividade do projeto 2"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao exportar com usuário sem permissão")
+    void shouldFailWhenExportingWithoutAdminRole() throws Exception {
+        mockMvc.perform(get("/api/export/projects").header("Authorization", "Bearer " + authToken).accept(NDJSON))
+               .andExpect(status().isForbidden());
+    }
+}
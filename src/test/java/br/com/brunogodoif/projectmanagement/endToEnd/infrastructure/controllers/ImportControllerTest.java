@@ -0,0 +1,160 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+public class ImportControllerTest extends BaseIntegrationTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private String authToken;
+    private String authTokenAdmin;
+
+    @BeforeEach
+    void setup() throws Exception {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        authTokenAdmin = createAndLoginAdminUser();
+        authToken = createAndLoginNormalUser();
+
+        ClientRequest clientRequest = new ClientRequest("Empresa de Teste LTDA",
+                                                        "contato@empresateste.com.br",
+                                                        "(11) 4321-8765",
+                                                        "Empresa Teste Soluções",
+                                                        "Av. Paulista, 1000, São Paulo-SP",
+                                                        true);
+
+        mockMvc.perform(post("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(clientRequest)))
+               .andExpect(status().isCreated());
+
+        // COPY escreve direto pela conexão JDBC, então o cliente precisa estar no banco antes da importação
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve importar clientes de CSV rejeitando linhas inválidas e e-mails repetidos")
+    void shouldImportClientsFromCsvRejectingInvalidRows() throws Exception {
+        String csv = """
+                name,email,phone,companyName,address,active
+                Cliente Um,um@legado.com.br,(11) 1111-1111,Um LTDA,"Rua A, 1",true
+                ,semnome@legado.com.br,,,,
+                Cliente Dois,dois@legado.com.br,,Dois LTDA,,false
+                Cliente Repetido,contato@empresateste.com.br,,,,
+                Cliente Três,"tres@legado.com.br",,"Três ""Aspas"" LTDA",,
+                """;
+
+        MvcResult result = mockMvc.perform(post("/api/import/clients").header("Authorization",
+                                                                              "Bearer " + authTokenAdmin)
+                                                                      .contentType(CSV).content(csv))
+                                  .andExpect(status().isOk()).andExpect(jsonPath("$.importId", notNullValue()))
+                                  .andExpect(jsonPath("$.accepted", is(3)))
+                                  .andExpect(jsonPath("$.rejected", is(2)))
+                                  .andExpect(jsonPath("$.errors", startsWith("/api/import/"))).andReturn();
+
+        assertEquals(4, clientRepository.count());
+        assertEquals("Três \"Aspas\" LTDA",
+                     clientRepository.findAll().stream().filter(c -> c.getEmail().equals("tres@legado.com.br"))
+                                     .findFirst().orElseThrow().getCompanyName());
+
+        String errorsUrl = objectMapper.readTree(result.getResponse().getContentAsString()).get("errors").asText();
+        mockMvc.perform(get(errorsUrl).header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk())
+               .andExpect(content().string(containsString("{\"line\":3,\"error\":\"Client name is required\"}")))
+               .andExpect(content().string(containsString(
+                       "{\"line\":5,\"error\":\"Client with email contato@empresateste.com.br already exists\"}")));
+    }
+
+    @Test
+    @DisplayName("Deve importar projetos e atividades de NDJSON resolvendo referências por e-mail e nome")
+    void shouldImportProjectsAndActivitiesFromNdjson() throws Exception {
+        String projects = """
+                {"name":"Migração ERP","clientEmail":"contato@empresateste.com.br","status":"OPEN","startDate":"2025-01-10"}
+                {"name":"Projeto Órfão","clientEmail":"naoexiste@legado.com.br","status":"OPEN"}
+                {"name":"Data Inválida","clientEmail":"contato@empresateste.com.br","status":"OPEN","startDate":"10/01/2025"}
+                {"name":"Portal Legado","clientEmail":"contato@empresateste.com.br","status":"IN_PROGRESS"}
+                """;
+
+        mockMvc.perform(post("/api/import/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                                    .contentType(NDJSON).content(projects))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.accepted", is(2)))
+               .andExpect(jsonPath("$.rejected", is(2)));
+
+        String activities = """
+                {"title":"Levantar requisitos","projectName":"Migração ERP","estimatedHours":12}
+                {"title":"Tarefa sem projeto","projectName":"Projeto Inexistente"}
+                {"title":"Publicar portal","projectName":"Portal Legado","completed":true,"priority":"ALTA"}
+                """;
+
+        mockMvc.perform(post("/api/import/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                                      .contentType(NDJSON).content(activities))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.accepted", is(2)))
+               .andExpect(jsonPath("$.rejected", is(1)));
+
+        assertEquals(2, projectRepository.count());
+        assertEquals(2, activityRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a importação quando o NDJSON está malformado")
+    void shouldStopImportWhenNdjsonIsMalformed() throws Exception {
+        String clients = """
+                {"name":"Cliente Um","email":"um@legado.com.br"}
+                {"name":"Cliente Quebrado",,}
+                {"name":"Cliente Dois","email":"dois@legado.com.br"}
+                """;
+
+        mockMvc.perform(post("/api/import/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                                   .contentType(NDJSON).content(clients))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.accepted", is(1)))
+               .andExpect(jsonPath("$.rejected", is(1)));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao importar com usuário sem permissão")
+    void shouldFailWhenImportingWithoutAdminRole() throws Exception {
+        mockMvc.perform(post("/api/import/clients").header("Authorization", "Bearer " + authToken)
+                                                   .contentType(CSV).content("name,email\nCliente,c@legado.com.br\n"))
+               .andExpect(status().isForbidden());
+    }
+}
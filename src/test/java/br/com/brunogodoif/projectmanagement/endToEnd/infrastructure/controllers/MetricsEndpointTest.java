@@ -0,0 +1,70 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsEndpointTest extends BaseIntegrationTest {
+
+    @Test
+    @DisplayName("Deve expor métricas no formato Prometheus apenas para administradores")
+    void shouldExposePrometheusMetricsToAdminsOnly() throws Exception {
+        // Arrange
+        String authTokenAdmin = createAndLoginAdminUser();
+        String authToken = createAndLoginNormalUser();
+        ClientRequest clientRequest = new ClientRequest("Empresa Medida LTDA",
+                                                        "medida@empresa.com.br",
+                                                        "(11) 4321-8765",
+                                                        "Empresa Medida",
+                                                        "Av. Paulista, 1000, São Paulo-SP",
+                                                        true);
+
+        mockMvc.perform(post("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(clientRequest)))
+               .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/clients/{id}", UUID.randomUUID()).header("Authorization",
+                                                                           "Bearer " + authTokenAdmin))
+               .andExpect(status().isNotFound());
+
+        // Act
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        String metrics = mockMvc.perform(get("/actuator/prometheus").header("Authorization",
+                                                                            "Bearer " + authTokenAdmin))
+                                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertTrue(metrics.contains("app_usecase_seconds_bucket{"));
+        assertTrue(metrics.contains("outcome=\"success\",usecase=\"CreateClientUseCase\""));
+        assertTrue(metrics.contains("outcome=\"not-found\",usecase=\"GetClientUseCase\""));
+        assertTrue(metrics.contains("gateway=\"ClientGateway\",method=\"create\",outcome=\"success\""));
+        List<Double> gatewayBuckets = metrics.lines().filter(line -> line.startsWith("app_gateway_seconds_bucket{"))
+                                             .map(line -> line.replaceAll(".*le=\"([^\"]+)\".*", "$1"))
+                                             .filter(le -> !le.equals("+Inf")).map(Double::valueOf).toList();
+        assertFalse(gatewayBuckets.isEmpty());
+        assertTrue(gatewayBuckets.stream().allMatch(le -> le <= 1.0), "Buckets do gateway devem parar em 1 s");
+        assertTrue(metrics.contains("app_jwt_validation_seconds_count{application=\"project-management\",outcome=\"success\"}"));
+        assertTrue(metrics.contains("cache=\"user-details\""));
+        assertTrue(metrics.contains("hikaricp_connections_active"));
+        assertTrue(metrics.contains("hibernate_statements_total"));
+        assertTrue(metrics.contains("jvm_memory_used_bytes"));
+    }
+}
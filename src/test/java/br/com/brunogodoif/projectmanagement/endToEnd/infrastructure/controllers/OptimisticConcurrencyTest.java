@@ -0,0 +1,247 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Sem a transação do teste, para que as requisições concorrentes disputem a mesma linha de verdade
+@AutoConfigureMockMvc
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class OptimisticConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 5;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private String authTokenAdmin;
+    private ClientEntity client;
+    private UUID clientId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        cleanup();
+
+        authTokenAdmin = createAndLoginAdminUser();
+
+        client = new ClientEntity();
+        client.setId(UUID.randomUUID());
+        client.setName("Empresa de Teste LTDA");
+        client.setEmail("contato@empresateste.com.br");
+        client.setActive(true);
+        client = clientRepository.save(client);
+        clientId = client.getId();
+
+        projectId = createProject("Portal Institucional");
+
+        // Aquece o cache de usuários para que a autenticação não entre na disputa
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar apenas uma de várias edições concorrentes feitas sobre a mesma versão")
+    void shouldAcceptOnlyOneConcurrentUpdateOfSameVersion() throws Exception {
+        // Act
+        Map<Integer, Long> statuses = updateConcurrently("\"0\"");
+
+        // Assert
+        assertEquals(Map.of(HttpStatus.OK.value(), 1L, HttpStatus.PRECONDITION_FAILED.value(), (long) WRITERS - 1),
+                     statuses);
+        assertEquals(1, projectRepository.findById(projectId).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Não deve perder atualizações concorrentes mesmo com If-Match curinga")
+    void shouldNotLoseConcurrentUnconditionalUpdates() throws Exception {
+        // Act
+        Map<Integer, Long> statuses = updateConcurrently("*");
+
+        // Assert
+        long accepted = statuses.getOrDefault(HttpStatus.OK.value(), 0L);
+        long rejected = statuses.getOrDefault(HttpStatus.PRECONDITION_FAILED.value(), 0L);
+        assertTrue(accepted >= 1, "Ao menos uma edição deve vencer: " + statuses);
+        assertEquals(WRITERS, accepted + rejected, "Somente 200 ou 412 são esperados: " + statuses);
+        assertEquals(accepted, projectRepository.findById(projectId).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve comparar a vazão de edições com nova tentativa na mesma linha e em linhas distintas")
+    void shouldCompareRetriedUpdateThroughputUnderContention(TestReporter reporter) throws Exception {
+        // Arrange
+        List<UUID> ownProjects = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            ownProjects.add(createProject("Projeto Independente " + i));
+        }
+
+        // Act
+        Throughput contended = updateWithRetries(writer -> projectId);
+        Throughput spread = updateWithRetries(ownProjects::get);
+
+        // Assert
+        assertEquals(WRITERS * UPDATES_PER_WRITER, projectRepository.findById(projectId).orElseThrow().getVersion());
+        for (UUID ownProject : ownProjects) {
+            assertEquals(UPDATES_PER_WRITER, projectRepository.findById(ownProject).orElseThrow().getVersion());
+        }
+        assertEquals(WRITERS * UPDATES_PER_WRITER, spread.attempts(), "Sem disputa nenhuma edição deve ser repetida");
+        assertTrue(contended.attempts() >= WRITERS * UPDATES_PER_WRITER);
+
+        reporter.publishEntry("mesma linha", contended.toString());
+        reporter.publishEntry("linhas distintas", spread.toString());
+    }
+
+    private UUID createProject(String name) {
+        ProjectEntity project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setName(name);
+        project.setClient(client);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    // Cada escritor lê o ETag atual e repete a edição enquanto receber 412, como um cliente real faria
+    private Throughput updateWithRetries(IntFunction<UUID> projectOfWriter) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        List<Future<Void>> results = new ArrayList<>();
+        long startedAt;
+        try (ExecutorService writers = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                UUID target = projectOfWriter.apply(i);
+                String body = objectMapper.writeValueAsString(new ProjectRequest("Portal Institucional - edição " + i,
+                                                                                 "Escopo revisado",
+                                                                                 clientId,
+                                                                                 LocalDate.now(),
+                                                                                 LocalDate.now().plusMonths(3),
+                                                                                 ProjectStatus.ON_HOLD,
+                                                                                 "Carlos Gerente",
+                                                                                 "Edição com nova tentativa " + i));
+                results.add(writers.submit(() -> {
+                    start.await();
+                    for (int update = 0; update < UPDATES_PER_WRITER; update++) {
+                        int status;
+                        do {
+                            attempts.incrementAndGet();
+                            String etag = mockMvc.perform(get("/api/projects/{id}", target)
+                                                                  .header("Authorization", "Bearer " + authTokenAdmin))
+                                                 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                            status = mockMvc.perform(put("/api/projects/{id}", target)
+                                                             .header("Authorization", "Bearer " + authTokenAdmin)
+                                                             .header(HttpHeaders.IF_MATCH, etag)
+                                                             .contentType(MediaType.APPLICATION_JSON)
+                                                             .content(body))
+                                            .andReturn().getResponse().getStatus();
+                        } while (status == HttpStatus.PRECONDITION_FAILED.value());
+                        assertEquals(HttpStatus.OK.value(), status);
+                    }
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        for (Future<Void> result : results) {
+            result.get();
+        }
+        return new Throughput(WRITERS * UPDATES_PER_WRITER, attempts.get(), elapsed);
+    }
+
+    private record Throughput(int updates, int attempts, Duration elapsed) {
+
+        @Override
+        public String toString() {
+            return String.format("%d edições em %d ms (%.1f/s), %d tentativas", updates, elapsed.toMillis(),
+                                 updates * 1000.0 / Math.max(elapsed.toMillis(), 1), attempts);
+        }
+    }
+
+    private Map<Integer, Long> updateConcurrently(String ifMatch) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService writers = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                ProjectRequest request = new ProjectRequest("Portal Institucional - edição " + i,
+                                                            "Escopo revisado",
+                                                            clientId,
+                                                            LocalDate.now(),
+                                                            LocalDate.now().plusMonths(3),
+                                                            ProjectStatus.ON_HOLD,
+                                                            "Carlos Gerente",
+                                                            "Edição concorrente " + i);
+                String body = objectMapper.writeValueAsString(request);
+                results.add(writers.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(put("/api/projects/{id}", projectId)
+                                                   .header("Authorization", "Bearer " + authTokenAdmin)
+                                                   .header(HttpHeaders.IF_MATCH, ifMatch)
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(body))
+                                  .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get());
+        }
+        return statuses.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
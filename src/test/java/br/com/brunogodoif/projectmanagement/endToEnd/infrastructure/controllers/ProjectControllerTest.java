@@ -2,8 +2,11 @@ package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers
 
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
 import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency.DatabaseAccessLimiter;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementLog;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,15 +15,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +50,9 @@ public class ProjectControllerTest extends BaseIntegrationTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private DatabaseAccessLimiter databaseAccessLimiter;
+
     private UUID clientId;
     private UUID projectId;
     private String authToken;
@@ -194,6 +207,55 @@ public class ProjectControllerTest extends BaseIntegrationTest {
                .andExpect(jsonPath("$.status").exists()); // Verifica apenas se há status de erro
     }
 
+    @Test
+    @DisplayName("Deve retornar o resumo de atividades do projeto")
+    void shouldReturnProjectSummary() throws Exception {
+        for (boolean completed : new boolean[]{false, true}) {
+            ActivityRequest activityRequest = new ActivityRequest("Implementar Autenticação",
+                                                                  "Implementar sistema de autenticação com JWT",
+                                                                  projectId,
+                                                                  LocalDate.now().minusDays(1),
+                                                                  "Pedro Desenvolvedor",
+                                                                  completed,
+                                                                  "ALTA",
+                                                                  16);
+
+            mockMvc.perform(post("/api/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(objectMapper.writeValueAsString(activityRequest)))
+                   .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/projects/{id}/summary", projectId).header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.projectId", is(projectId.toString())))
+               .andExpect(jsonPath("$.totalActivities", is(2)))
+               .andExpect(jsonPath("$.completedActivities", is(1)))
+               .andExpect(jsonPath("$.estimatedHours", is(32)))
+               .andExpect(jsonPath("$.openHours", is(16)))
+               .andExpect(jsonPath("$.overdueActivities", is(1)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumos de vários projetos em uma chamada")
+    void shouldReturnSummariesOfSeveralProjects() throws Exception {
+        UUID unknownId = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/projects/summary").param("ids", projectId + "," + unknownId)
+                                                    .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(2)))
+               .andExpect(jsonPath("$[0].projectId", is(projectId.toString())))
+               .andExpect(jsonPath("$[0].totalActivities", is(0)))
+               .andExpect(jsonPath("$[1].projectId", is(unknownId.toString())));
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao resumir projeto inexistente")
+    void shouldFailWhenSummarizingNonExistentProject() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/summary", UUID.randomUUID()).header("Authorization",
+                                                                                   "Bearer " + authTokenAdmin))
+               .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Deve listar todos os projetos ativos com sucesso quando autenticado como admin")
     void shouldListAllActiveProjectsSuccessfully() throws Exception {
@@ -214,8 +276,223 @@ public class ProjectControllerTest extends BaseIntegrationTest {
 
         // Listar todos os projetos
         mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + authTokenAdmin))
-               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(2))))
-               .andExpect(jsonPath("$[*].name", hasItems("Portal Institucional", "Aplicativo Mobile")));
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(2))))
+               .andExpect(jsonPath("$.items[*].name", hasItems("Portal Institucional", "Aplicativo Mobile")));
+    }
+
+    @Test
+    @DisplayName("Deve listar projetos dentro do orçamento de instruções SQL")
+    void shouldListProjectsWithinStatementBudget() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            ProjectRequest request = new ProjectRequest("Projeto " + i, "Projeto adicional do cliente", clientId,
+                                                        LocalDate.now(), LocalDate.now().plusMonths(2),
+                                                        ProjectStatus.OPEN, "Gerente " + i, "Notas");
+
+            mockMvc.perform(post("/api/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                                 .contentType(MediaType.APPLICATION_JSON)
+                                                 .content(objectMapper.writeValueAsString(request)))
+                   .andExpect(status().isCreated());
+        }
+
+        assertStatementBudget(3, () -> mockMvc.perform(get("/api/projects").header("Authorization",
+                                                                                    "Bearer " + authTokenAdmin))
+                                              .andExpect(status().isOk())
+                                              .andExpect(jsonPath("$.items", hasSize(6))));
+    }
+
+    @Test
+    @DisplayName("Deve recuperar projeto por ID dentro do orçamento de instruções SQL")
+    void shouldRetrieveProjectByIdWithinStatementBudget() throws Exception {
+        assertStatementBudget(4, () -> mockMvc.perform(get("/api/projects/{id}", projectId)
+                                                               .header("Authorization", "Bearer " + authTokenAdmin))
+                                              .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 com uma única instrução SQL quando o projeto não mudou")
+    void shouldAnswerNotModifiedProjectWithSingleStatement() throws Exception {
+        String etag = mockMvc.perform(get("/api/projects/{id}", projectId)
+                                              .header("Authorization", "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andExpect(header().exists(HttpHeaders.ETAG))
+                             .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertStatementBudget(1, () -> mockMvc.perform(get("/api/projects/{id}", projectId)
+                                                               .header("Authorization", "Bearer " + authTokenAdmin)
+                                                               .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                              .andExpect(status().isNotModified())
+                                              .andExpect(header().string(HttpHeaders.ETAG, etag))
+                                              .andExpect(content().string("")));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o projeto completo quando uma atividade foi adicionada desde o ETag")
+    void shouldReturnProjectWhenActivityAddedSinceEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/projects/{id}", projectId)
+                                              .header("Authorization", "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ActivityRequest activityRequest = new ActivityRequest("Levantar Requisitos",
+                                                              "Levantar requisitos com o cliente",
+                                                              projectId,
+                                                              LocalDate.now().plusDays(3),
+                                                              "Pedro Desenvolvedor",
+                                                              false,
+                                                              "ALTA",
+                                                              8);
+        mockMvc.perform(post("/api/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                               .contentType(MediaType.APPLICATION_JSON)
+                                               .content(objectMapper.writeValueAsString(activityRequest)))
+               .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+               .andExpect(jsonPath("$.activities", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para a página de projetos até que um projeto seja alterado")
+    void shouldAnswerNotModifiedProjectsPageUntilProjectChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isNotModified());
+
+        ProjectRequest updateRequest = new ProjectRequest("Portal Institucional Revisado",
+                                                          "Desenvolvimento do portal institucional da empresa",
+                                                          clientId,
+                                                          LocalDate.now(),
+                                                          LocalDate.now().plusMonths(3),
+                                                          ProjectStatus.IN_PROGRESS,
+                                                          "Carlos Gerente",
+                                                          "Escopo revisado");
+        mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .content(objectMapper.writeValueAsString(updateRequest)))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.items[0].name", is("Portal Institucional Revisado")));
+    }
+
+    @Test
+    @DisplayName("Deve paginar projetos ativos usando o cursor retornado")
+    void shouldPaginateActiveProjectsWithCursor() throws Exception {
+        ProjectRequest request = new ProjectRequest("Aplicativo Mobile",
+                                                    "Desenvolvimento de aplicativo para iOS e Android",
+                                                    clientId,
+                                                    LocalDate.now(),
+                                                    LocalDate.now().plusMonths(4),
+                                                    ProjectStatus.OPEN,
+                                                    "Renata Gerente",
+                                                    "Projeto de alta prioridade");
+
+        mockMvc.perform(post("/api/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                             .contentType(MediaType.APPLICATION_JSON)
+                                             .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isCreated());
+
+        MvcResult firstPage = mockMvc.perform(get("/api/projects").param("limit", "1")
+                                                                  .header("Authorization", "Bearer " + authTokenAdmin))
+                                     .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(1)))
+                                     .andExpect(jsonPath("$.items[0].name", is("Portal Institucional")))
+                                     .andExpect(jsonPath("$.next", notNullValue())).andReturn();
+
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/projects").param("limit", "1").param("cursor", next)
+                                            .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(1)))
+               .andExpect(jsonPath("$.items[0].name", is("Aplicativo Mobile")))
+               .andExpect(jsonPath("$.next", nullValue()));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido ou limite fora do intervalo")
+    void shouldRejectInvalidCursorOrLimit() throws Exception {
+        mockMvc.perform(get("/api/projects").param("cursor", "cursor-invalido")
+                                            .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/projects").param("limit", "0").header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas os campos pedidos sem ler as colunas de texto")
+    void shouldListOnlyRequestedFieldsWithoutReadingTextColumns() throws Exception {
+        SqlStatementLog statements = recordStatements(
+                () -> mockMvc.perform(get("/api/projects").param("fields", "name,status,clientName")
+                                                          .header("Authorization", "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andExpect(jsonPath("$.items", hasSize(1)))
+                             .andExpect(jsonPath("$.items[0].name", is("Portal Institucional")))
+                             .andExpect(jsonPath("$.items[0].status", is("IN_PROGRESS")))
+                             .andExpect(jsonPath("$.items[0].clientName", is("Empresa de Teste LTDA")))
+                             .andExpect(jsonPath("$.items[0].id").doesNotExist())
+                             .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                             .andExpect(jsonPath("$.items[0].progress").doesNotExist()));
+
+        // Nenhuma instrução deve ler as colunas de texto que não foram pedidas
+        assertTrue(statements.getStatements().stream()
+                             .noneMatch(sql -> sql.contains("description") || sql.contains("notes")),
+                   String.join(System.lineSeparator(), statements.getStatements()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a listagem com campos selecionados usando o cursor retornado")
+    void shouldPaginateSparseProjectsWithCursor() throws Exception {
+        ProjectRequest request = new ProjectRequest("Aplicativo Mobile",
+                                                    "Desenvolvimento de aplicativo para iOS e Android",
+                                                    clientId,
+                                                    LocalDate.now(),
+                                                    LocalDate.now().plusMonths(4),
+                                                    ProjectStatus.IN_PROGRESS,
+                                                    "Renata Gerente",
+                                                    "Projeto de alta prioridade");
+
+        mockMvc.perform(post("/api/projects").header("Authorization", "Bearer " + authTokenAdmin)
+                                             .contentType(MediaType.APPLICATION_JSON)
+                                             .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isCreated());
+
+        MvcResult firstPage = mockMvc.perform(get("/api/projects/status/{status}", ProjectStatus.IN_PROGRESS)
+                                                      .param("fields", "name").param("limit", "1")
+                                                      .header("Authorization", "Bearer " + authTokenAdmin))
+                                     .andExpect(status().isOk())
+                                     .andExpect(jsonPath("$.items[0].name", is("Portal Institucional")))
+                                     .andExpect(jsonPath("$.next", notNullValue())).andReturn();
+
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/projects/status/{status}", ProjectStatus.IN_PROGRESS)
+                                .param("fields", "name").param("limit", "1").param("cursor", next)
+                                .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(1)))
+               .andExpect(jsonPath("$.items[0].name", is("Aplicativo Mobile")))
+               .andExpect(jsonPath("$.next", nullValue()));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campos desconhecidos na listagem de projetos")
+    void shouldRejectUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/projects").param("fields", "name,senha")
+                                            .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/projects").param("fields", "progress")
+                                            .header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -231,8 +508,8 @@ public class ProjectControllerTest extends BaseIntegrationTest {
     void shouldListProjectsByStatusSuccessfully() throws Exception {
         mockMvc.perform(get("/api/projects/status/{status}", "IN_PROGRESS").header("Authorization",
                                                                                    "Bearer " + authTokenAdmin))
-               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
-               .andExpect(jsonPath("$[0].status", is("IN_PROGRESS")));
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(1))))
+               .andExpect(jsonPath("$.items[0].status", is("IN_PROGRESS")));
     }
 
     @Test
@@ -247,8 +524,36 @@ public class ProjectControllerTest extends BaseIntegrationTest {
     void shouldListProjectsByClientSuccessfully() throws Exception {
         mockMvc.perform(get("/api/projects/client/{clientId}", clientId).header("Authorization",
                                                                                 "Bearer " + authTokenAdmin))
-               .andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
-               .andExpect(jsonPath("$[0].clientId", is(clientId.toString())));
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(1))))
+               .andExpect(jsonPath("$.items[0].clientId", is(clientId.toString())));
+    }
+
+    @Test
+    @DisplayName("Deve exibir o progresso mantido pelos contadores na listagem de projetos")
+    void shouldShowCounterProgressWhenListingProjects() throws Exception {
+        for (boolean completed : new boolean[]{false, true, false}) {
+            ActivityRequest activityRequest = new ActivityRequest("Revisar Requisitos",
+                                                                  "Revisar requisitos com o cliente",
+                                                                  projectId,
+                                                                  LocalDate.now().plusDays(5),
+                                                                  "Pedro Desenvolvedor",
+                                                                  completed,
+                                                                  "MEDIA",
+                                                                  4);
+
+            mockMvc.perform(post("/api/activities").header("Authorization", "Bearer " + authTokenAdmin)
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(objectMapper.writeValueAsString(activityRequest)))
+                   .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/projects/client/{clientId}", clientId).header("Authorization",
+                                                                                "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.items[0].id", is(projectId.toString())))
+               .andExpect(jsonPath("$.items[0].progress.activityCount", is(3)))
+               .andExpect(jsonPath("$.items[0].progress.completedCount", is(1)))
+               .andExpect(jsonPath("$.items[0].progress.totalHours", is(12)))
+               .andExpect(jsonPath("$.items[0].progress.remainingHours", is(8)));
     }
 
     @Test
@@ -266,6 +571,7 @@ public class ProjectControllerTest extends BaseIntegrationTest {
                                                           "Projeto com escopo reavaliado");
 
         mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                             .contentType(MediaType.APPLICATION_JSON)
                                                             .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().isOk()).andExpect(jsonPath("$.id", is(projectId.toString())))
@@ -274,6 +580,62 @@ public class ProjectControllerTest extends BaseIntegrationTest {
                .andExpect(jsonPath("$.notes", is("Projeto com escopo reavaliado")));
     }
 
+    @Test
+    @DisplayName("Deve aceitar o ETag do GET no If-Match uma única vez e responder 412 ao reutilizá-lo")
+    void shouldRejectStaleIfMatchAfterUpdate() throws Exception {
+        ProjectRequest updateRequest = new ProjectRequest("Portal Institucional Atualizado",
+                                                          "Escopo revisado",
+                                                          clientId,
+                                                          LocalDate.now(),
+                                                          LocalDate.now().plusMonths(3),
+                                                          ProjectStatus.ON_HOLD,
+                                                          "Carlos Gerente",
+                                                          "Projeto com escopo reavaliado");
+        String etag = mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization",
+                                                                                  "Bearer " + authTokenAdmin))
+                             .andExpect(status().isOk())
+                             .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"0-")))
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedEtag = mockMvc.perform(put("/api/projects/{id}", projectId)
+                                                     .header("Authorization", "Bearer " + authTokenAdmin)
+                                                     .header(HttpHeaders.IF_MATCH, etag)
+                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                     .content(objectMapper.writeValueAsString(updateRequest)))
+                                    .andExpect(status().isOk())
+                                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"1-")))
+                                    .andExpect(jsonPath("$.version", is(1)))
+                                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_NONE_MATCH, updatedEtag))
+               .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_MATCH, etag)
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .content(objectMapper.writeValueAsString(updateRequest)))
+               .andExpect(status().isPreconditionFailed()).andExpect(jsonPath("$.status", is(412)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 428 ao atualizar projeto sem If-Match")
+    void shouldRequireIfMatchWhenUpdatingProject() throws Exception {
+        ProjectRequest updateRequest = new ProjectRequest("Portal Institucional Atualizado",
+                                                          "Escopo revisado",
+                                                          clientId,
+                                                          LocalDate.now(),
+                                                          LocalDate.now().plusMonths(3),
+                                                          ProjectStatus.ON_HOLD,
+                                                          "Carlos Gerente",
+                                                          "Projeto com escopo reavaliado");
+
+        mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .content(objectMapper.writeValueAsString(updateRequest)))
+               .andExpect(status().isPreconditionRequired()).andExpect(jsonPath("$.status", is(428)));
+    }
+
     @Test
     @DisplayName("Deve falhar ao atualizar projeto com usuário sem permissão")
     void shouldFailWhenUpdatingProjectWithoutAdminRole() throws Exception {
@@ -288,6 +650,7 @@ public class ProjectControllerTest extends BaseIntegrationTest {
 
         mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization",
                                                                     "Bearer " + authToken) // Token de usuário comum
+                                                            .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                             .contentType(MediaType.APPLICATION_JSON)
                                                             .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().isForbidden());
@@ -308,6 +671,7 @@ public class ProjectControllerTest extends BaseIntegrationTest {
                                                           "Projeto com escopo reavaliado");
 
         mockMvc.perform(put("/api/projects/{id}", nonExistentId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                                .header(HttpHeaders.IF_MATCH, "\"0\"")
                                                                 .contentType(MediaType.APPLICATION_JSON)
                                                                 .content(objectMapper.writeValueAsString(updateRequest)))
                .andExpect(status().is4xxClientError()) // Aceita qualquer erro 4xx
@@ -341,4 +705,37 @@ public class ProjectControllerTest extends BaseIntegrationTest {
         mockMvc.perform(delete("/api/projects/{id}", nonExistentId).header("Authorization", "Bearer " + authTokenAdmin))
                .andExpect(status().is4xxClientError()); // Aceita qualquer erro 4xx
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve responder 503 quando o acesso ao banco estiver esgotado")
+    void shouldRespondServiceUnavailableWhenDatabaseAccessIsExhausted() throws Exception {
+        // Arrange
+        CountDownLatch held = new CountDownLatch(databaseAccessLimiter.getMaxConcurrency());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> holders = new ArrayList<>();
+        for (int i = 0; i < databaseAccessLimiter.getMaxConcurrency(); i++) {
+            holders.add(Thread.ofVirtual().start(() -> {
+                try (DatabaseAccessLimiter.Permit ignored = databaseAccessLimiter.acquire()) {
+                    held.countDown();
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        held.await();
+
+        try {
+            // Act & Assert
+            mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin))
+                   .andExpect(status().isServiceUnavailable())
+                   .andExpect(header().string("Retry-After", "1"))
+                   .andExpect(jsonPath("$.status").value(503));
+        } finally {
+            release.countDown();
+            for (Thread holder : holders) {
+                holder.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Com um Tomcat de verdade, pois a compressão acontece no conector e o MockMvc não passa por ele
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class ResponseCompressionTest extends BaseIntegrationTest {
+
+    private static final int ACTIVITIES = 30;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private String authTokenAdmin;
+    private UUID projectId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        cleanup();
+
+        authTokenAdmin = createAndLoginAdminUser();
+
+        ClientRequest clientRequest = new ClientRequest("Empresa de Teste LTDA",
+                                                        "contato@empresateste.com.br",
+                                                        "(11) 4321-8765",
+                                                        "Empresa Teste Soluções",
+                                                        "Av. Paulista, 1000, São Paulo-SP",
+                                                        true);
+        UUID clientId = createResource("/api/clients", clientRequest);
+
+        ProjectRequest projectRequest = new ProjectRequest("Portal Institucional",
+                                                           "Desenvolvimento do portal institucional da empresa",
+                                                           clientId,
+                                                           LocalDate.now(),
+                                                           LocalDate.now().plusMonths(3),
+                                                           ProjectStatus.IN_PROGRESS,
+                                                           "Carlos Gerente",
+                                                           "Projeto prioritário para o trimestre");
+        projectId = createResource("/api/projects", projectRequest);
+
+        // Atividades suficientes para o detalhe do projeto passar do tamanho mínimo de compressão
+        for (int i = 0; i < ACTIVITIES; i++) {
+            createResource("/api/activities", new ActivityRequest("Implementar Funcionalidade " + i,
+                                                                  "Implementar a funcionalidade conforme o escopo",
+                                                                  projectId,
+                                                                  LocalDate.now().plusWeeks(1),
+                                                                  "Pedro Desenvolvedor",
+                                                                  false,
+                                                                  "ALTA",
+                                                                  16));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip o detalhe de um projeto com muitas atividades")
+    void shouldGzipLargeProjectDetail() throws Exception {
+        // Act
+        HttpResponse<InputStream> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/projects/" + projectId))
+                           .header(HttpHeaders.AUTHORIZATION, "Bearer " + authTokenAdmin)
+                           .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                           .GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        String etag = response.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        assertTrue(etag.startsWith("W/\"0-"), "O detalhe deve levar um ETag fraco com a versão: " + etag);
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains("Implementar Funcionalidade " + (ACTIVITIES - 1)));
+        }
+    }
+
+    private UUID createResource(String path, Object request) throws Exception {
+        MvcResult result = mockMvc.perform(post(path).header("Authorization", "Bearer " + authTokenAdmin)
+                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                     .content(objectMapper.writeValueAsString(request)))
+                                  .andExpect(status().isCreated()).andReturn();
+        return UUID.fromString(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText());
+    }
+}
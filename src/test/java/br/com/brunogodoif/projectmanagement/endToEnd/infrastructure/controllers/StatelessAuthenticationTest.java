@@ -0,0 +1,114 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ClientRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.TokenRevocationRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.jwt.stateless=true")
+public class StatelessAuthenticationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    private String authTokenAdmin;
+    private String authToken;
+
+    @BeforeEach
+    void setup() throws Exception {
+        authTokenAdmin = createAndLoginAdminUser();
+        authToken = createAndLoginNormalUser();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar apenas com as claims do token, sem consultar o usuário no banco")
+    void shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        // Remove os usuários sem passar pelo JPA, de modo que só as claims possam autenticar
+        jdbcTemplate.update("DELETE FROM users");
+
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os papéis presentes no token")
+    void shouldApplyRolesFromToken() throws Exception {
+        ClientRequest request = new ClientRequest("Cliente Stateless LTDA",
+                                                  "contato@stateless.com.br",
+                                                  "(11) 4000-1000",
+                                                  "Cliente Stateless",
+                                                  "Rua Sem Estado, 1",
+                                                  true);
+
+        mockMvc.perform(post("/api/clients").header("Authorization", "Bearer " + authToken)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/clients").header("Authorization", "Bearer " + authTokenAdmin)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @DisplayName("Deve rejeitar token emitido antes da revogação do usuário")
+    void shouldRejectTokenIssuedBeforeRevocation() throws Exception {
+        tokenRevocationRegistry.revoke("user");
+
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authToken))
+               .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token de versão anterior ou sem identificador do usuário")
+    void shouldRejectTokenWithOutdatedVersionOrMissingUserId() throws Exception {
+        String outdatedToken = signToken(0, UUID.randomUUID().toString());
+        String tokenWithoutUserId = signToken(1, null);
+
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + outdatedToken))
+               .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/clients").header("Authorization", "Bearer " + tokenWithoutUserId))
+               .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/clients").header("Authorization",
+                                                   "Bearer " + signToken(1, UUID.randomUUID().toString())))
+               .andExpect(status().isOk());
+    }
+
+    private String signToken(int version, String userId) {
+        return Jwts.builder().setSubject("admin").claim("roles", List.of("ROLE_ADMIN", "ROLE_USER"))
+                   .claim("uid", userId).claim("ver", version).setIssuedAt(new Date())
+                   .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                   .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS512).compact();
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.brunogodoif.projectmanagement.endToEnd.infrastructure.controllers;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ProjectRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Sem a transação do teste, cada requisição abre e fecha as próprias conexões como em produção
+@AutoConfigureMockMvc
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class TransactionBoundaryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private Statistics statistics;
+    private String authTokenAdmin;
+    private UUID clientId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        cleanup();
+
+        authTokenAdmin = createAndLoginAdminUser();
+
+        ClientEntity client = new ClientEntity();
+        client.setId(UUID.randomUUID());
+        client.setName("Empresa de Teste LTDA");
+        client.setEmail("contato@empresateste.com.br");
+        client.setActive(true);
+        clientId = clientRepository.save(client).getId();
+
+        ProjectEntity project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setName("Portal Institucional");
+        project.setClient(client);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.now());
+        projectId = projectRepository.save(project).getId();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // Aquece o cache de usuários para que a autenticação não entre na contagem
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar um projeto em uma única transação somente leitura, sem flush")
+    void shouldReadProjectInSingleReadOnlyTransaction() throws Exception {
+        // Arrange
+        long connections = statistics.getConnectCount();
+        long transactions = statistics.getSuccessfulTransactionCount();
+        long flushes = statistics.getFlushCount();
+
+        // Act
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.name", is("Portal Institucional")));
+
+        // Assert
+        assertEquals(1, statistics.getConnectCount() - connections);
+        assertEquals(1, statistics.getSuccessfulTransactionCount() - transactions);
+        assertEquals(0, statistics.getFlushCount() - flushes);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar um projeto usando uma única conexão e transação")
+    void shouldUpdateProjectInSingleTransaction() throws Exception {
+        // Arrange
+        ProjectRequest request = new ProjectRequest("Portal Institucional Atualizado",
+                                                    "Escopo revisado",
+                                                    clientId,
+                                                    LocalDate.now(),
+                                                    LocalDate.now().plusMonths(3),
+                                                    ProjectStatus.ON_HOLD,
+                                                    "Carlos Gerente",
+                                                    "Projeto com escopo reavaliado");
+        long connections = statistics.getConnectCount();
+        long transactions = statistics.getSuccessfulTransactionCount();
+
+        // Act
+        mockMvc.perform(put("/api/projects/{id}", projectId).header("Authorization", "Bearer " + authTokenAdmin)
+                                                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.status", is("ON_HOLD")));
+
+        // Assert
+        assertEquals(1, statistics.getConnectCount() - connections);
+        assertEquals(1, statistics.getSuccessfulTransactionCount() - transactions);
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.brunogodoif.projectmanagement.integration.application.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.activity.ImportActivitiesUseCase;
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityImportDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ClientEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ProjectEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+// Sem a transação do teste, para que cada lote faça commit ou rollback de verdade
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+class ImportActivitiesUseCaseTest extends BaseIntegrationTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    @Autowired
+    private ProjectGatewayInterface projectGateway;
+
+    @Autowired
+    private BulkImportGatewayInterface bulkImportGateway;
+
+    @Autowired
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private UUID websiteId;
+    private UUID mobileAppId;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+
+        ClientEntity client = new ClientEntity();
+        client.setId(UUID.randomUUID());
+        client.setName("Empresa de Teste LTDA");
+        client.setEmail("contato@empresateste.com.br");
+        client.setActive(true);
+        client = clientRepository.save(client);
+
+        websiteId = createProject(client, "Portal Institucional");
+        mobileAppId = createProject(client, "Aplicativo Mobile");
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as atividades importadas e os contadores dos projetos juntos")
+    void shouldCopyActivitiesAndIncrementCountersTogether() {
+        // Arrange
+        ImportActivitiesUseCase importActivitiesUseCase = createUseCase(projectStatsGateway);
+
+        // Act
+        ImportReport report = importActivitiesUseCase.execute(records(), rejection -> {
+        });
+
+        // Assert
+        assertEquals(3, report.getAccepted());
+        assertEquals(0, report.getRejected());
+        assertEquals(3, activityRepository.count());
+        assertEquals(2, activityCount(websiteId));
+        assertEquals(1, activityCount(mobileAppId));
+    }
+
+    @Test
+    @DisplayName("Deve desfazer a cópia das atividades quando o incremento dos contadores falha")
+    void shouldRollBackCopiedActivitiesWhenIncrementFails() {
+        // Arrange
+        ProjectStatsGatewayInterface failingStats = mock(ProjectStatsGatewayInterface.class);
+        doAnswer(invocation -> {
+            projectStatsGateway.increment(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(failingStats).increment(eq(websiteId), any(ProjectStatsDelta.class));
+        doThrow(new DatabaseOperationException("Error incrementing project stats", new IllegalStateException()))
+                .when(failingStats).increment(eq(mobileAppId), any(ProjectStatsDelta.class));
+        ImportActivitiesUseCase importActivitiesUseCase = createUseCase(failingStats);
+        List<ImportRecord<?>> rejections = new ArrayList<>();
+
+        // Act
+        ImportReport report = importActivitiesUseCase.execute(records(), rejections::add);
+
+        // Assert
+        assertEquals(0, report.getAccepted());
+        assertEquals(3, report.getRejected());
+        assertEquals(3, rejections.size());
+        assertEquals(0, activityRepository.count());
+        assertEquals(0, activityCount(websiteId));
+        assertEquals(0, activityCount(mobileAppId));
+    }
+
+    private ImportActivitiesUseCase createUseCase(ProjectStatsGatewayInterface statsGateway) {
+        return new ImportActivitiesUseCase(projectGateway, bulkImportGateway, statsGateway, transactionOperations,
+                                           CHUNK_SIZE);
+    }
+
+    private Iterator<ImportRecord<ActivityImportDTO>> records() {
+        return List.of(ImportRecord.of(1, activity("Criar layout", "Portal Institucional")),
+                       ImportRecord.of(2, activity("Publicar conteúdo", "Portal Institucional")),
+                       ImportRecord.of(3, activity("Configurar loja", "Aplicativo Mobile"))).iterator();
+    }
+
+    private ActivityImportDTO activity(String title, String projectName) {
+        return ActivityImportDTO.builder()
+                                .title(title)
+                                .description("Atividade importada")
+                                .projectName(projectName)
+                                .dueDate(LocalDate.now().plusWeeks(2))
+                                .assignedTo("Desenvolvedor Teste")
+                                .completed(false)
+                                .priority("MEDIA")
+                                .estimatedHours(4)
+                                .build();
+    }
+
+    private UUID createProject(ClientEntity client, String name) {
+        ProjectEntity project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setName(name);
+        project.setClient(client);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    private long activityCount(UUID projectId) {
+        Map<UUID, ProjectProgress> progress = projectStatsGateway.findByProjectIds(List.of(projectId));
+        return progress.getOrDefault(projectId, ProjectProgress.empty()).getActivityCount();
+    }
+}
@@ -12,6 +12,7 @@ import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -126,8 +127,10 @@ class ListActivitysUseCaseTest extends BaseIntegrationTest {
     @DisplayName("Deve listar todas as atividades de um projeto")
     void shouldListAllActivitiesOfAProject() {
         // Act
-        List<Activity> firstProjectActivities = listActivitiesByProjectUseCase.execute(firstProject.getId());
-        List<Activity> secondProjectActivities = listActivitiesByProjectUseCase.execute(secondProject.getId());
+        List<Activity> firstProjectActivities = listActivitiesByProjectUseCase.execute(firstProject.getId(), null,
+                                                                                          PaginationUtils.MAX_LIMIT).getItems();
+        List<Activity> secondProjectActivities = listActivitiesByProjectUseCase.execute(secondProject.getId(), null,
+                                                                                           PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         // Verificar atividades do primeiro projeto
@@ -170,7 +173,8 @@ class ListActivitysUseCaseTest extends BaseIntegrationTest {
         Project projectWithoutActivities = createProjectUseCase.execute(projectWithoutActivitiesDTO);
 
         // Act
-        List<Activity> projectActivities = listActivitiesByProjectUseCase.execute(projectWithoutActivities.getId());
+        List<Activity> projectActivities = listActivitiesByProjectUseCase.execute(projectWithoutActivities.getId(), null,
+                                                                                     PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(projectActivities);
@@ -185,7 +189,7 @@ class ListActivitysUseCaseTest extends BaseIntegrationTest {
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            listActivitiesByProjectUseCase.execute(nonExistentProjectId);
+            listActivitiesByProjectUseCase.execute(nonExistentProjectId, null, PaginationUtils.MAX_LIMIT);
         });
 
         assertEquals("Project not found with ID: " + nonExistentProjectId, exception.getMessage());
@@ -5,6 +5,7 @@ import br.com.brunogodoif.projectmanagement.application.usecases.client.ListClie
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,7 +52,7 @@ public class ListClientsUseCaseTest extends BaseIntegrationTest {
         createClientUseCase.execute(activeClient2);
         createClientUseCase.execute(inactiveClient);
 
-        List<Client> activeClients = listClientsUseCase.execute();
+        List<Client> activeClients = listClientsUseCase.execute(null, PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(activeClients);
@@ -62,6 +63,6 @@ public class ListClientsUseCaseTest extends BaseIntegrationTest {
         assertTrue(activeClients.stream().anyMatch(c -> c.getEmail().equals(activeClient2.getEmail())));
 
         // Verificar se o cliente inativo NÃO está na lista
-        assertTrue(activeClients.stream().anyMatch(c -> c.getEmail().equals(inactiveClient.getEmail())));
+        assertTrue(activeClients.stream().noneMatch(c -> c.getEmail().equals(inactiveClient.getEmail())));
     }
 }
\ No newline at end of file
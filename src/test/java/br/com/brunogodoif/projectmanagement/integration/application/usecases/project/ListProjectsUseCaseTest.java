@@ -9,6 +9,7 @@ import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectInputDTO;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.domain.utils.PaginationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -68,7 +69,7 @@ class ListProjectsUseCaseTest extends BaseIntegrationTest {
     @DisplayName("Deve listar todos os projetos ativos")
     void shouldListAllActiveProjects() {
         // Act
-        List<Project> activeProjects = listProjectsUseCase.execute();
+        List<Project> activeProjects = listProjectsUseCase.execute(null, PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(activeProjects);
@@ -86,8 +87,10 @@ class ListProjectsUseCaseTest extends BaseIntegrationTest {
     @DisplayName("Deve listar projetos por status")
     void shouldListProjectsByStatus() {
         // Act
-        List<Project> openProjects = listProjectsUseCase.executeByStatus(ProjectStatus.OPEN);
-        List<Project> inProgressProjects = listProjectsUseCase.executeByStatus(ProjectStatus.IN_PROGRESS);
+        List<Project> openProjects = listProjectsUseCase.executeByStatus(ProjectStatus.OPEN, null,
+                                                                           PaginationUtils.MAX_LIMIT).getItems();
+        List<Project> inProgressProjects = listProjectsUseCase.executeByStatus(ProjectStatus.IN_PROGRESS, null,
+                                                                                 PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(openProjects);
@@ -106,7 +109,8 @@ class ListProjectsUseCaseTest extends BaseIntegrationTest {
     @DisplayName("Deve listar projetos por cliente")
     void shouldListProjectsByClient() {
         // Act
-        List<Project> clientProjects = listProjectsUseCase.executeByClient(activeClient.getId());
+        List<Project> clientProjects = listProjectsUseCase.executeByClient(activeClient.getId(), null,
+                                                                            PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(clientProjects);
@@ -120,7 +124,8 @@ class ListProjectsUseCaseTest extends BaseIntegrationTest {
     @DisplayName("Deve retornar lista vazia ao buscar projetos de cliente inexistente")
     void shouldReturnEmptyListWhenSearchingProjectsForNonExistentClient() {
         // Act
-        List<Project> clientProjects = listProjectsUseCase.executeByClient(java.util.UUID.randomUUID());
+        List<Project> clientProjects = listProjectsUseCase.executeByClient(java.util.UUID.randomUUID(), null,
+                                                                            PaginationUtils.MAX_LIMIT).getItems();
 
         // Assert
         assertNotNull(clientProjects);
@@ -1,10 +1,12 @@
 package br.com.brunogodoif.projectmanagement.integration.infrastructure.gateways;
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeletedActivity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ActivityGateway;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
@@ -19,9 +21,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -307,35 +311,171 @@ public class ActivityGatewayTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve excluir uma atividade com sucesso")
-    void shouldDeleteActivitySuccessfully() {
+    @DisplayName("Deve paginar atividades por projeto por cursor")
+    void shouldPaginateActivitiesByProjectWithCursor() {
+        // Arrange
+        Activity first = activityGateway.save(createSampleActivity(savedProject));
+        Activity second = activityGateway.save(createSampleActivity(savedProject));
+        Activity third = activityGateway.save(createSampleActivity(savedProject));
+
+        // Act
+        CursorPage<Activity> firstPage = activityGateway.findByProjectId(savedProject.getId(), null, 2);
+        CursorPage<Activity> secondPage = activityGateway.findByProjectId(savedProject.getId(), firstPage.getNext(), 2);
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()),
+                     firstPage.getItems().stream().map(Activity::getId).toList());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(third.getId()), secondPage.getItems().stream().map(Activity::getId).toList());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao tentar excluir atividade com ID nulo")
+    void shouldThrowExceptionWhenDeletingWithNullId() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> activityGateway.deleteReturning(null));
+    }
+
+    @Test
+    @DisplayName("Deve criar atividade com apenas um INSERT usando referência ao projeto")
+    void shouldCreateActivityWithSingleInsertUsingProjectReference() {
         // Arrange
         Activity activity = createSampleActivity(savedProject);
-        Activity savedActivity = activityGateway.save(activity);
+        List<Activity> created = new ArrayList<>();
 
         // Act
-        activityGateway.deleteById(savedActivity.getId());
+        long statements = countStatements(() -> created.add(activityGateway.create(activity)));
 
         // Assert
-        Optional<Activity> foundActivity = activityGateway.findById(savedActivity.getId());
-        assertTrue(foundActivity.isEmpty());
+        assertEquals(1, statements);
+        assertEquals(savedProject.getName(), created.get(0).getProject().getName());
+        assertEquals(savedProject.getId(), activityGateway.findById(activity.getId()).orElseThrow().getProject().getId());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao tentar excluir atividade com ID inexistente")
-    void shouldThrowExceptionWhenDeletingNonExistentActivity() {
+    @DisplayName("Deve falhar ao criar atividade com projeto inexistente")
+    void shouldFailWhenCreatingActivityWithNonExistentProject() {
         // Arrange
-        UUID nonExistentId = UUID.randomUUID();
+        Activity activity = createSampleActivity(createSampleProject(savedClient));
 
         // Act & Assert
-        assertThrows(EntityNotFoundException.class, () -> activityGateway.deleteById(nonExistentId));
+        assertThrows(DatabaseOperationException.class, () -> activityGateway.create(activity));
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao tentar excluir atividade com ID nulo")
-    void shouldThrowExceptionWhenDeletingWithNullId() {
+    @DisplayName("Deve excluir atividade retornando os dados usados nos contadores do projeto")
+    void shouldDeleteActivityReturningCounterColumns() {
+        // Arrange
+        Activity savedActivity = activityGateway.save(createActivity(savedProject, LocalDate.now().plusDays(3), true, 12));
+        List<Optional<DeletedActivity>> results = new ArrayList<>();
+
+        // Act
+        long statements = countStatements(() -> results.add(activityGateway.deleteReturning(savedActivity.getId())));
+
+        // Assert
+        assertEquals(1, statements);
+        DeletedActivity deleted = results.get(0).orElseThrow();
+        assertEquals(savedActivity.getId(), deleted.getId());
+        assertEquals(savedProject.getId(), deleted.getProjectId());
+        assertTrue(deleted.isCompleted());
+        assertEquals(12, deleted.getEstimatedHours());
+        assertTrue(activityGateway.findById(savedActivity.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio ao excluir atividade inexistente com retorno")
+    void shouldReturnEmptyWhenDeletingReturningNonExistentActivity() {
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> activityGateway.deleteById(null));
+        assertTrue(activityGateway.deleteReturning(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve carregar atividades com projeto e cliente em uma única consulta independente do volume")
+    void shouldLoadActivitiesWithSingleStatementRegardlessOfRowCount() {
+        // Arrange
+        activityGateway.save(createSampleActivity(savedProject));
+
+        long findAllBefore = countStatements(() -> activityGateway.findAll());
+        long byProjectBefore = countStatements(() -> activityGateway.findByProjectId(savedProject.getId()));
+        long pendingBefore = countStatements(() -> activityGateway.findPendingByProjectId(savedProject.getId()));
+
+        for (int i = 0; i < 5; i++) {
+            Client client = clientGateway.save(new Client("Cliente " + i,
+                                                          "cliente" + i + "@empresa.com.br",
+                                                          "(11) 3000-000" + i,
+                                                          "Cliente " + i + " LTDA",
+                                                          "Rua Teste, " + i));
+            Project project = projectGateway.save(createSampleProject(client));
+            activityGateway.save(createSampleActivity(project));
+            activityGateway.save(createSampleActivity(savedProject));
+        }
+
+        // Act
+        long findAllAfter = countStatements(() -> assertEquals(11, activityGateway.findAll().size()));
+        long byProjectAfter = countStatements(
+                () -> assertEquals(6, activityGateway.findByProjectId(savedProject.getId()).size()));
+        long pendingAfter = countStatements(
+                () -> assertEquals(6, activityGateway.findPendingByProjectId(savedProject.getId()).size()));
+        long pageAfter = countStatements(
+                () -> assertEquals(6, activityGateway.findByProjectId(savedProject.getId(), null, 10).getItems().size()));
+
+        // Assert
+        assertEquals(1, findAllBefore);
+        assertEquals(findAllBefore, findAllAfter);
+        assertEquals(byProjectBefore, byProjectAfter);
+        assertEquals(pendingBefore, pendingAfter);
+        assertEquals(1, byProjectAfter);
+        assertEquals(1, pendingAfter);
+        assertEquals(1, pageAfter);
+    }
+
+    @Test
+    @DisplayName("Deve salvar atividades em lote com poucas instruções SQL")
+    void shouldSaveActivitiesInBatchWithFewStatements() {
+        // Arrange
+        List<Activity> activities = IntStream.range(0, 200)
+                                             .mapToObj(i -> createSampleActivity(savedProject))
+                                             .toList();
+
+        // Act
+        long statements = countStatements(() -> assertEquals(200, activityGateway.saveAll(activities).size()));
+
+        // Assert
+        assertTrue(statements <= 200 / 50, "Expected batched inserts but got " + statements + " statements");
+        assertEquals(200, activityRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve resumir atividades de vários projetos em uma única consulta agregada")
+    void shouldSummarizeActivitiesOfSeveralProjectsWithSingleStatement() {
+        // Arrange
+        Project emptyProject = projectGateway.save(createSampleProject(savedClient));
+        activityGateway.save(createActivity(savedProject, LocalDate.now().minusDays(2), false, 5));
+        activityGateway.save(createActivity(savedProject, LocalDate.now().plusDays(2), false, 3));
+        activityGateway.save(createActivity(savedProject, LocalDate.now().minusDays(10), true, 8));
+
+        // Act
+        List<ProjectSummary> summaries = new ArrayList<>();
+        long statements = countStatements(() -> summaries.addAll(
+                activityGateway.summarizeByProjectIds(List.of(savedProject.getId(), emptyProject.getId()))));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(2, summaries.size());
+
+        ProjectSummary summary = summaries.get(0);
+        assertEquals(savedProject.getId(), summary.getProjectId());
+        assertEquals(3, summary.getTotalActivities());
+        assertEquals(1, summary.getCompletedActivities());
+        assertEquals(16, summary.getEstimatedHours());
+        assertEquals(8, summary.getOpenHours());
+        assertEquals(1, summary.getOverdueActivities());
+
+        ProjectSummary empty = summaries.get(1);
+        assertEquals(emptyProject.getId(), empty.getProjectId());
+        assertEquals(0, empty.getTotalActivities());
+        assertEquals(0, empty.getEstimatedHours());
     }
 
     private Client createSampleClient() {
@@ -384,4 +524,9 @@ public class ActivityGatewayTest extends BaseIntegrationTest {
                 LocalDateTime.now()
         );
     }
-}
\ No newline at end of file
+
+    private Activity createActivity(Project project, LocalDate dueDate, boolean completed, int estimatedHours) {
+        return new Activity("Atividade agregada", "Atividade usada no resumo do projeto", project, dueDate,
+                            "Desenvolvedor Teste", completed, "MEDIA", estimatedHours);
+    }
+}
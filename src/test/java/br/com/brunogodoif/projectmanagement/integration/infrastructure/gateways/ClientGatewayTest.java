@@ -1,15 +1,21 @@
 package br.com.brunogodoif.projectmanagement.integration.infrastructure.gateways;
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +29,9 @@ public class ClientGatewayTest extends BaseIntegrationTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private ProjectGateway projectGateway;
+
     @BeforeEach
     void setup() {
         clientRepository.deleteAll();
@@ -138,63 +147,105 @@ public class ClientGatewayTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os clientes ativos com sucesso")
-    void shouldListAllActiveClientsSuccessfully() {
+    @DisplayName("Deve paginar apenas clientes ativos por cursor")
+    void shouldPaginateActiveClientsWithCursor() {
         // Arrange
-        Client client1 = createSampleClient();
+        Client activeClient = clientGateway.save(createSampleClient());
+        Client otherActiveClient = clientGateway.save(new Client(UUID.randomUUID(),
+                                                                 "Segunda Empresa LTDA",
+                                                                 "segunda@empresa.com.br",
+                                                                 "(31) 3333-4444",
+                                                                 "Segunda Empresa",
+                                                                 "Av. Afonso Pena, 1500",
+                                                                 LocalDateTime.now(),
+                                                                 LocalDateTime.now(),
+                                                                 true));
+        clientGateway.save(new Client(UUID.randomUUID(),
+                                      "Empresa Inativa LTDA",
+                                      "inativa@empresa.com.br",
+                                      "(21) 9876-5432",
+                                      "Empresa Inativa",
+                                      "Rua das Flores, 123",
+                                      LocalDateTime.now(),
+                                      LocalDateTime.now(),
+                                      false));
 
-        Client client2 = new Client(
-                UUID.randomUUID(),
-                "Outra Empresa LTDA",
-                "outra@empresa.com.br",
-                "(21) 9876-5432",
-                "Outra Empresa Serviços",
-                "Rua das Flores, 123, Rio de Janeiro",
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                false // Este cliente não está ativo
-        );
+        // Act
+        CursorPage<Client> firstPage = clientGateway.findAllActive(null, 1);
+        CursorPage<Client> secondPage = clientGateway.findAllActive(firstPage.getNext(), 1);
 
-        clientGateway.save(client1);
-        clientGateway.save(client2);
+        // Assert
+        assertEquals(activeClient.getId(), firstPage.getItems().get(0).getId());
+        assertTrue(firstPage.hasNext());
+        assertEquals(otherActiveClient.getId(), secondPage.getItems().get(0).getId());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao tentar excluir cliente com ID nulo")
+    void shouldThrowExceptionWhenDeletingWithNullId() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> clientGateway.deleteIfUnused(null));
+    }
+
+    @Test
+    @DisplayName("Deve criar cliente com apenas um INSERT")
+    void shouldCreateClientWithSingleInsert() {
+        // Arrange
+        Client client = createSampleClient();
+        List<Client> created = new ArrayList<>();
 
         // Act
-        List<Client> activeClients = clientGateway.findAllActive();
+        long statements = countStatements(() -> created.add(clientGateway.create(client)));
 
         // Assert
-        assertEquals(2, activeClients.size()); // Nota: A implementação atual retorna todos os clientes, não filtra por ativos
+        assertEquals(1, statements);
+        assertEquals(client.getId(), created.get(0).getId());
+        assertTrue(clientGateway.findById(client.getId()).isPresent());
     }
 
     @Test
-    @DisplayName("Deve excluir um cliente com sucesso")
-    void shouldDeleteClientSuccessfully() {
+    @DisplayName("Deve excluir cliente sem projetos com uma única instrução")
+    void shouldDeleteUnusedClientWithSingleStatement() {
         // Arrange
-        Client client = createSampleClient();
-        Client savedClient = clientGateway.save(client);
+        Client savedClient = clientGateway.save(createSampleClient());
+        List<DeleteResult> results = new ArrayList<>();
 
         // Act
-        clientGateway.deleteById(savedClient.getId());
+        long statements = countStatements(() -> results.add(clientGateway.deleteIfUnused(savedClient.getId())));
 
         // Assert
-        Optional<Client> foundClient = clientGateway.findById(savedClient.getId());
-        assertTrue(foundClient.isEmpty());
+        assertEquals(1, statements);
+        assertEquals(DeleteResult.Outcome.DELETED, results.get(0).getOutcome());
+        assertTrue(clientGateway.findById(savedClient.getId()).isEmpty());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao tentar excluir cliente com ID inexistente")
-    void shouldThrowExceptionWhenDeletingNonExistentClient() {
+    @DisplayName("Deve manter cliente com projetos e informar a quantidade de dependentes")
+    void shouldKeepClientInUseAndReportDependents() {
         // Arrange
-        UUID nonExistentId = UUID.randomUUID();
+        Client savedClient = clientGateway.save(createSampleClient());
+        projectGateway.save(new Project("Projeto Vinculado", "Projeto do cliente", savedClient, LocalDate.now(),
+                                        LocalDate.now().plusMonths(1), ProjectStatus.OPEN, "Gerente Teste",
+                                        "Notas"));
 
-        // Act & Assert
-        assertThrows(EntityNotFoundException.class, () -> clientGateway.deleteById(nonExistentId));
+        // Act
+        DeleteResult result = clientGateway.deleteIfUnused(savedClient.getId());
+
+        // Assert
+        assertEquals(DeleteResult.Outcome.IN_USE, result.getOutcome());
+        assertEquals(1, result.getDependents());
+        assertTrue(clientGateway.findById(savedClient.getId()).isPresent());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao tentar excluir cliente com ID nulo")
-    void shouldThrowExceptionWhenDeletingWithNullId() {
-        // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> clientGateway.deleteById(null));
+    @DisplayName("Deve informar cliente inexistente na exclusão condicional")
+    void shouldReportMissingClientOnGuardedDelete() {
+        // Act
+        DeleteResult result = clientGateway.deleteIfUnused(UUID.randomUUID());
+
+        // Assert
+        assertEquals(DeleteResult.Outcome.NOT_FOUND, result.getOutcome());
     }
 
     @Test
@@ -0,0 +1,180 @@
+package br.com.brunogodoif.projectmanagement.integration.infrastructure.gateways;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioSlice;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ActivityGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.PortfolioDashboardGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PortfolioDashboardGatewayTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PortfolioDashboardGateway portfolioDashboardGateway;
+
+    @Autowired
+    private ActivityGateway activityGateway;
+
+    @Autowired
+    private ProjectGateway projectGateway;
+
+    @Autowired
+    private ClientGateway clientGateway;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private Client busyClient;
+    private Client quietClient;
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        busyClient = clientGateway.save(createSampleClient("Cliente Ocupado", "ocupado@empresa.com.br"));
+        quietClient = clientGateway.save(createSampleClient("Cliente Tranquilo", "tranquilo@empresa.com.br"));
+
+        Project website = projectGateway.save(createSampleProject(busyClient, ProjectStatus.IN_PROGRESS, "Ana"));
+        Project mobile = projectGateway.save(createSampleProject(busyClient, ProjectStatus.OPEN, "Ana"));
+        Project intranet = projectGateway.save(createSampleProject(quietClient, ProjectStatus.OPEN, "Bruno"));
+
+        activityGateway.save(createActivity(website, LocalDate.now().minusDays(2), false, 10));
+        activityGateway.save(createActivity(website, LocalDate.now().minusDays(2), true, 4));
+        activityGateway.save(createActivity(mobile, LocalDate.now().plusDays(5), false, 6));
+        activityGateway.save(createActivity(intranet, LocalDate.now().minusDays(1), false, 3));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve agregar o portfólio por status, cliente e gerente após a atualização")
+    void shouldAggregatePortfolioByStatusClientAndManagerAfterRefresh() {
+        // Act
+        assertTrue(portfolioDashboardGateway.refresh());
+        PortfolioDashboard dashboard = portfolioDashboardGateway.find(10);
+
+        // Assert
+        assertNotNull(dashboard.getRefreshedAt());
+        assertEquals(3, dashboard.getTotal().getProjectCount());
+        assertEquals(19, dashboard.getTotal().getOpenHours());
+        assertEquals(2, dashboard.getTotal().getOverdueActivities());
+
+        assertEquals(2, dashboard.getByStatus().size());
+        PortfolioSlice open = dashboard.getByStatus().stream()
+                                       .filter(slice -> slice.getKey().equals(ProjectStatus.OPEN.name()))
+                                       .findFirst().orElseThrow();
+        assertEquals(2, open.getProjectCount());
+        assertEquals(9, open.getOpenHours());
+
+        assertEquals(2, dashboard.getTopClients().size());
+        assertEquals(busyClient.getId().toString(), dashboard.getTopClients().get(0).getKey());
+        assertEquals("Cliente Ocupado", dashboard.getTopClients().get(0).getLabel());
+        assertEquals(16, dashboard.getTopClients().get(0).getOpenHours());
+
+        assertEquals("Ana", dashboard.getTopManagers().get(0).getKey());
+        assertEquals(2, dashboard.getTopManagers().get(0).getProjectCount());
+    }
+
+    @Test
+    @DisplayName("Deve limitar os rankings de clientes e gerentes")
+    void shouldLimitClientAndManagerRankings() {
+        // Act
+        portfolioDashboardGateway.refresh();
+        PortfolioDashboard dashboard = portfolioDashboardGateway.find(1);
+
+        // Assert
+        assertEquals(1, dashboard.getTopClients().size());
+        assertEquals(busyClient.getId().toString(), dashboard.getTopClients().get(0).getKey());
+        assertEquals(1, dashboard.getTopManagers().size());
+        assertEquals(2, dashboard.getByStatus().size());
+    }
+
+    @Test
+    @DisplayName("Deve indicar que a view está desatualizada após novas escritas")
+    void shouldReportStaleViewAfterNewWrites() {
+        // Arrange
+        portfolioDashboardGateway.refresh();
+        assertFalse(portfolioDashboardGateway.findFreshness().isStale());
+
+        // Act
+        clientGateway.save(createSampleClient("Cliente Novo", "novo@empresa.com.br"));
+        entityManager.flush();
+
+        // Assert
+        assertTrue(portfolioDashboardGateway.findFreshness().isStale());
+    }
+
+    @Test
+    @DisplayName("Deve ler o painel com um número fixo de consultas")
+    void shouldReadDashboardWithFixedNumberOfStatements() {
+        // Arrange
+        portfolioDashboardGateway.refresh();
+
+        // Act
+        long statements = countStatements(() -> portfolioDashboardGateway.find(10));
+
+        // Assert
+        assertEquals(4, statements);
+    }
+
+    private Client createSampleClient(String name, String email) {
+        return new Client(
+                UUID.randomUUID(),
+                name,
+                email,
+                "(11) 4321-8765",
+                name + " LTDA",
+                "Av. Paulista, 1000, São Paulo-SP",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                true
+        );
+    }
+
+    private Project createSampleProject(Client client, ProjectStatus status, String manager) {
+        return new Project(
+                UUID.randomUUID(),
+                "Projeto Teste",
+                "Descrição do projeto de teste",
+                client,
+                LocalDate.now(),
+                LocalDate.now().plusMonths(3),
+                status,
+                manager,
+                "Notas sobre o projeto de teste",
+                false,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private Activity createActivity(Project project, LocalDate dueDate, boolean completed, int estimatedHours) {
+        return new Activity("Atividade do portfólio", "Atividade usada no painel do portfólio", project, dueDate,
+                            "Desenvolvedor Teste", completed, "MEDIA", estimatedHours);
+    }
+}
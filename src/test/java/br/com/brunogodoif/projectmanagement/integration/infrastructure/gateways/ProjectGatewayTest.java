@@ -1,12 +1,17 @@
 package br.com.brunogodoif.projectmanagement.integration.infrastructure.gateways;
 
 import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeleteResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
-import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ActivityGateway;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
 import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseOperationException;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
 import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +36,9 @@ public class ProjectGatewayTest extends BaseIntegrationTest {
     @Autowired
     private ClientGateway clientGateway;
 
+    @Autowired
+    private ActivityGateway activityGateway;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -164,72 +173,6 @@ public class ProjectGatewayTest extends BaseIntegrationTest {
         assertEquals(2, projects.size());
     }
 
-    @Test
-    @DisplayName("Deve listar todos os projetos ativos com sucesso")
-    void shouldListAllActiveProjectsSuccessfully() {
-        // Arrange
-        Project project1 = createSampleProject(savedClient);
-
-        Project project2 = new Project(
-                UUID.randomUUID(),
-                "Outro Projeto",
-                "Descrição de outro projeto",
-                savedClient,
-                LocalDate.now(),
-                LocalDate.now().plusMonths(6),
-                ProjectStatus.COMPLETED,
-                "Outro Gerente",
-                "Notas de outro projeto",
-                false, // Não está excluído
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        projectGateway.save(project1);
-        projectGateway.save(project2);
-
-        // Act
-        List<Project> activeProjects = projectGateway.findAllActive();
-
-        // Assert
-        assertEquals(2, activeProjects.size());
-    }
-
-    @Test
-    @DisplayName("Deve listar projetos por status com sucesso")
-    void shouldListProjectsByStatusSuccessfully() {
-        // Arrange
-        Project project1 = createSampleProject(savedClient); // IN_PROGRESS por padrão
-
-        Project project2 = new Project(
-                UUID.randomUUID(),
-                "Outro Projeto",
-                "Descrição de outro projeto",
-                savedClient,
-                LocalDate.now(),
-                LocalDate.now().plusMonths(6),
-                ProjectStatus.COMPLETED,
-                "Outro Gerente",
-                "Notas de outro projeto",
-                false,
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        projectGateway.save(project1);
-        projectGateway.save(project2);
-
-        // Act
-        List<Project> inProgressProjects = projectGateway.findByStatus(ProjectStatus.IN_PROGRESS);
-        List<Project> completedProjects = projectGateway.findByStatus(ProjectStatus.COMPLETED);
-
-        // Assert
-        assertEquals(1, inProgressProjects.size());
-        assertEquals(1, completedProjects.size());
-        assertEquals(ProjectStatus.IN_PROGRESS, inProgressProjects.get(0).getStatus());
-        assertEquals(ProjectStatus.COMPLETED, completedProjects.get(0).getStatus());
-    }
-
     @Test
     @DisplayName("Deve listar projetos por cliente com sucesso")
     void shouldListProjectsByClientSuccessfully() {
@@ -292,35 +235,226 @@ public class ProjectGatewayTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve excluir um projeto com sucesso")
-    void shouldDeleteProjectSuccessfully() {
+    @DisplayName("Deve paginar projetos ativos por cursor sem repetir nem omitir registros")
+    void shouldPaginateActiveProjectsWithCursor() {
         // Arrange
-        Project project = createSampleProject(savedClient);
-        Project savedProject = projectGateway.save(project);
+        List<UUID> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(projectGateway.save(createSampleProject(savedClient)).getId());
+        }
 
         // Act
-        projectGateway.deleteById(savedProject.getId());
+        List<UUID> pagedIds = new ArrayList<>();
+        CursorPage<Project> page = projectGateway.findAllActive(null, 2);
+        pagedIds.addAll(page.getItems().stream().map(Project::getId).toList());
+        int pages = 1;
+        while (page.hasNext()) {
+            page = projectGateway.findAllActive(page.getNext(), 2);
+            pagedIds.addAll(page.getItems().stream().map(Project::getId).toList());
+            pages++;
+        }
 
         // Assert
-        Optional<Project> foundProject = projectGateway.findById(savedProject.getId());
-        assertTrue(foundProject.isEmpty());
+        assertEquals(3, pages);
+        assertEquals(5, pagedIds.size());
+        assertTrue(pagedIds.containsAll(savedIds));
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao tentar excluir projeto com ID inexistente")
-    void shouldThrowExceptionWhenDeletingNonExistentProject() {
+    @DisplayName("Deve alterar o frescor da página quando um projeto dá lugar a outro")
+    void shouldChangePageFreshnessWhenProjectLeavesPage() {
         // Arrange
-        UUID nonExistentId = UUID.randomUUID();
+        Project first = projectGateway.save(createSampleProject(savedClient));
+        projectGateway.save(createSampleProject(savedClient));
+        projectGateway.save(createSampleProject(savedClient));
+        ResourceFreshness before = projectGateway.findFreshnessOfActive(null, 1);
 
-        // Act & Assert
-        assertThrows(EntityNotFoundException.class, () -> projectGateway.deleteById(nonExistentId));
+        // Act
+        projectGateway.deleteIfUnused(first.getId());
+        ResourceFreshness after = projectGateway.findFreshnessOfActive(null, 1);
+
+        // Assert
+        assertEquals(2, before.getItemCount());
+        assertEquals(2, after.getItemCount());
+        assertNotEquals(before.getChecksum(), after.getChecksum());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o frescor do projeto a partir das atividades sem carregá-las")
+    void shouldComputeProjectFreshnessFromActivities() {
+        // Arrange
+        Project savedProject = projectGateway.save(createSampleProject(savedClient));
+        ResourceFreshness empty = projectGateway.findFreshness(savedProject.getId()).orElseThrow();
+        activityGateway.save(new Activity("Atividade Teste", "Descrição", savedProject, LocalDate.now(),
+                                          "Responsável", false, "ALTA", 8));
+        List<Optional<ResourceFreshness>> results = new ArrayList<>();
+
+        // Act
+        long statements = countStatements(() -> results.add(projectGateway.findFreshness(savedProject.getId())));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(0, empty.getItemCount());
+        assertEquals(1, results.get(0).orElseThrow().getItemCount());
+        assertTrue(projectGateway.findFreshness(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve paginar projetos por cliente e status por cursor")
+    void shouldPaginateProjectsByClientAndStatusWithCursor() {
+        // Arrange
+        projectGateway.save(createSampleProject(savedClient));
+        projectGateway.save(createSampleProject(savedClient));
+
+        // Act
+        CursorPage<Project> byClient = projectGateway.findByClientId(savedClient.getId(), null, 1);
+        CursorPage<Project> byClientNext = projectGateway.findByClientId(savedClient.getId(), byClient.getNext(), 1);
+        CursorPage<Project> byStatus = projectGateway.findByStatus(ProjectStatus.IN_PROGRESS, null, 5);
+        CursorPage<Project> byOtherStatus = projectGateway.findByStatus(ProjectStatus.COMPLETED, null, 5);
+
+        // Assert
+        assertEquals(1, byClient.getItems().size());
+        assertTrue(byClient.hasNext());
+        assertEquals(1, byClientNext.getItems().size());
+        assertFalse(byClientNext.hasNext());
+        assertNotEquals(byClient.getItems().get(0).getId(), byClientNext.getItems().get(0).getId());
+        assertEquals(2, byStatus.getItems().size());
+        assertFalse(byStatus.hasNext());
+        assertTrue(byOtherStatus.getItems().isEmpty());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao tentar excluir projeto com ID nulo")
     void shouldThrowExceptionWhenDeletingWithNullId() {
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> projectGateway.deleteById(null));
+        assertThrows(IllegalArgumentException.class, () -> projectGateway.deleteIfUnused(null));
+    }
+
+    @Test
+    @DisplayName("Deve criar projeto com apenas um INSERT usando referência ao cliente")
+    void shouldCreateProjectWithSingleInsertUsingClientReference() {
+        // Arrange
+        Project project = createSampleProject(savedClient);
+        List<Project> created = new ArrayList<>();
+
+        // Act
+        long statements = countStatements(() -> created.add(projectGateway.create(project)));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(savedClient.getName(), created.get(0).getClient().getName());
+        assertEquals(savedClient.getId(), projectGateway.findById(project.getId()).orElseThrow().getClient().getId());
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao criar projeto com cliente inexistente")
+    void shouldFailWhenCreatingProjectWithNonExistentClient() {
+        // Arrange
+        Project project = createSampleProject(createSampleClient());
+
+        // Act & Assert
+        assertThrows(DatabaseOperationException.class, () -> projectGateway.create(project));
+    }
+
+    @Test
+    @DisplayName("Deve excluir projeto sem atividades com uma única instrução")
+    void shouldDeleteUnusedProjectWithSingleStatement() {
+        // Arrange
+        Project savedProject = projectGateway.save(createSampleProject(savedClient));
+        List<DeleteResult> results = new ArrayList<>();
+
+        // Act
+        long statements = countStatements(() -> results.add(projectGateway.deleteIfUnused(savedProject.getId())));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(DeleteResult.Outcome.DELETED, results.get(0).getOutcome());
+        assertTrue(projectGateway.findById(savedProject.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter projeto com atividades e informar a quantidade de dependentes")
+    void shouldKeepProjectInUseAndReportDependents() {
+        // Arrange
+        Project savedProject = projectGateway.save(createSampleProject(savedClient));
+        for (int i = 0; i < 2; i++) {
+            activityGateway.save(new Activity("Atividade " + i, "Atividade vinculada ao projeto", savedProject,
+                                              LocalDate.now().plusDays(7), "Desenvolvedor Teste", false, "MEDIA", 4));
+        }
+
+        // Act
+        DeleteResult result = projectGateway.deleteIfUnused(savedProject.getId());
+
+        // Assert
+        assertEquals(DeleteResult.Outcome.IN_USE, result.getOutcome());
+        assertEquals(2, result.getDependents());
+        assertTrue(projectGateway.existsById(savedProject.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve informar projeto inexistente na exclusão condicional")
+    void shouldReportMissingProjectOnGuardedDelete() {
+        // Act
+        DeleteResult result = projectGateway.deleteIfUnused(UUID.randomUUID());
+
+        // Assert
+        assertEquals(DeleteResult.Outcome.NOT_FOUND, result.getOutcome());
+    }
+
+    @Test
+    @DisplayName("Deve carregar projetos com cliente em uma única consulta independente do volume")
+    void shouldLoadProjectsWithSingleStatementRegardlessOfRowCount() {
+        // Arrange
+        projectGateway.save(createSampleProject(savedClient));
+
+        long findAllBefore = countStatements(() -> projectGateway.findAll());
+        long byClientBefore = countStatements(() -> projectGateway.findByClientId(savedClient.getId()));
+
+        for (int i = 0; i < 5; i++) {
+            Client client = clientGateway.save(new Client("Cliente " + i,
+                                                          "cliente" + i + "@empresa.com.br",
+                                                          "(11) 3000-000" + i,
+                                                          "Cliente " + i + " LTDA",
+                                                          "Rua Teste, " + i));
+            projectGateway.save(createSampleProject(client));
+            projectGateway.save(createSampleProject(savedClient));
+        }
+
+        // Act
+        long findAllAfter = countStatements(() -> assertEquals(11, projectGateway.findAll().size()));
+        long byClientAfter = countStatements(
+                () -> assertEquals(6, projectGateway.findByClientId(savedClient.getId()).size()));
+
+        // Assert
+        assertEquals(1, findAllBefore);
+        assertEquals(findAllBefore, findAllAfter);
+        assertEquals(byClientBefore, byClientAfter);
+        assertEquals(1, byClientAfter);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer projetos ativos em streaming com uma única consulta")
+    void shouldStreamActiveProjectsWithSingleStatement() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            projectGateway.save(createSampleProject(savedClient));
+        }
+        Project deleted = projectGateway.save(createSampleProject(savedClient));
+        projectRepository.findById(deleted.getId()).ifPresent(entity -> {
+            entity.setDeleted(true);
+            projectRepository.save(entity);
+        });
+
+        List<Project> streamed = new ArrayList<>();
+
+        // Act
+        long statements = countStatements(() -> projectGateway.streamAllActive(streamed::add));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(5, streamed.size());
+        assertTrue(streamed.stream().noneMatch(project -> project.getId().equals(deleted.getId())));
+        assertTrue(streamed.stream().allMatch(project -> savedClient.getName().equals(project.getClient().getName())));
     }
 
     private Client createSampleClient() {
@@ -0,0 +1,154 @@
+package br.com.brunogodoif.projectmanagement.integration.infrastructure.gateways;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectProgress;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ActivityGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectStatsGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectStatsGatewayTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ProjectStatsGateway projectStatsGateway;
+
+    @Autowired
+    private ActivityGateway activityGateway;
+
+    @Autowired
+    private ProjectGateway projectGateway;
+
+    @Autowired
+    private ClientGateway clientGateway;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private Project savedProject;
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        Client savedClient = clientGateway.save(createSampleClient());
+        savedProject = projectGateway.save(createSampleProject(savedClient));
+    }
+
+    @Test
+    @DisplayName("Deve somar os incrementos distribuídos entre as faixas do contador")
+    void shouldSumIncrementsSpreadAcrossStripes() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            projectStatsGateway.increment(savedProject.getId(),
+                                          ProjectStatsDelta.added(createActivity(savedProject, i % 4 == 0, 2)));
+        }
+
+        // Act
+        Map<UUID, ProjectProgress> progress = projectStatsGateway.findByProjectIds(List.of(savedProject.getId()));
+
+        // Assert
+        ProjectProgress projectProgress = progress.get(savedProject.getId());
+        assertNotNull(projectProgress);
+        assertEquals(20, projectProgress.getActivityCount());
+        assertEquals(5, projectProgress.getCompletedCount());
+        assertEquals(40, projectProgress.getTotalHours());
+        assertEquals(30, projectProgress.getRemainingHours());
+        assertNotNull(projectProgress.getLastActivityAt());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os contadores a partir das atividades persistidas")
+    void shouldRebuildCountersFromPersistedActivities() {
+        // Arrange
+        activityGateway.save(createActivity(savedProject, false, 8));
+        activityGateway.save(createActivity(savedProject, true, 5));
+        projectStatsGateway.increment(savedProject.getId(),
+                                      ProjectStatsDelta.added(createActivity(savedProject, false, 100)));
+
+        // Act
+        int rows = projectStatsGateway.rebuildAll();
+
+        // Assert
+        assertEquals(1, rows);
+        ProjectProgress projectProgress = projectStatsGateway.findByProjectIds(List.of(savedProject.getId()))
+                                                             .get(savedProject.getId());
+        assertEquals(2, projectProgress.getActivityCount());
+        assertEquals(1, projectProgress.getCompletedCount());
+        assertEquals(13, projectProgress.getTotalHours());
+        assertEquals(8, projectProgress.getRemainingHours());
+    }
+
+    @Test
+    @DisplayName("Deve omitir projetos sem contadores")
+    void shouldOmitProjectsWithoutCounters() {
+        // Act
+        Map<UUID, ProjectProgress> progress = projectStatsGateway.findByProjectIds(List.of(savedProject.getId()));
+
+        // Assert
+        assertTrue(progress.isEmpty());
+    }
+
+    private Client createSampleClient() {
+        return new Client(
+                UUID.randomUUID(),
+                "Empresa Teste LTDA",
+                "contato@empresateste.com.br",
+                "(11) 4321-8765",
+                "Empresa Teste Soluções",
+                "Av. Paulista, 1000, São Paulo-SP",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                true
+        );
+    }
+
+    private Project createSampleProject(Client client) {
+        return new Project(
+                UUID.randomUUID(),
+                "Projeto Teste",
+                "Descrição do projeto de teste",
+                client,
+                LocalDate.now(),
+                LocalDate.now().plusMonths(3),
+                ProjectStatus.IN_PROGRESS,
+                "Gerente Teste",
+                "Notas sobre o projeto de teste",
+                false,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    private Activity createActivity(Project project, boolean completed, int estimatedHours) {
+        return new Activity("Atividade contabilizada", "Atividade usada nos contadores do projeto", project,
+                            LocalDate.now().plusWeeks(1), "Desenvolvedor Teste", completed, "MEDIA", estimatedHours);
+    }
+}
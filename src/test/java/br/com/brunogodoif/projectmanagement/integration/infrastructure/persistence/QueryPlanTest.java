@@ -0,0 +1,179 @@
+package br.com.brunogodoif.projectmanagement.integration.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryPlanTest extends BaseIntegrationTest {
+
+    private static final int CLIENTS = 200;
+    private static final int PROJECTS = 5_000;
+    private static final int ACTIVITIES = 15_000;
+    private static final int USERS = 2_000;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID clientId;
+    private UUID projectId;
+    private UUID userId;
+    private Timestamp cursorCreatedAt;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (name, email, phone, company_name, address, created_at, updated_at, active)
+                SELECT 'Cliente ' || g, 'plano' || g || '@empresa.com.br', '(11) 3000-0000', 'Empresa ' || g,
+                       'Rua ' || g, now() - g * interval '1 minute', now(), g % 20 <> 0
+                FROM generate_series(1, ?) g
+                """, CLIENTS);
+        jdbcTemplate.update("""
+                INSERT INTO projects (name, description, client_id, start_date, end_date, status, manager, notes,
+                                      is_deleted, created_at, updated_at)
+                SELECT 'Projeto ' || g, 'Descrição ' || g, c.id, current_date, current_date + 90,
+                       (ARRAY['OPEN','IN_PROGRESS','ON_HOLD','PLANNED','COMPLETED','CANCELLED'])[g % 6 + 1],
+                       'Gerente', 'Notas', g % 10 = 0, now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                JOIN (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM clients) c ON c.rn = g % ? + 1
+                """, PROJECTS, CLIENTS);
+        jdbcTemplate.update("""
+                INSERT INTO activities (title, description, project_id, due_date, assigned_to, completed, priority,
+                                        estimated_hours, created_at, updated_at)
+                SELECT 'Atividade ' || g, 'Descrição ' || g, p.id, current_date + 7, 'Desenvolvedor', g % 4 <> 0,
+                       'ALTA', 8, now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                JOIN (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM projects) p ON p.rn = g % ? + 1
+                """, ACTIVITIES, PROJECTS);
+        jdbcTemplate.update("""
+                INSERT INTO users (username, password, email, full_name, enabled, created_at, updated_at)
+                SELECT 'usuario' || g, 'senha', 'usuario' || g || '@empresa.com.br', 'Usuário ' || g, true, now(), now()
+                FROM generate_series(1, ?) g
+                """, USERS);
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role) SELECT id, 'USER' FROM users");
+        jdbcTemplate.execute("ANALYZE clients, projects, activities, users, user_roles");
+
+        clientId = jdbcTemplate.queryForObject("SELECT client_id FROM projects LIMIT 1", UUID.class);
+        projectId = jdbcTemplate.queryForObject("SELECT project_id FROM activities LIMIT 1", UUID.class);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'usuario42'", UUID.class);
+        cursorCreatedAt = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao listar projetos de um cliente")
+    void shouldUseIndexForProjectsByClient() {
+        assertIndexScan("projects", """
+                SELECT p.*, c.* FROM projects p JOIN clients c ON c.id = p.client_id
+                WHERE c.id = ? AND p.is_deleted = false
+                """, clientId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice na busca por chave estrangeira de projetos do cliente")
+    void shouldUseIndexForProjectsForeignKeyLookup() {
+        assertIndexScan("projects", "SELECT p.id FROM projects p WHERE p.client_id = ?", clientId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice nas páginas de projetos ativos, por status e por cliente")
+    void shouldUseIndexForProjectPages() {
+        assertIndexScan("projects", """
+                SELECT p.*, c.* FROM projects p JOIN clients c ON c.id = p.client_id
+                WHERE p.is_deleted = false AND (p.created_at, p.id) > (?, ?)
+                ORDER BY p.created_at, p.id LIMIT 21
+                """, cursorCreatedAt, new UUID(0, 0));
+        assertIndexScan("projects", """
+                SELECT p.*, c.* FROM projects p JOIN clients c ON c.id = p.client_id
+                WHERE p.status = ? AND p.is_deleted = false
+                ORDER BY p.created_at, p.id LIMIT 21
+                """, "PLANNED");
+        assertIndexScan("projects", """
+                SELECT p.*, c.* FROM projects p JOIN clients c ON c.id = p.client_id
+                WHERE c.id = ? AND p.is_deleted = false AND (p.created_at, p.id) > (?, ?)
+                ORDER BY p.created_at, p.id LIMIT 21
+                """, clientId, cursorCreatedAt, new UUID(0, 0));
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao listar atividades de um projeto")
+    void shouldUseIndexForActivitiesByProject() {
+        assertIndexScan("activities", """
+                SELECT a.*, p.*, c.* FROM activities a
+                JOIN projects p ON p.id = a.project_id JOIN clients c ON c.id = p.client_id
+                WHERE p.id = ?
+                """, projectId);
+        assertIndexScan("activities", """
+                SELECT a.*, p.*, c.* FROM activities a
+                JOIN projects p ON p.id = a.project_id JOIN clients c ON c.id = p.client_id
+                WHERE p.id = ? AND a.completed = false
+                """, projectId);
+        assertIndexScan("activities", """
+                SELECT a.*, p.*, c.* FROM activities a
+                JOIN projects p ON p.id = a.project_id JOIN clients c ON c.id = p.client_id
+                WHERE p.id = ? AND (a.created_at, a.id) > (?, ?)
+                ORDER BY a.created_at, a.id LIMIT 21
+                """, projectId, cursorCreatedAt, new UUID(0, 0));
+    }
+
+    @Test
+    @DisplayName("Deve usar índice na página de clientes ativos")
+    void shouldUseIndexForActiveClientsPage() {
+        assertIndexScan("clients", """
+                SELECT c.* FROM clients c
+                WHERE c.active = true AND (c.created_at, c.id) > (?, ?)
+                ORDER BY c.created_at, c.id LIMIT 21
+                """, cursorCreatedAt, new UUID(0, 0));
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao buscar usuário e seus papéis")
+    void shouldUseIndexForUserLookup() {
+        assertIndexScan("users", """
+                SELECT u.*, r.role FROM users u LEFT JOIN user_roles r ON r.user_id = u.id
+                WHERE u.username = ?
+                """, "usuario42");
+        assertIndexScan("user_roles", "SELECT r.role FROM user_roles r WHERE r.user_id = ?", userId);
+    }
+
+    private void assertIndexScan(String table, String sql, Object... args) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+
+        List<JsonNode> nodes = new ArrayList<>();
+        try {
+            collectNodes(jsonMapper.readTree(json).get(0).get("Plan"), nodes);
+        } catch (Exception e) {
+            fail("Could not parse query plan: " + json);
+        }
+
+        Set<String> indexScans = Set.of("Index Scan", "Index Only Scan", "Bitmap Heap Scan");
+        boolean seqScan = nodes.stream().anyMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                                                          && table.equals(node.path("Relation Name").asText()));
+        boolean indexScan = nodes.stream().anyMatch(node -> indexScans.contains(node.path("Node Type").asText())
+                                                            && table.equals(node.path("Relation Name").asText()));
+
+        assertFalse(seqScan, "Sequential scan on " + table + ":\n" + json);
+        assertTrue(indexScan, "No index scan on " + table + ":\n" + json);
+    }
+
+    private void collectNodes(JsonNode plan, List<JsonNode> nodes) {
+        nodes.add(plan);
+        for (JsonNode child : plan.path("Plans")) {
+            collectNodes(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.brunogodoif.projectmanagement.integration.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.ReadWriteRoutingContext;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.ReplicaLagMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Stand-in replica: the same database reached through a second pool that identifies itself as "replica"
+@TestPropertySource(properties = {
+        "app.datasource.replica.jdbc-url=${spring.datasource.url}",
+        "app.datasource.replica.username=${spring.datasource.username}",
+        "app.datasource.replica.password=${spring.datasource.password}",
+        "app.datasource.replica.data-source-properties.ApplicationName=replica"
+})
+public class ReadWriteRoutingTest extends BaseIntegrationTest {
+
+    private static final String APPLICATION_NAME = "SELECT current_setting('application_name')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve executar transações somente leitura na réplica")
+    void shouldRunReadOnlyTransactionsOnReplica() {
+        // Act
+        String applicationName = inTransaction(true);
+
+        // Assert
+        assertTrue(replicaLagMonitor.isUsable());
+        assertEquals(0, replicaLagMonitor.getLagSeconds());
+        assertEquals("replica", applicationName);
+    }
+
+    @Test
+    @DisplayName("Deve executar transações de escrita no primário")
+    void shouldRunReadWriteTransactionsOnPrimary() {
+        // Act
+        String applicationName = inTransaction(false);
+
+        // Assert
+        assertNotEquals("replica", applicationName);
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário em requisições que podem escrever")
+    void shouldReadFromPrimaryInRequestsThatMayWrite() {
+        // Arrange
+        ReadWriteRoutingContext.begin(true);
+
+        // Act
+        String applicationName = inTransaction(true);
+
+        // Assert
+        assertNotEquals("replica", applicationName);
+    }
+
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject(APPLICATION_NAME, String.class));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.brunogodoif.projectmanagement.integration.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.config.BaseIntegrationTest;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ActivityGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ClientGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.ActivityEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementLog;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ActivityRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ClientRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlStatementMonitoringTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ActivityGateway activityGateway;
+
+    @Autowired
+    private ProjectGateway projectGateway;
+
+    @Autowired
+    private ClientGateway clientGateway;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @BeforeEach
+    void setup() {
+        activityRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        Client client = clientGateway.create(new Client("Cliente Monitorado", "monitorado@empresa.com.br",
+                                                        "(11) 4321-8765", "Cliente Monitorado LTDA",
+                                                        "Av. Paulista, 1000, São Paulo-SP"));
+        for (int i = 0; i < 3; i++) {
+            Project project = projectGateway.create(new Project("Projeto " + i, "Projeto monitorado", client,
+                                                                LocalDate.now(), LocalDate.now().plusMonths(1),
+                                                                ProjectStatus.OPEN, "Gerente Teste", "Notas"));
+            activityGateway.create(new Activity("Atividade " + i, "Atividade monitorada", project,
+                                                LocalDate.now().plusDays(3), "Desenvolvedor Teste", false,
+                                                "MEDIA", 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve apontar N+1 ao acessar projetos carregados sob demanda")
+    void shouldFlagNPlusOneWhenTouchingLazyProjects() throws Exception {
+        // Act
+        SqlStatementLog statements = recordStatements(() -> entityManager
+                .createQuery("select a from ActivityEntity a", ActivityEntity.class)
+                .getResultList()
+                .forEach(activity -> activity.getProject().getName()));
+
+        // Assert
+        assertEquals(4, statements.count());
+        Map<String, Long> repeated = statements.repeatedShapes(3);
+        assertEquals(1, repeated.size());
+        assertEquals(3, repeated.values().iterator().next());
+    }
+
+    @Test
+    @DisplayName("Deve carregar atividades com projeto sem instruções repetidas")
+    void shouldLoadActivitiesWithProjectWithoutRepeatedStatements() throws Exception {
+        // Act & Assert
+        assertStatementBudget(1, () -> activityGateway.findAll());
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.brunogodoif.projectmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestOptions(int clients, int projectsPerClient, int activitiesPerProject, int concurrency,
+                              Duration warmup, Duration duration, String jdbcUrl, String jdbcUsername,
+                              String jdbcPassword, boolean jsonAccelerated, boolean gzip, Path outputDirectory) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("clients", "100")),
+                Integer.parseInt(values.getOrDefault("projects-per-client", "10")),
+                Integer.parseInt(values.getOrDefault("activities-per-project", "20")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                blankToNull(values.get("jdbc-url")),
+                values.getOrDefault("jdbc-username", "postgres"),
+                values.getOrDefault("jdbc-password", "postgres"),
+                Boolean.parseBoolean(values.getOrDefault("json-accelerated", "true")),
+                Boolean.parseBoolean(values.getOrDefault("gzip", "true")),
+                Path.of(values.getOrDefault("output", "target/loadtest"))
+        );
+    }
+
+    public long totalProjects() {
+        return (long) clients * projectsPerClient;
+    }
+
+    public long totalActivities() {
+        return totalProjects() * activitiesPerProject;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,228 @@
+package br.com.brunogodoif.projectmanagement.loadtest;
+
+import br.com.brunogodoif.projectmanagement.ProjectmanagementApplication;
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.AuthRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.UserRequest;
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.response.TokenResponse;
+import br.com.brunogodoif.projectmanagement.loadtest.LoadTestWorkload.EndpointStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Starts the application against PostgreSQL, seeds a synthetic dataset through COPY and drives a mixed
+ * read/write workload over HTTP. Latencies are written per endpoint as HdrHistogram percentile
+ * distributions plus a JSON summary, so runs can be compared release over release.
+ *
+ * <p>Run with {@code mvn -Ploadtest test-compile exec:exec}; see the {@code loadtest} profile in the
+ * pom for the available options.
+ */
+public final class LoadTestRunner {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        PostgreSQLContainer<?> postgres = null;
+        String jdbcUrl = options.jdbcUrl();
+        String username = options.jdbcUsername();
+        String password = options.jdbcPassword();
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17-alpine"))
+                    .withDatabaseName("projectmgmt-loadtest").withUsername("postgres").withPassword("postgres");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        try (ConfigurableApplicationContext context = startApplication(jdbcUrl, username, password,
+                                                                       options.jsonAccelerated())) {
+            run(context, options);
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String jdbcUrl, String username,
+                                                                   String password, boolean jsonAccelerated) {
+        return new SpringApplicationBuilder(ProjectmanagementApplication.class)
+                .run("--server.port=0",
+                     "--spring.datasource.url=" + jdbcUrl,
+                     "--spring.datasource.username=" + username,
+                     "--spring.datasource.password=" + password,
+                     "--app.json.accelerated=" + jsonAccelerated,
+                     "--app.project-stats.reconcile-cron=-",
+                     "--logging.level.root=WARN",
+                     "--logging.level.org.hibernate=WARN",
+                     "--logging.level.br.com.brunogodoif.projectmanagement=WARN");
+    }
+
+    private static void run(ConfigurableApplicationContext context, LoadTestOptions options) throws Exception {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        System.out.printf("Seeding %d clients, %d projects and %d activities%n", options.clients(),
+                          options.totalProjects(), options.totalActivities());
+        long seedStart = System.nanoTime();
+        SyntheticDataset dataset = SyntheticDataset.seed(context.getBean(BulkImportGatewayInterface.class), options);
+        context.getBean(ProjectStatsGatewayInterface.class).rebuildAll();
+        context.getBean(PortfolioDashboardGatewayInterface.class).refresh();
+        Duration seedTime = Duration.ofNanos(System.nanoTime() - seedStart);
+        System.out.printf("Seeded in %d ms%n", seedTime.toMillis());
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                                          .connectTimeout(Duration.ofSeconds(5)).build();
+        String token = login(httpClient, baseUri, objectMapper);
+
+        System.out.printf("Running %d virtual users for %ds after a %ds warmup%n", options.concurrency(),
+                          options.duration().toSeconds(), options.warmup().toSeconds());
+        LoadTestWorkload workload = new LoadTestWorkload(httpClient, baseUri, token, objectMapper, dataset,
+                                                         options.gzip());
+        Map<String, EndpointStats> stats = workload.run(options.concurrency(), options.warmup(), options.duration());
+
+        writeReport(options, seedTime, stats, workload.getMeasuredCpuNanos(), objectMapper);
+    }
+
+    private static String login(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper) throws Exception {
+        String username = "loadtest-" + Long.toString(System.currentTimeMillis(), 36);
+        String password = "loadtest-password";
+
+        post(httpClient, baseUri.resolve("/api/auth/register"), objectMapper.writeValueAsBytes(
+                new UserRequest(username, password, username + "@carga.com.br", "Usuário do Teste de Carga",
+                                List.of("ADMIN", "USER"))));
+        HttpResponse<byte[]> login = post(httpClient, baseUri.resolve("/api/auth/login"),
+                                          objectMapper.writeValueAsBytes(new AuthRequest(username, password)));
+        return objectMapper.readValue(login.body(), TokenResponse.class).token();
+    }
+
+    private static HttpResponse<byte[]> post(HttpClient httpClient, URI uri, byte[] body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Content-Type", "application/json")
+                                         .POST(HttpRequest.BodyPublishers.ofByteArray(body)).build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri.getPath() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static void writeReport(LoadTestOptions options, Duration seedTime, Map<String, EndpointStats> stats,
+                                    long cpuNanos, ObjectMapper objectMapper) throws IOException {
+        Path output = options.outputDirectory();
+        Files.createDirectories(output);
+        double seconds = options.duration().toMillis() / 1000.0;
+
+        Histogram total = new Histogram(3);
+        long totalRequests = 0;
+        long totalErrors = 0;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram latency = endpoint.getLatencyMicros();
+            total.add(latency);
+            totalRequests += endpoint.getRequests();
+            totalErrors += endpoint.getErrors();
+            endpoints.add(summarize(endpoint.getName(), latency, endpoint.getRequests(), endpoint.getErrors(),
+                                    seconds));
+            writeHistogram(output.resolve(fileName(endpoint.getName())), latency);
+        }
+        writeHistogram(output.resolve("total.hgrm"), total);
+        Map<String, Object> totalSummary = summarize("total", total, totalRequests, totalErrors, seconds);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("finishedAt", Instant.now().toString());
+        summary.put("dataset", Map.of("clients", options.clients(),
+                                      "projects", options.totalProjects(),
+                                      "activities", options.totalActivities(),
+                                      "seedMillis", seedTime.toMillis()));
+        summary.put("concurrency", options.concurrency());
+        summary.put("warmupSeconds", options.warmup().toSeconds());
+        summary.put("durationSeconds", options.duration().toSeconds());
+        summary.put("jsonAccelerated", options.jsonAccelerated());
+        summary.put("gzip", options.gzip());
+        // Process CPU, so it includes the load generator running in the same JVM; compare runs, not absolutes
+        summary.put("cpuMicrosPerRequest", totalRequests == 0 ? 0 : round(cpuNanos / 1000.0 / totalRequests));
+        summary.put("total", totalSummary);
+        summary.put("endpoints", endpoints);
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(output.resolve("summary.json").toFile(), summary);
+
+        printTable(endpoints, totalSummary);
+        System.out.println("CPU per request: " + summary.get("cpuMicrosPerRequest") + " us");
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> summarize(String name, Histogram latency, long requests, long errors,
+                                                 double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", name);
+        summary.put("requests", requests);
+        summary.put("errors", errors);
+        summary.put("throughput", round(requests / seconds));
+        summary.put("meanMs", round(latency.getMean() / MICROS_PER_MILLI));
+        summary.put("p50Ms", percentile(latency, 50));
+        summary.put("p99Ms", percentile(latency, 99));
+        summary.put("p999Ms", percentile(latency, 99.9));
+        summary.put("maxMs", round(latency.getMaxValue() / MICROS_PER_MILLI));
+        return summary;
+    }
+
+    private static double percentile(Histogram latency, double percentile) {
+        return round(latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static void writeHistogram(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "") + ".hgrm";
+    }
+
+    private static void printTable(List<Map<String, Object>> endpoints, Map<String, Object> total) {
+        String format = "%-42s %9s %7s %9s %9s %9s %9s%n";
+        System.out.printf(format, "endpoint", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        List<Map<String, Object>> rows = new ArrayList<>(endpoints);
+        rows.add(total);
+        for (Map<String, Object> row : rows) {
+            System.out.printf(format, row.get("endpoint"), row.get("throughput"), row.get("errors"),
+                              row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package br.com.brunogodoif.projectmanagement.loadtest;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.controllers.request.ActivityRequest;
+import br.com.brunogodoif.projectmanagement.loadtest.SyntheticDataset.ActivityRef;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.OperatingSystemMXBean;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class LoadTestWorkload {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final String token;
+    private final ObjectMapper objectMapper;
+    private final SyntheticDataset dataset;
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final boolean gzip;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private long measuredCpuNanos;
+
+    public LoadTestWorkload(HttpClient httpClient, URI baseUri, String token, ObjectMapper objectMapper,
+                            SyntheticDataset dataset, boolean gzip) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.token = token;
+        this.objectMapper = objectMapper;
+        this.dataset = dataset;
+        this.gzip = gzip;
+        this.operations = List.of(
+                new Operation("GET /api/projects", 20, random -> get("/api/projects?limit=20")),
+                new Operation("GET /api/projects/{id}", 15,
+                              random -> get("/api/projects/" + pick(dataset.getProjectIds(), random))),
+                new Operation("GET /api/projects/{id}/summary", 10,
+                              random -> get("/api/projects/" + pick(dataset.getProjectIds(), random) + "/summary")),
+                new Operation("GET /api/activities/project/{projectId}", 20,
+                              random -> get("/api/activities/project/" + pick(dataset.getProjectIds(), random))),
+                new Operation("GET /api/clients/{id}", 10,
+                              random -> get("/api/clients/" + pick(dataset.getClientIds(), random))),
+                new Operation("GET /api/dashboard/portfolio", 5, random -> get("/api/dashboard/portfolio")),
+                new Operation("POST /api/activities", 12, this::createActivity),
+                new Operation("PUT /api/activities/{id}", 8, this::updateActivity)
+        );
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        operations.forEach(operation -> stats.put(operation.name(), new EndpointStats(operation.name())));
+    }
+
+    public Map<String, EndpointStats> run(int concurrency, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> drive(measureFrom, stopAt));
+            }
+            users.shutdown();
+            TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+            long cpuFrom = processCpuNanos();
+            users.awaitTermination(duration.plus(REQUEST_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS);
+            measuredCpuNanos = processCpuNanos() - cpuFrom;
+        }
+        return stats;
+    }
+
+    /**
+     * CPU time the whole process spent during the measured window of the last run.
+     */
+    public long getMeasuredCpuNanos() {
+        return measuredCpuNanos;
+    }
+
+    private static long processCpuNanos() {
+        return ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class).getProcessCpuTime();
+    }
+
+    private void drive(long measureFrom, long stopAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start;
+        while ((start = System.nanoTime()) < stopAt) {
+            Operation operation = nextOperation(random);
+            HttpRequest.Builder builder = operation.request().apply(random)
+                                                   .header("Authorization", "Bearer " + token)
+                                                   .timeout(REQUEST_TIMEOUT);
+            if (gzip) {
+                // Bodies are discarded, so they are never inflated; only the server pays for compression
+                builder.header("Accept-Encoding", "gzip");
+            }
+            HttpRequest request = builder.build();
+            boolean measured = start >= measureFrom;
+            EndpointStats endpoint = stats.get(operation.name());
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (measured) {
+                    endpoint.record(System.nanoTime() - start, response.statusCode() >= 400);
+                }
+            } catch (IOException e) {
+                if (measured) {
+                    endpoint.recordFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Operation nextOperation(ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.getLast();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+    }
+
+    private HttpRequest.Builder createActivity(ThreadLocalRandom random) {
+        UUID projectId = pick(dataset.getProjectIds(), random);
+        return json("/api/activities", "POST", newActivityRequest(projectId, random));
+    }
+
+    private HttpRequest.Builder updateActivity(ThreadLocalRandom random) {
+        ActivityRef activity = pick(dataset.getActivities(), random);
+        // The version is not tracked per virtual user; writers racing on the same row still get 412
+        return json("/api/activities/" + activity.id(), "PUT", newActivityRequest(activity.projectId(), random))
+                .header("If-Match", "*");
+    }
+
+    private ActivityRequest newActivityRequest(UUID projectId, ThreadLocalRandom random) {
+        return new ActivityRequest("Atividade de carga", "Atividade criada pelo teste de carga", projectId,
+                                   LocalDate.now().plusDays(random.nextInt(1, 90)), "Desenvolvedor Carga",
+                                   random.nextBoolean(), "MEDIA", random.nextInt(1, 40));
+    }
+
+    private HttpRequest.Builder json(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                              .header("Content-Type", "application/json")
+                              .method(method, HttpRequest.BodyPublishers.ofByteArray(
+                                      objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+    }
+
+    public static class EndpointStats {
+
+        private final String name;
+        private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        void record(long elapsedNanos, boolean error) {
+            latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        void recordFailure() {
+            failures.increment();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Histogram getLatencyMicros() {
+            return latencyMicros;
+        }
+
+        public long getErrors() {
+            return errors.sum() + failures.sum();
+        }
+
+        public long getRequests() {
+            return latencyMicros.getTotalCount() + failures.sum();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.brunogodoif.projectmanagement.loadtest;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+public class SyntheticDataset {
+
+    private static final int CLIENTS_PER_CHUNK = 500;
+    private static final int ROWS_PER_COPY = 20_000;
+    private static final String[] PRIORITIES = {"ALTA", "MEDIA", "BAIXA"};
+    private static final ProjectStatus[] STATUSES = ProjectStatus.values();
+
+    private final List<UUID> clientIds = new ArrayList<>();
+    private final List<UUID> projectIds = new ArrayList<>();
+    private final List<ActivityRef> activities = new ArrayList<>();
+
+    private SyntheticDataset() {
+    }
+
+    public static SyntheticDataset seed(BulkImportGatewayInterface bulkImportGateway, LoadTestOptions options) {
+        SyntheticDataset dataset = new SyntheticDataset();
+        Random random = new Random(42);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        for (int first = 0; first < options.clients(); first += CLIENTS_PER_CHUNK) {
+            int last = Math.min(first + CLIENTS_PER_CHUNK, options.clients());
+
+            List<Client> clients = new ArrayList<>(last - first);
+            for (int i = first; i < last; i++) {
+                clients.add(newClient(i, run));
+            }
+            Set<UUID> skipped = bulkImportGateway.copyClients(clients);
+            clients.removeIf(client -> skipped.contains(client.getId()));
+
+            List<Project> projects = new ArrayList<>();
+            List<Activity> activities = new ArrayList<>();
+            for (Client client : clients) {
+                dataset.clientIds.add(client.getId());
+                for (int p = 0; p < options.projectsPerClient(); p++) {
+                    Project project = newProject(client, p, random);
+                    projects.add(project);
+                    dataset.projectIds.add(project.getId());
+
+                    for (int a = 0; a < options.activitiesPerProject(); a++) {
+                        Activity activity = newActivity(project, a, random);
+                        activities.add(activity);
+                        if (a == 0) {
+                            dataset.activities.add(new ActivityRef(activity.getId(), project.getId()));
+                        }
+                    }
+                }
+                if (projects.size() + activities.size() >= ROWS_PER_COPY) {
+                    copy(bulkImportGateway, projects, activities);
+                }
+            }
+            copy(bulkImportGateway, projects, activities);
+        }
+        return dataset;
+    }
+
+    private static void copy(BulkImportGatewayInterface bulkImportGateway, List<Project> projects,
+                             List<Activity> activities) {
+        if (!projects.isEmpty()) {
+            bulkImportGateway.copyProjects(projects);
+            projects.clear();
+        }
+        if (!activities.isEmpty()) {
+            bulkImportGateway.copyActivities(activities);
+            activities.clear();
+        }
+    }
+
+    public List<UUID> getClientIds() {
+        return clientIds;
+    }
+
+    public List<UUID> getProjectIds() {
+        return projectIds;
+    }
+
+    public List<ActivityRef> getActivities() {
+        return activities;
+    }
+
+    private static Client newClient(int index, String run) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Client(UUID.randomUUID(), "Cliente " + index, "cliente-" + run + "-" + index + "@carga.com.br",
+                          "(11) 4000-" + String.format("%04d", index % 10_000), "Empresa " + index + " LTDA",
+                          "Rua da Carga, " + index + ", São Paulo-SP", now, now, true);
+    }
+
+    private static Project newProject(Client client, int index, Random random) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = LocalDate.now().minusDays(random.nextInt(365));
+        return new Project(UUID.randomUUID(), "Projeto " + index + " de " + client.getName(),
+                           "Projeto gerado para o teste de carga", client, start,
+                           start.plusDays(30 + random.nextInt(365)), STATUSES[random.nextInt(STATUSES.length)],
+                           "Gerente " + random.nextInt(50), "Notas do projeto", false, now, now);
+    }
+
+    private static Activity newActivity(Project project, int index, Random random) {
+        return new Activity("Atividade " + index, "Atividade gerada para o teste de carga", project,
+                            project.getStartDate().plusDays(random.nextInt(120)), "Desenvolvedor " + random.nextInt(200),
+                            random.nextInt(3) == 0, PRIORITIES[random.nextInt(PRIORITIES.length)],
+                            1 + random.nextInt(40));
+    }
+
+    public record ActivityRef(UUID id, UUID projectId) {
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.brunogodoif.projectmanagement.unit.application.domain;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 4, 1, 10, 0);
+
+    @Test
+    @DisplayName("Deve descartar a linha extra e apontar o cursor para o último item da página")
+    void shouldTrimExtraRowAndPointCursorToLastItem() {
+        List<UUID> fetched = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        CursorPage<UUID> page = CursorPage.of(fetched, 2, id -> new PageCursor(createdAt, id));
+
+        assertEquals(fetched.subList(0, 2), page.getItems());
+        assertTrue(page.hasNext());
+        assertEquals(fetched.get(1), page.getNext().getId());
+    }
+
+    @Test
+    @DisplayName("Deve indicar última página quando não há linha extra")
+    void shouldSignalLastPageWhenNoExtraRow() {
+        List<UUID> fetched = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        CursorPage<UUID> page = CursorPage.of(fetched, 2, id -> new PageCursor(createdAt, id));
+
+        assertEquals(fetched, page.getItems());
+        assertFalse(page.hasNext());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    @DisplayName("Deve manter o cursor ao mapear os itens da página")
+    void shouldKeepCursorWhenMappingItems() {
+        PageCursor next = new PageCursor(createdAt, UUID.randomUUID());
+        CursorPage<Integer> page = new CursorPage<>(List.of(1, 2), next);
+
+        CursorPage<String> mapped = page.map(String::valueOf);
+
+        assertEquals(List.of("1", "2"), mapped.getItems());
+        assertSame(next, mapped.getNext());
+    }
+
+    @Test
+    @DisplayName("Deve exigir data de criação e ID no cursor")
+    void shouldRequireCreatedAtAndIdInCursor() {
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(null, UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(createdAt, null));
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.brunogodoif.projectmanagement.unit.application.domain;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportReport;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportReportTest {
+
+    private final List<ImportRecord<?>> rejections = new ArrayList<>();
+
+    private final Function<String, String> build = value -> {
+        if (value.isBlank()) {
+            throw new BusinessValidationException("Value is required");
+        }
+        return value.toUpperCase();
+    };
+
+    @Test
+    @DisplayName("Deve persistir os registros em blocos do tamanho configurado")
+    void shouldPersistRecordsInChunksOfConfiguredSize() {
+        List<ImportRecord<String>> records = LongStream.rangeClosed(1, 7)
+                                                       .mapToObj(line -> ImportRecord.of(line, "linha " + line))
+                                                       .toList();
+        List<List<String>> chunks = new ArrayList<>();
+
+        ImportReport report = ImportReport.of(records.iterator(), build, chunk -> {
+            chunks.add(chunk);
+            return Map.of();
+        }, 3, rejections::add);
+
+        assertEquals(7, report.getAccepted());
+        assertEquals(0, report.getRejected());
+        assertEquals(List.of(3, 3, 1), chunks.stream().map(List::size).toList());
+        assertEquals("LINHA 7", chunks.get(2).get(0));
+        assertTrue(rejections.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registros ilegíveis e inválidos sem interromper a importação")
+    void shouldRejectUnreadableAndInvalidRecordsWithoutStopping() {
+        List<ImportRecord<String>> records = List.of(ImportRecord.of(1, "primeira"),
+                                                     ImportRecord.invalid(2, "Unexpected character"),
+                                                     ImportRecord.of(3, " "),
+                                                     ImportRecord.of(4, "quarta"));
+        List<String> persisted = new ArrayList<>();
+
+        ImportReport report = ImportReport.of(records.iterator(), build, chunk -> {
+            persisted.addAll(chunk);
+            return Map.of();
+        }, 10, rejections::add);
+
+        assertEquals(2, report.getAccepted());
+        assertEquals(2, report.getRejected());
+        assertEquals(List.of("PRIMEIRA", "QUARTA"), persisted);
+        assertEquals(List.of(2L, 3L), rejections.stream().map(ImportRecord::getLine).toList());
+        assertEquals("Value is required", rejections.get(1).getError());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar apenas as linhas recusadas pelo armazenamento")
+    void shouldRejectOnlyLinesRefusedByStore() {
+        List<ImportRecord<String>> records = LongStream.rangeClosed(1, 3)
+                                                       .mapToObj(line -> ImportRecord.of(line, "linha " + line))
+                                                       .toList();
+
+        ImportReport report = ImportReport.of(records.iterator(), build, chunk -> Map.of(1, "Already exists"), 5,
+                                              rejections::add);
+
+        assertEquals(2, report.getAccepted());
+        assertEquals(1, report.getRejected());
+        assertEquals(2L, rejections.get(0).getLine());
+        assertEquals("Already exists", rejections.get(0).getError());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar todas as linhas de um bloco que falha ao persistir")
+    void shouldRejectEveryLineOfChunkThatFailsToPersist() {
+        List<ImportRecord<String>> records = LongStream.rangeClosed(1, 4)
+                                                       .mapToObj(line -> ImportRecord.of(line, "linha " + line))
+                                                       .toList();
+        List<List<String>> chunks = new ArrayList<>();
+
+        ImportReport report = ImportReport.of(records.iterator(), build, chunk -> {
+            if (chunk.contains("LINHA 1")) {
+                throw new IllegalStateException("duplicate key");
+            }
+            chunks.add(chunk);
+            return Map.of();
+        }, 2, rejections::add);
+
+        assertEquals(2, report.getAccepted());
+        assertEquals(2, report.getRejected());
+        assertEquals(List.of(1L, 2L), rejections.stream().map(ImportRecord::getLine).toList());
+        assertEquals("Chunk could not be saved: duplicate key", rejections.get(0).getError());
+        assertEquals(List.of(List.of("LINHA 3", "LINHA 4")), chunks);
+    }
+}
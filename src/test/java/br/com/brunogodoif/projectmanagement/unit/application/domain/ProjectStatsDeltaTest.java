@@ -0,0 +1,105 @@
+package br.com.brunogodoif.projectmanagement.unit.application.domain;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectStatsDeltaTest {
+
+    private final Project project = createValidProject();
+
+    @Test
+    @DisplayName("Deve contabilizar horas restantes apenas para atividades abertas")
+    void shouldCountRemainingHoursOnlyForOpenActivities() {
+        ProjectStatsDelta open = ProjectStatsDelta.added(createActivity(project, false, 8));
+        ProjectStatsDelta completed = ProjectStatsDelta.added(createActivity(project, true, 5));
+
+        assertEquals(1, open.getActivityCount());
+        assertEquals(0, open.getCompletedCount());
+        assertEquals(8, open.getTotalHours());
+        assertEquals(8, open.getRemainingHours());
+        assertEquals(1, completed.getCompletedCount());
+        assertEquals(5, completed.getTotalHours());
+        assertEquals(0, completed.getRemainingHours());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer a contribuição de uma atividade removida")
+    void shouldReverseContributionOfRemovedActivity() {
+        Activity activity = createActivity(project, true, 6);
+        LocalDateTime removedAt = LocalDateTime.now();
+
+        ProjectStatsDelta delta = ProjectStatsDelta.removed(activity, removedAt);
+
+        assertEquals(-1, delta.getActivityCount());
+        assertEquals(-1, delta.getCompletedCount());
+        assertEquals(-6, delta.getTotalHours());
+        assertEquals(0, delta.getRemainingHours());
+        assertEquals(removedAt, delta.getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("Deve calcular apenas a diferença quando a atividade é concluída")
+    void shouldComputeOnlyDifferenceWhenActivityIsCompleted() {
+        Activity before = createActivity(project, false, 10);
+        Activity after = createActivity(project, true, 12);
+
+        ProjectStatsDelta delta = ProjectStatsDelta.changed(before, after);
+
+        assertEquals(0, delta.getActivityCount());
+        assertEquals(1, delta.getCompletedCount());
+        assertEquals(2, delta.getTotalHours());
+        assertEquals(-10, delta.getRemainingHours());
+        assertEquals(after.getUpdatedAt(), delta.getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as atividades criadas por projeto")
+    void shouldGroupAddedActivitiesByProject() {
+        Project other = createValidProject();
+        List<Activity> activities = List.of(createActivity(project, false, 3),
+                                            createActivity(project, true, 4),
+                                            createActivity(other, false, 7));
+
+        Map<UUID, ProjectStatsDelta> deltas = ProjectStatsDelta.addedByProject(activities);
+
+        assertEquals(2, deltas.size());
+        assertEquals(2, deltas.get(project.getId()).getActivityCount());
+        assertEquals(1, deltas.get(project.getId()).getCompletedCount());
+        assertEquals(7, deltas.get(project.getId()).getTotalHours());
+        assertEquals(3, deltas.get(project.getId()).getRemainingHours());
+        assertEquals(1, deltas.get(other.getId()).getActivityCount());
+        assertEquals(7, deltas.get(other.getId()).getRemainingHours());
+    }
+
+    private Activity createActivity(Project project, boolean completed, int estimatedHours) {
+        return new Activity("Atividade Teste", "Descrição da atividade", project, LocalDate.now().plusDays(7),
+                            "Responsável Teste", completed, "MEDIA", estimatedHours);
+    }
+
+    private Project createValidProject() {
+        return new Project(
+                "Projeto Teste",
+                "Descrição do projeto teste",
+                new Client("Cliente Teste", "cliente@teste.com.br", "11 98765-4321", "Empresa Cliente Teste",
+                           "Endereço do Cliente Teste"),
+                LocalDate.now(),
+                LocalDate.now().plusMonths(3),
+                ProjectStatus.OPEN,
+                "Gerente Teste",
+                "Notas do projeto"
+        );
+    }
+}
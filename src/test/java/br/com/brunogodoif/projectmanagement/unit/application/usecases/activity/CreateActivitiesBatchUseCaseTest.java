@@ -0,0 +1,149 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.activity;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.activity.CreateActivitiesBatchUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateActivitiesBatchUseCaseTest {
+
+    @Mock
+    private ActivityGatewayInterface activityGateway;
+
+    @Mock
+    private ProjectGatewayInterface projectGateway;
+
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
+    @InjectMocks
+    private CreateActivitiesBatchUseCase createActivitiesBatchUseCase;
+
+    private UUID projectId;
+    private Project mockProject;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+
+        Client mockClient = new Client(
+                UUID.randomUUID(),
+                "Cliente Exemplo",
+                "cliente@exemplo.com.br",
+                "21 99999-8888",
+                "Cliente Exemplo Ltda",
+                "Rua Exemplo, 123, Rio de Janeiro, RJ",
+                LocalDateTime.now().minusMonths(12),
+                LocalDateTime.now().minusMonths(6),
+                true
+        );
+
+        mockProject = new Project(
+                projectId,
+                "Sistema de Gestão Empresarial",
+                "Desenvolvimento de sistema de gestão integrado",
+                mockClient,
+                LocalDate.now().minusMonths(2),
+                LocalDate.now().plusMonths(10),
+                ProjectStatus.IN_PROGRESS,
+                "José Coordenador",
+                "Sistema crítico para operação",
+                false,
+                LocalDateTime.now().minusMonths(2),
+                LocalDateTime.now().minusWeeks(2)
+        );
+    }
+
+    private ActivityInputDTO activityInput(String title, UUID projectId) {
+        return ActivityInputDTO.builder()
+                               .id(UUID.randomUUID())
+                               .title(title)
+                               .description("Atividade criada em lote")
+                               .projectId(projectId)
+                               .dueDate(LocalDate.now().plusWeeks(2))
+                               .assignedTo("Ana Desenvolvedora")
+                               .priority("MEDIA")
+                               .estimatedHours(8)
+                               .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar mil atividades buscando o projeto uma única vez")
+    void shouldCreateThousandActivitiesResolvingProjectOnce() {
+        // Arrange
+        List<ActivityInputDTO> inputs = IntStream.range(0, 1000)
+                                                 .mapToObj(i -> activityInput("Tarefa " + i, projectId))
+                                                 .toList();
+        when(projectGateway.findAllByIds(Set.of(projectId))).thenReturn(List.of(mockProject));
+        when(activityGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Activity> result = createActivitiesBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(1000, result.getSucceededCount());
+        assertEquals("Tarefa 999", result.getItems().get(999).getItem().getTitle());
+
+        verify(projectGateway, times(1)).findAllByIds(Set.of(projectId));
+        verify(projectGateway, never()).findById(any());
+        verify(activityGateway, times(1)).saveAll(anyList());
+        verify(activityGateway, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve não persistir nada quando todos os itens são inválidos")
+    void shouldNotPersistWhenAllItemsAreInvalid() {
+        // Arrange
+        List<ActivityInputDTO> inputs = List.of(activityInput("Tarefa Órfã", UUID.randomUUID()));
+        when(projectGateway.findAllByIds(any())).thenReturn(List.of());
+
+        // Act
+        BatchResult<Activity> result = createActivitiesBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(0, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        verify(activityGateway, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de negócio quando a persistência do lote falha")
+    void shouldThrowBusinessExceptionWhenSaveAllFails() {
+        // Arrange
+        List<ActivityInputDTO> inputs = List.of(activityInput("Tarefa 1", projectId));
+        when(projectGateway.findAllByIds(any())).thenReturn(List.of(mockProject));
+        when(activityGateway.saveAll(anyList())).thenThrow(new RuntimeException("Database error"));
+
+        // Act & Assert
+        BusinessOperationException exception = assertThrows(BusinessOperationException.class,
+                                                             () -> createActivitiesBatchUseCase.execute(inputs));
+        assertEquals("Failed to create activity batch", exception.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.activity.CreateActivityUseCase;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
@@ -35,6 +36,9 @@ class CreateActivityUseCaseTest {
     @Mock
     private ProjectGatewayInterface projectGateway;
 
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
     @InjectMocks
     private CreateActivityUseCase createActivityUseCase;
 
@@ -108,7 +112,7 @@ class CreateActivityUseCaseTest {
     void shouldCreateActivitySuccessfully() {
         // Arrange
         when(projectGateway.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(activityGateway.save(any(Activity.class))).thenReturn(expectedActivity);
+        when(activityGateway.create(any(Activity.class))).thenReturn(expectedActivity);
 
         // Act
         Activity result = createActivityUseCase.execute(validActivityInputDTO);
@@ -126,7 +130,9 @@ class CreateActivityUseCaseTest {
         assertEquals(validActivityInputDTO.getEstimatedHours(), result.getEstimatedHours());
 
         verify(projectGateway, times(1)).findById(projectId);
-        verify(activityGateway, times(1)).save(any(Activity.class));
+        verify(activityGateway, times(1)).create(any(Activity.class));
+        verify(projectStatsGateway, times(1)).increment(eq(projectId),
+                                                        argThat(delta -> delta.getActivityCount() == 1));
     }
 
     @Test
@@ -143,6 +149,6 @@ class CreateActivityUseCaseTest {
         assertEquals("Project not found with ID: " + projectId, exception.getMessage());
 
         verify(projectGateway, times(1)).findById(projectId);
-        verify(activityGateway, never()).save(any(Activity.class));
+        verify(activityGateway, never()).create(any(Activity.class));
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package br.com.brunogodoif.projectmanagement.unit.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.activity.DeleteActivityUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.DeletedActivity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
@@ -30,6 +32,9 @@ class DeleteActivityUseCaseTest {
     @Mock
     private ActivityGatewayInterface activityGateway;
 
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
     @InjectMocks
     private DeleteActivityUseCase deleteActivityUseCase;
 
@@ -86,22 +91,30 @@ class DeleteActivityUseCaseTest {
     @DisplayName("Deve excluir atividade com sucesso")
     void shouldDeleteActivitySuccessfully() {
         // Arrange
-        when(activityGateway.findById(activityId)).thenReturn(Optional.of(mockActivity));
-        doNothing().when(activityGateway).deleteById(activityId);
+        DeletedActivity deletedActivity = DeletedActivity.builder()
+                                                         .id(activityId)
+                                                         .projectId(mockActivity.getProject().getId())
+                                                         .completed(mockActivity.isCompleted())
+                                                         .estimatedHours(mockActivity.getEstimatedHours())
+                                                         .build();
+        when(activityGateway.deleteReturning(activityId)).thenReturn(Optional.of(deletedActivity));
 
         // Act
         assertDoesNotThrow(() -> deleteActivityUseCase.execute(activityId));
 
         // Assert
-        verify(activityGateway, times(1)).findById(activityId);
-        verify(activityGateway, times(1)).deleteById(activityId);
+        verify(activityGateway, times(1)).deleteReturning(activityId);
+        verify(activityGateway, never()).findById(any(UUID.class));
+        verify(projectStatsGateway, times(1)).increment(eq(mockActivity.getProject().getId()),
+                                                        argThat(delta -> delta.getActivityCount() == -1
+                                                                && delta.getRemainingHours() == -40));
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando a atividade não é encontrada")
     void shouldThrowExceptionWhenActivityNotFound() {
         // Arrange
-        when(activityGateway.findById(activityId)).thenReturn(Optional.empty());
+        when(activityGateway.deleteReturning(activityId)).thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
@@ -110,16 +123,15 @@ class DeleteActivityUseCaseTest {
 
         assertEquals("Activity not found with ID: " + activityId, exception.getMessage());
 
-        verify(activityGateway, times(1)).findById(activityId);
-        verify(activityGateway, never()).deleteById(any(UUID.class));
+        verify(activityGateway, times(1)).deleteReturning(activityId);
+        verifyNoInteractions(projectStatsGateway);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando ocorre erro na operação")
     void shouldThrowExceptionWhenOperationFails() {
         // Arrange
-        when(activityGateway.findById(activityId)).thenReturn(Optional.of(mockActivity));
-        doThrow(new RuntimeException("Database error")).when(activityGateway).deleteById(activityId);
+        when(activityGateway.deleteReturning(activityId)).thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
         BusinessOperationException exception = assertThrows(BusinessOperationException.class, () -> {
@@ -128,7 +140,6 @@ class DeleteActivityUseCaseTest {
 
         assertEquals("Failed to delete activity", exception.getMessage());
 
-        verify(activityGateway, times(1)).findById(activityId);
-        verify(activityGateway, times(1)).deleteById(activityId);
+        verify(activityGateway, times(1)).deleteReturning(activityId);
     }
 }
@@ -3,6 +3,8 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.activity;
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.activity.ListActivitiesByProjectUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
@@ -17,8 +19,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -104,58 +104,32 @@ class ListActivitiesByProjectUseCaseTest {
     }
 
     @Test
-    @DisplayName("Deve listar atividades por projeto com sucesso")
-    void shouldListActivitiesByProjectSuccessfully() {
+    @DisplayName("Deve listar página de atividades por projeto")
+    void shouldListPageOfActivitiesByProject() {
         // Arrange
-        List<Activity> expectedActivities = Arrays.asList(mockActivity1, mockActivity2);
+        PageCursor after = new PageCursor(mockActivity1.getCreatedAt(), mockActivity1.getId());
+        CursorPage<Activity> expectedPage = new CursorPage<>(List.of(mockActivity2), null);
         when(projectGateway.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(activityGateway.findByProjectId(projectId)).thenReturn(expectedActivities);
+        when(activityGateway.findByProjectId(projectId, after, 5)).thenReturn(expectedPage);
 
         // Act
-        List<Activity> result = listActivitiesByProjectUseCase.execute(projectId);
+        CursorPage<Activity> result = listActivitiesByProjectUseCase.execute(projectId, after, 5);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(mockActivity1));
-        assertTrue(result.contains(mockActivity2));
-
-        verify(projectGateway, times(1)).findById(projectId);
-        verify(activityGateway, times(1)).findByProjectId(projectId);
-    }
-
-    @Test
-    @DisplayName("Deve retornar lista vazia quando não há atividades para o projeto")
-    void shouldReturnEmptyListWhenNoActivitiesFound() {
-        // Arrange
-        when(projectGateway.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(activityGateway.findByProjectId(projectId)).thenReturn(Collections.emptyList());
-
-        // Act
-        List<Activity> result = listActivitiesByProjectUseCase.execute(projectId);
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(projectGateway, times(1)).findById(projectId);
-        verify(activityGateway, times(1)).findByProjectId(projectId);
+        assertSame(expectedPage, result);
+        verify(activityGateway, times(1)).findByProjectId(projectId, after, 5);
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando o projeto não é encontrado")
-    void shouldThrowExceptionWhenProjectNotFound() {
+    @DisplayName("Deve lançar exceção ao paginar atividades de projeto inexistente")
+    void shouldThrowExceptionWhenPagingActivitiesOfMissingProject() {
         // Arrange
         when(projectGateway.findById(projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            listActivitiesByProjectUseCase.execute(projectId);
-        });
-
-        assertEquals("Project not found with ID: " + projectId, exception.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                     () -> listActivitiesByProjectUseCase.execute(projectId, null, 5));
 
-        verify(projectGateway, times(1)).findById(projectId);
-        verify(activityGateway, never()).findByProjectId(any(UUID.class));
+        verify(activityGateway, never()).findByProjectId(any(UUID.class), any(), anyInt());
     }
 }
@@ -2,8 +2,10 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.activity;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.activity.UpdateActivityUseCase;
 import br.com.brunogodoif.projectmanagement.domain.dtos.ActivityInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectStatsDelta;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
@@ -36,6 +38,9 @@ class UpdateActivityUseCaseTest {
     @Mock
     private ProjectGatewayInterface projectGateway;
 
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
     @InjectMocks
     private UpdateActivityUseCase updateActivityUseCase;
 
@@ -166,6 +171,10 @@ class UpdateActivityUseCaseTest {
         verify(activityGateway, times(1)).findById(activityId);
         verify(projectGateway, times(1)).findById(newProjectId);
         verify(activityGateway, times(1)).save(any(Activity.class));
+        verify(projectStatsGateway, times(1)).increment(eq(existingActivity.getProject().getId()),
+                                                        argThat(delta -> delta.getActivityCount() == -1));
+        verify(projectStatsGateway, times(1)).increment(eq(newProjectId),
+                                                        argThat(delta -> delta.getActivityCount() == 1));
     }
 
     @Test
@@ -213,6 +222,8 @@ class UpdateActivityUseCaseTest {
         verify(activityGateway, times(1)).findById(activityId);
         verify(projectGateway, never()).findById(any(UUID.class));
         verify(activityGateway, times(1)).save(any(Activity.class));
+        verify(projectStatsGateway, times(1)).increment(eq(existingActivity.getProject().getId()),
+                                                        any(ProjectStatsDelta.class));
     }
 
     @Test
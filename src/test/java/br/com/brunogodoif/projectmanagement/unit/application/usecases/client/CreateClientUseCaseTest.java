@@ -64,7 +64,7 @@ class CreateClientUseCaseTest {
     void shouldCreateClientSuccessfully() {
         // Arrange
         when(clientGateway.existsByEmail(validClientInputDTO.getEmail())).thenReturn(false);
-        when(clientGateway.save(any(Client.class))).thenReturn(expectedClient);
+        when(clientGateway.create(any(Client.class))).thenReturn(expectedClient);
 
         // Act
         Client result = createClientUseCase.execute(validClientInputDTO);
@@ -80,7 +80,7 @@ class CreateClientUseCaseTest {
         assertTrue(result.isActive());
 
         verify(clientGateway, times(1)).existsByEmail(validClientInputDTO.getEmail());
-        verify(clientGateway, times(1)).save(any(Client.class));
+        verify(clientGateway, times(1)).create(any(Client.class));
     }
 
     @Test
@@ -97,6 +97,6 @@ class CreateClientUseCaseTest {
         assertEquals("Client with email " + validClientInputDTO.getEmail() + " already exists", exception.getMessage());
 
         verify(clientGateway, times(1)).existsByEmail(validClientInputDTO.getEmail());
-        verify(clientGateway, never()).save(any(Client.class));
+        verify(clientGateway, never()).create(any(Client.class));
     }
 }
\ No newline at end of file
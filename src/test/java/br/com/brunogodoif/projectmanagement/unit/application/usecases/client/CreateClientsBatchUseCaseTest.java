@@ -0,0 +1,120 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.client;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.client.CreateClientsBatchUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ClientInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateClientsBatchUseCaseTest {
+
+    @Mock
+    private ClientGatewayInterface clientGateway;
+
+    @InjectMocks
+    private CreateClientsBatchUseCase createClientsBatchUseCase;
+
+    private ClientInputDTO clientInput(String name, String email) {
+        return ClientInputDTO.builder()
+                             .id(UUID.randomUUID())
+                             .name(name)
+                             .email(email)
+                             .phone("11 98765-4321")
+                             .companyName(name + " Ltda")
+                             .address("Rua Augusta, 1500, São Paulo, SP")
+                             .active(true)
+                             .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar clientes em lote com uma única consulta de e-mails")
+    void shouldCreateClientsWithSingleEmailLookup() {
+        // Arrange
+        List<ClientInputDTO> inputs = List.of(clientInput("Empresa Alfa", "contato@alfa.com.br"),
+                                              clientInput("Empresa Beta", "contato@beta.com.br"));
+        when(clientGateway.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(clientGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Client> result = createClientsBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(2, result.getSucceededCount());
+        assertEquals("contato@beta.com.br", result.getItems().get(1).getItem().getEmail());
+
+        verify(clientGateway, times(1)).findExistingEmails(anyCollection());
+        verify(clientGateway, never()).existsByEmail(any());
+        verify(clientGateway, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar e-mails já cadastrados ou repetidos no mesmo lote")
+    void shouldRejectExistingAndRepeatedEmails() {
+        // Arrange
+        List<ClientInputDTO> inputs = List.of(clientInput("Empresa Alfa", "contato@alfa.com.br"),
+                                              clientInput("Empresa Existente", "contato@existente.com.br"),
+                                              clientInput("Empresa Alfa Filial", "contato@alfa.com.br"));
+        when(clientGateway.findExistingEmails(anyCollection())).thenReturn(Set.of("contato@existente.com.br"));
+        when(clientGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Client> result = createClientsBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(2, result.getFailedCount());
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertEquals("Client with email contato@existente.com.br already exists", result.getItems().get(1).getError());
+        assertEquals("Client with email contato@alfa.com.br already exists", result.getItems().get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Deve reportar falha de validação sem interromper o lote")
+    void shouldReportValidationFailureWithoutStoppingBatch() {
+        // Arrange
+        List<ClientInputDTO> inputs = List.of(clientInput("", "vazio@empresa.com.br"),
+                                              clientInput("Empresa Gama", "contato@gama.com.br"));
+        when(clientGateway.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(clientGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Client> result = createClientsBatchUseCase.execute(inputs);
+
+        // Assert
+        assertFalse(result.getItems().get(0).isSuccess());
+        assertNotNull(result.getItems().get(0).getError());
+        assertTrue(result.getItems().get(1).isSuccess());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote excede o tamanho máximo")
+    void shouldThrowExceptionWhenBatchIsTooLarge() {
+        // Arrange
+        List<ClientInputDTO> inputs = IntStream.range(0, 1001)
+                                               .mapToObj(i -> clientInput("Cliente " + i, "cliente" + i + "@empresa.com.br"))
+                                               .toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> createClientsBatchUseCase.execute(inputs));
+
+        verifyNoInteractions(clientGateway);
+    }
+}
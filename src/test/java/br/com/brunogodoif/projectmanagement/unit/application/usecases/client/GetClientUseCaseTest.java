@@ -2,6 +2,7 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.client;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.client.GetClientUseCase;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
@@ -34,6 +35,9 @@ class GetClientUseCaseTest {
     @Mock
     private ProjectGatewayInterface projectGateway;
 
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
     @InjectMocks
     private GetClientUseCase getClientUseCase;
 
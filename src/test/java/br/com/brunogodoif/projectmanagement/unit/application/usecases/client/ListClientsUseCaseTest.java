@@ -2,6 +2,8 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.client;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.client.ListClientsUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +14,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -60,37 +60,20 @@ class ListClientsUseCaseTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os clientes ativos")
-    void shouldListAllActiveClients() {
+    @DisplayName("Deve listar página de clientes ativos com cursor para a próxima página")
+    void shouldListPageOfActiveClients() {
         // Arrange
-        List<Client> expectedClients = Arrays.asList(mockClient1, mockClient2);
-        when(clientGateway.findAllActive()).thenReturn(expectedClients);
+        PageCursor next = new PageCursor(mockClient1.getCreatedAt(), mockClient1.getId());
+        CursorPage<Client> expectedPage = new CursorPage<>(List.of(mockClient1), next);
+        when(clientGateway.findAllActive(null, 1)).thenReturn(expectedPage);
 
         // Act
-        List<Client> result = listClientsUseCase.execute();
+        CursorPage<Client> result = listClientsUseCase.execute(null, 1);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(mockClient1));
-        assertTrue(result.contains(mockClient2));
-
-        verify(clientGateway, times(1)).findAllActive();
-    }
-
-    @Test
-    @DisplayName("Deve retornar lista vazia quando não há clientes ativos")
-    void shouldReturnEmptyListWhenNoActiveClients() {
-        // Arrange
-        when(clientGateway.findAllActive()).thenReturn(Collections.emptyList());
-
-        // Act
-        List<Client> result = listClientsUseCase.execute();
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(clientGateway, times(1)).findAllActive();
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.hasNext());
+        assertSame(next, result.getNext());
+        verify(clientGateway, times(1)).findAllActive(null, 1);
     }
 }
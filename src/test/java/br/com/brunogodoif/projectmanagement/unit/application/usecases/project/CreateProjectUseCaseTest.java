@@ -93,7 +93,7 @@ class CreateProjectUseCaseTest {
     void shouldCreateProjectSuccessfully() {
         // Arrange
         when(clientGateway.findById(clientId)).thenReturn(Optional.of(mockClient));
-        when(projectGateway.save(any(Project.class))).thenReturn(expectedProject);
+        when(projectGateway.create(any(Project.class))).thenReturn(expectedProject);
 
         // Act
         Project result = createProjectUseCase.execute(validProjectInputDTO);
@@ -112,7 +112,7 @@ class CreateProjectUseCaseTest {
         assertFalse(result.isDeleted());
 
         verify(clientGateway, times(1)).findById(clientId);
-        verify(projectGateway, times(1)).save(any(Project.class));
+        verify(projectGateway, times(1)).create(any(Project.class));
     }
 
     @Test
@@ -129,7 +129,7 @@ class CreateProjectUseCaseTest {
         assertEquals("Client not found with ID: " + clientId, exception.getMessage());
 
         verify(clientGateway, times(1)).findById(clientId);
-        verify(projectGateway, never()).save(any(Project.class));
+        verify(projectGateway, never()).create(any(Project.class));
     }
 
     @Test
@@ -149,7 +149,7 @@ class CreateProjectUseCaseTest {
         );
 
         when(clientGateway.findById(clientId)).thenReturn(Optional.of(differentClientWithSameId));
-        when(projectGateway.save(any(Project.class))).thenAnswer(invocation -> {
+        when(projectGateway.create(any(Project.class))).thenAnswer(invocation -> {
             Project savedProject = invocation.getArgument(0);
             // Retornar o mesmo projeto que foi passado para save()
             return savedProject;
@@ -163,6 +163,6 @@ class CreateProjectUseCaseTest {
         assertEquals(differentClientWithSameId, result.getClient());
 
         verify(clientGateway, times(1)).findById(clientId);
-        verify(projectGateway, times(1)).save(any(Project.class));
+        verify(projectGateway, times(1)).create(any(Project.class));
     }
 }
@@ -0,0 +1,130 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ClientGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.project.CreateProjectsBatchUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.BatchResult;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectInputDTO;
+import br.com.brunogodoif.projectmanagement.domain.entities.Client;
+import br.com.brunogodoif.projectmanagement.domain.entities.Project;
+import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateProjectsBatchUseCaseTest {
+
+    @Mock
+    private ProjectGatewayInterface projectGateway;
+
+    @Mock
+    private ClientGatewayInterface clientGateway;
+
+    @InjectMocks
+    private CreateProjectsBatchUseCase createProjectsBatchUseCase;
+
+    private UUID clientId;
+    private Client mockClient;
+
+    @BeforeEach
+    void setUp() {
+        clientId = UUID.randomUUID();
+        mockClient = new Client(
+                clientId,
+                "TechSolutions Brasil",
+                "contato@techsolutions.com.br",
+                "11 3333-4444",
+                "TechSolutions Sistemas Ltda",
+                "Av. Engenheiro Luís Carlos Berrini, 1500, São Paulo, SP",
+                LocalDateTime.now().minusMonths(6),
+                LocalDateTime.now().minusMonths(3),
+                true
+        );
+    }
+
+    private ProjectInputDTO projectInput(String name, UUID clientId) {
+        return ProjectInputDTO.builder()
+                              .id(UUID.randomUUID())
+                              .name(name)
+                              .description("Projeto criado em lote")
+                              .clientId(clientId)
+                              .startDate(LocalDate.now())
+                              .endDate(LocalDate.now().plusMonths(2))
+                              .status(ProjectStatus.OPEN)
+                              .manager("Ricardo Gestor")
+                              .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar projetos em lote buscando o cliente uma única vez")
+    void shouldCreateProjectsResolvingClientOnce() {
+        // Arrange
+        List<ProjectInputDTO> inputs = List.of(projectInput("Portal Web", clientId),
+                                               projectInput("Aplicativo Mobile", clientId),
+                                               projectInput("Integração ERP", clientId));
+        when(clientGateway.findAllByIds(Set.of(clientId))).thenReturn(List.of(mockClient));
+        when(projectGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Project> result = createProjectsBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(3, result.getSucceededCount());
+        assertEquals(0, result.getFailedCount());
+        assertEquals("Aplicativo Mobile", result.getItems().get(1).getItem().getName());
+        assertEquals(mockClient, result.getItems().get(2).getItem().getClient());
+
+        verify(clientGateway, times(1)).findAllByIds(anyCollection());
+        verify(clientGateway, never()).findById(any());
+        verify(projectGateway, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve reportar falha apenas nos itens com cliente inexistente")
+    void shouldReportFailureForItemsWithUnknownClient() {
+        // Arrange
+        UUID unknownClientId = UUID.randomUUID();
+        List<ProjectInputDTO> inputs = List.of(projectInput("Portal Web", clientId),
+                                               projectInput("Projeto Órfão", unknownClientId));
+        when(clientGateway.findAllByIds(anyCollection())).thenReturn(List.of(mockClient));
+        when(projectGateway.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult<Project> result = createProjectsBatchUseCase.execute(inputs);
+
+        // Assert
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertEquals(1, result.getItems().get(1).getIndex());
+        assertEquals("Client not found with ID: " + unknownClientId, result.getItems().get(1).getError());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote está vazio")
+    void shouldThrowExceptionWhenBatchIsEmpty() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                     () -> createProjectsBatchUseCase.execute(Collections.emptyList()));
+
+        verifyNoInteractions(clientGateway, projectGateway);
+    }
+}
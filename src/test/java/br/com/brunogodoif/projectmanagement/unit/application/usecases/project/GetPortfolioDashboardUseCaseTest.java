@@ -0,0 +1,57 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.project.GetPortfolioDashboardUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboard;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetPortfolioDashboardUseCaseTest {
+
+    @Mock
+    private PortfolioDashboardGatewayInterface portfolioDashboardGateway;
+
+    @InjectMocks
+    private GetPortfolioDashboardUseCase getPortfolioDashboardUseCase;
+
+    @Test
+    @DisplayName("Deve retornar o painel pré-agregado do portfólio")
+    void shouldReturnPreAggregatedDashboard() {
+        // Arrange
+        PortfolioDashboard dashboard = PortfolioDashboard.builder()
+                                                         .refreshedAt(LocalDateTime.now())
+                                                         .total(PortfolioSlice.builder().projectCount(3).build())
+                                                         .byStatus(List.of())
+                                                         .topClients(List.of())
+                                                         .topManagers(List.of())
+                                                         .build();
+        when(portfolioDashboardGateway.find(5)).thenReturn(dashboard);
+
+        // Act
+        PortfolioDashboard result = getPortfolioDashboardUseCase.execute(5);
+
+        // Assert
+        assertSame(dashboard, result);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo")
+    void shouldRejectLimitOutOfRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> getPortfolioDashboardUseCase.execute(0));
+        assertThrows(IllegalArgumentException.class, () -> getPortfolioDashboardUseCase.execute(101));
+        verifyNoInteractions(portfolioDashboardGateway);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.project.GetProjectSummaryUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ProjectSummary;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetProjectSummaryUseCaseTest {
+
+    @Mock
+    private ProjectGatewayInterface projectGateway;
+
+    @Mock
+    private ActivityGatewayInterface activityGateway;
+
+    @InjectMocks
+    private GetProjectSummaryUseCase getProjectSummaryUseCase;
+
+    @Test
+    @DisplayName("Deve retornar o resumo de um projeto existente")
+    void shouldReturnSummaryOfExistingProject() {
+        // Arrange
+        UUID projectId = UUID.randomUUID();
+        ProjectSummary summary = ProjectSummary.builder()
+                                               .projectId(projectId)
+                                               .totalActivities(4)
+                                               .completedActivities(1)
+                                               .estimatedHours(30)
+                                               .openHours(22)
+                                               .overdueActivities(2)
+                                               .build();
+        when(projectGateway.existsById(projectId)).thenReturn(true);
+        when(activityGateway.summarizeByProjectId(projectId)).thenReturn(summary);
+
+        // Act
+        ProjectSummary result = getProjectSummaryUseCase.execute(projectId);
+
+        // Assert
+        assertSame(summary, result);
+        verify(activityGateway, never()).findByProjectId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao resumir projeto inexistente")
+    void shouldThrowExceptionWhenProjectDoesNotExist() {
+        // Arrange
+        UUID projectId = UUID.randomUUID();
+        when(projectGateway.existsById(projectId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> getProjectSummaryUseCase.execute(projectId));
+        verifyNoInteractions(activityGateway);
+    }
+
+    @Test
+    @DisplayName("Deve resumir vários projetos removendo IDs repetidos")
+    void shouldSummarizeSeveralProjectsWithoutDuplicates() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<ProjectSummary> summaries = List.of(ProjectSummary.empty(first), ProjectSummary.empty(second));
+        when(activityGateway.summarizeByProjectIds(new LinkedHashSet<>(List.of(first, second)))).thenReturn(summaries);
+
+        // Act
+        List<ProjectSummary> result = getProjectSummaryUseCase.execute(List.of(first, second, first));
+
+        // Assert
+        assertEquals(summaries, result);
+        verifyNoInteractions(projectGateway);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista de projetos vazia ou acima do limite")
+    void shouldRejectEmptyOrOversizedProjectList() {
+        // Arrange
+        List<UUID> tooMany = IntStream.rangeClosed(0, GetProjectSummaryUseCase.MAX_PROJECTS)
+                                      .mapToObj(i -> UUID.randomUUID())
+                                      .toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                     () -> getProjectSummaryUseCase.execute(Collections.<UUID>emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> getProjectSummaryUseCase.execute(tooMany));
+        verifyNoInteractions(activityGateway);
+    }
+}
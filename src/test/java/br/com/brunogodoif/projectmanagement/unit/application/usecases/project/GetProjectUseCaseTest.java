@@ -3,6 +3,7 @@ package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
 import br.com.brunogodoif.projectmanagement.application.gateways.ActivityGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.project.GetProjectUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Activity;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
@@ -175,4 +176,55 @@ class GetProjectUseCaseTest {
         verify(projectGateway, times(1)).findById(projectId);
         verify(activityGateway, never()).findByProjectId(any(UUID.class));
     }
+
+    @Test
+    @DisplayName("Deve responder sem carregar o projeto quando ele não foi modificado")
+    void shouldSkipLoadingWhenProjectIsNotModified() {
+        // Arrange
+        ResourceFreshness freshness = ResourceFreshness.builder()
+                                                       .lastModified(mockProject.getUpdatedAt())
+                                                       .itemCount(2)
+                                                       .build();
+        when(projectGateway.findFreshness(projectId)).thenReturn(Optional.of(freshness));
+
+        // Act
+        Optional<Project> result = getProjectUseCase.executeIfModified(projectId, current -> current == freshness);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(projectGateway, never()).findById(any());
+        verifyNoInteractions(activityGateway);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o projeto quando ele foi modificado")
+    void shouldLoadProjectWhenModified() {
+        // Arrange
+        ResourceFreshness freshness = ResourceFreshness.builder()
+                                                       .lastModified(mockProject.getUpdatedAt())
+                                                       .itemCount(2)
+                                                       .build();
+        when(projectGateway.findFreshness(projectId)).thenReturn(Optional.of(freshness));
+        when(projectGateway.findById(projectId)).thenReturn(Optional.of(mockProject));
+        when(activityGateway.findByProjectId(projectId)).thenReturn(Arrays.asList(mockActivity1, mockActivity2));
+
+        // Act
+        Optional<Project> result = getProjectUseCase.executeIfModified(projectId, current -> false);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(2, result.get().getActivities().size());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao verificar modificação de projeto inexistente")
+    void shouldThrowWhenCheckingModificationOfNonExistentProject() {
+        // Arrange
+        when(projectGateway.findFreshness(projectId)).thenReturn(Optional.empty());
+        when(projectGateway.findById(projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                     () -> getProjectUseCase.executeIfModified(projectId, current -> true));
+    }
 }
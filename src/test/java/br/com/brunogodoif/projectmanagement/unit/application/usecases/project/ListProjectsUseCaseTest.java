@@ -1,7 +1,12 @@
 package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
 
 import br.com.brunogodoif.projectmanagement.application.gateways.ProjectGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
 import br.com.brunogodoif.projectmanagement.application.usecases.project.ListProjectsUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.CursorPage;
+import br.com.brunogodoif.projectmanagement.domain.dtos.FieldSet;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PageCursor;
+import br.com.brunogodoif.projectmanagement.domain.dtos.ResourceFreshness;
 import br.com.brunogodoif.projectmanagement.domain.entities.Client;
 import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
@@ -15,9 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +34,9 @@ class ListProjectsUseCaseTest {
     @Mock
     private ProjectGatewayInterface projectGateway;
 
+    @Mock
+    private ProjectStatsGatewayInterface projectStatsGateway;
+
     @InjectMocks
     private ListProjectsUseCase listProjectsUseCase;
 
@@ -84,110 +92,80 @@ class ListProjectsUseCaseTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os projetos ativos")
-    void shouldListAllActiveProjects() {
+    @DisplayName("Deve listar página de projetos ativos a partir do cursor")
+    void shouldListPageOfActiveProjects() {
         // Arrange
-        List<Project> expectedProjects = Arrays.asList(mockProject1, mockProject2);
-        when(projectGateway.findAllActive()).thenReturn(expectedProjects);
+        PageCursor after = new PageCursor(mockProject1.getCreatedAt(), mockProject1.getId());
+        CursorPage<Project> expectedPage = new CursorPage<>(List.of(mockProject2), null);
+        when(projectGateway.findAllActive(after, 10)).thenReturn(expectedPage);
 
         // Act
-        List<Project> result = listProjectsUseCase.execute();
+        CursorPage<Project> result = listProjectsUseCase.execute(after, 10);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(mockProject1));
-        assertTrue(result.contains(mockProject2));
-
-        verify(projectGateway, times(1)).findAllActive();
-    }
-
-    @Test
-    @DisplayName("Deve retornar lista vazia quando não há projetos ativos")
-    void shouldReturnEmptyListWhenNoActiveProjects() {
-        // Arrange
-        when(projectGateway.findAllActive()).thenReturn(Collections.emptyList());
-
-        // Act
-        List<Project> result = listProjectsUseCase.execute();
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(projectGateway, times(1)).findAllActive();
+        assertSame(expectedPage, result);
+        assertFalse(result.hasNext());
+        verify(projectGateway, times(1)).findAllActive(after, 10);
     }
 
     @Test
-    @DisplayName("Deve listar projetos por status")
-    void shouldListProjectsByStatus() {
+    @DisplayName("Deve listar página de projetos por status e por cliente")
+    void shouldListPageOfProjectsByStatusAndClient() {
         // Arrange
-        ProjectStatus status = ProjectStatus.IN_PROGRESS;
-        List<Project> expectedProjects = Collections.singletonList(mockProject1);
-        when(projectGateway.findByStatus(status)).thenReturn(expectedProjects);
-
-        // Act
-        List<Project> result = listProjectsUseCase.executeByStatus(status);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertTrue(result.contains(mockProject1));
-        assertFalse(result.contains(mockProject2));
-
-        verify(projectGateway, times(1)).findByStatus(status);
+        CursorPage<Project> statusPage = new CursorPage<>(List.of(mockProject1), null);
+        CursorPage<Project> clientPage = new CursorPage<>(List.of(mockProject1, mockProject2), null);
+        when(projectGateway.findByStatus(ProjectStatus.IN_PROGRESS, null, 20)).thenReturn(statusPage);
+        when(projectGateway.findByClientId(clientId, null, 20)).thenReturn(clientPage);
+
+        // Act & Assert
+        assertSame(statusPage, listProjectsUseCase.executeByStatus(ProjectStatus.IN_PROGRESS, null, 20));
+        assertSame(clientPage, listProjectsUseCase.executeByClient(clientId, null, 20));
     }
 
     @Test
-    @DisplayName("Deve listar projetos por cliente")
-    void shouldListProjectsByClient() {
+    @DisplayName("Deve listar apenas os campos pedidos sem consultar o progresso dos projetos")
+    void shouldListRequestedFieldsWithoutProgress() {
         // Arrange
-        List<Project> expectedProjects = Arrays.asList(mockProject1, mockProject2);
-        when(projectGateway.findByClientId(clientId)).thenReturn(expectedProjects);
+        FieldSet fields = new FieldSet(List.of("name", "status"));
+        ResourceFreshness freshness = ResourceFreshness.builder().itemCount(1).build();
+        CursorPage<Map<String, Object>> expectedPage = new CursorPage<>(
+                List.of(Map.of("name", "Sistema ERP", "status", ProjectStatus.IN_PROGRESS)), null);
+        when(projectGateway.findFreshnessOfActive(null, 20)).thenReturn(freshness);
+        when(projectGateway.findAllActive(null, 20, fields)).thenReturn(expectedPage);
 
         // Act
-        List<Project> result = listProjectsUseCase.executeByClient(clientId);
+        Optional<CursorPage<Map<String, Object>>> result = listProjectsUseCase.executeIfModified(null, 20, fields,
+                                                                                                 current -> false);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(mockProject1));
-        assertTrue(result.contains(mockProject2));
-
-        verify(projectGateway, times(1)).findByClientId(clientId);
+        assertSame(expectedPage, result.orElseThrow());
+        verifyNoInteractions(projectStatsGateway);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há projetos para o status")
-    void shouldReturnEmptyListWhenNoProjectsForStatus() {
+    @DisplayName("Deve responder sem ler os campos quando a página não mudou")
+    void shouldSkipRequestedFieldsWhenPageUnchanged() {
         // Arrange
-        ProjectStatus status = ProjectStatus.COMPLETED;
-        when(projectGateway.findByStatus(status)).thenReturn(Collections.emptyList());
+        FieldSet fields = new FieldSet(List.of("name"));
+        when(projectGateway.findFreshnessByClientId(clientId, null, 20))
+                .thenReturn(ResourceFreshness.builder().itemCount(2).build());
 
         // Act
-        List<Project> result = listProjectsUseCase.executeByStatus(status);
+        Optional<CursorPage<Map<String, Object>>> result = listProjectsUseCase.executeByClientIfModified(
+                clientId, null, 20, fields, current -> true);
 
         // Assert
-        assertNotNull(result);
         assertTrue(result.isEmpty());
-
-        verify(projectGateway, times(1)).findByStatus(status);
+        verify(projectGateway, never()).findByClientId(clientId, null, 20, fields);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há projetos para o cliente")
-    void shouldReturnEmptyListWhenNoProjectsForClient() {
-        // Arrange
-        UUID otherClientId = UUID.randomUUID();
-        when(projectGateway.findByClientId(otherClientId)).thenReturn(Collections.emptyList());
-
-        // Act
-        List<Project> result = listProjectsUseCase.executeByClient(otherClientId);
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+    @DisplayName("Deve rejeitar limite de página fora do intervalo permitido")
+    void shouldRejectInvalidPageLimit() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> listProjectsUseCase.execute(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> listProjectsUseCase.execute(null, 101));
 
-        verify(projectGateway, times(1)).findByClientId(otherClientId);
+        verifyNoInteractions(projectGateway);
     }
 }
@@ -0,0 +1,102 @@
+package br.com.brunogodoif.projectmanagement.unit.application.usecases.project;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.usecases.project.RefreshPortfolioDashboardUseCase;
+import br.com.brunogodoif.projectmanagement.domain.dtos.PortfolioDashboardFreshness;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshPortfolioDashboardUseCaseTest {
+
+    @Mock
+    private PortfolioDashboardGatewayInterface portfolioDashboardGateway;
+
+    private RefreshPortfolioDashboardUseCase refreshPortfolioDashboardUseCase;
+
+    @BeforeEach
+    void setup() {
+        refreshPortfolioDashboardUseCase = new RefreshPortfolioDashboardUseCase(portfolioDashboardGateway,
+                                                                                Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar o painel quando não houve escritas desde a última atualização")
+    void shouldNotRefreshWhenNothingChanged() {
+        // Arrange
+        when(portfolioDashboardGateway.findFreshness()).thenReturn(freshness(10, 10));
+
+        // Act
+        boolean refreshed = refreshPortfolioDashboardUseCase.executeIfStale();
+
+        // Assert
+        assertFalse(refreshed);
+        verify(portfolioDashboardGateway, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o fim da rajada de escritas antes de atualizar o painel")
+    void shouldWaitForWriteBurstToSettleBeforeRefreshing() {
+        // Arrange
+        when(portfolioDashboardGateway.findFreshness()).thenReturn(freshness(10, 15), freshness(10, 20),
+                                                                   freshness(10, 20));
+        when(portfolioDashboardGateway.refresh()).thenReturn(true);
+
+        // Act
+        boolean duringFirstCheck = refreshPortfolioDashboardUseCase.executeIfStale();
+        boolean duringSecondCheck = refreshPortfolioDashboardUseCase.executeIfStale();
+        boolean afterBurst = refreshPortfolioDashboardUseCase.executeIfStale();
+
+        // Assert
+        assertFalse(duringFirstCheck);
+        assertFalse(duringSecondCheck);
+        assertTrue(afterBurst);
+        verify(portfolioDashboardGateway, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o painel quando as escritas continuam além do atraso máximo")
+    void shouldRefreshWhenWritesKeepArrivingPastMaxDelay() {
+        // Arrange
+        refreshPortfolioDashboardUseCase = new RefreshPortfolioDashboardUseCase(portfolioDashboardGateway,
+                                                                                Duration.ZERO);
+        when(portfolioDashboardGateway.findFreshness()).thenReturn(freshness(10, 15));
+        when(portfolioDashboardGateway.refresh()).thenReturn(true);
+
+        // Act
+        boolean refreshed = refreshPortfolioDashboardUseCase.executeIfStale();
+
+        // Assert
+        assertTrue(refreshed);
+        verify(portfolioDashboardGateway, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de negócio quando a atualização falha")
+    void shouldThrowBusinessExceptionWhenRefreshFails() {
+        // Arrange
+        when(portfolioDashboardGateway.refresh()).thenThrow(new RuntimeException("Database error"));
+
+        // Act & Assert
+        assertThrows(BusinessOperationException.class, () -> refreshPortfolioDashboardUseCase.execute());
+    }
+
+    private PortfolioDashboardFreshness freshness(long refreshedChangeCount, long changeCount) {
+        return PortfolioDashboardFreshness.builder()
+                                          .refreshedAt(LocalDateTime.now())
+                                          .refreshedChangeCount(refreshedChangeCount)
+                                          .changeCount(changeCount)
+                                          .build();
+    }
+}
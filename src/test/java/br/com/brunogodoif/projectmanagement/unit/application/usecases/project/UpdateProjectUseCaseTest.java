@@ -9,10 +9,12 @@ import br.com.brunogodoif.projectmanagement.domain.entities.Project;
 import br.com.brunogodoif.projectmanagement.domain.entities.ProjectStatus;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.BusinessOperationException;
 import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityNotFoundException;
+import br.com.brunogodoif.projectmanagement.domain.exceptions.EntityVersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -255,4 +257,53 @@ class UpdateProjectUseCaseTest {
         verify(clientGateway, times(1)).findById(newClientId);
         verify(projectGateway, times(1)).save(any(Project.class));
     }
+
+    @Test
+    @DisplayName("Deve lançar conflito sem salvar quando a versão esperada está desatualizada")
+    void shouldThrowConflictWhenExpectedVersionIsStale() {
+        // Arrange
+        Project currentProject = new Project(projectId, existingProject.getName(), existingProject.getDescription(),
+                                             existingClient, existingProject.getStartDate(),
+                                             existingProject.getEndDate(), existingProject.getStatus(),
+                                             existingProject.getManager(), existingProject.getNotes(), false,
+                                             existingProject.getCreatedAt(), existingProject.getUpdatedAt(), 3);
+        ProjectInputDTO staleInput = ProjectInputDTO.builder()
+                                                    .name("Sistema de Gestão Laboratorial - V2")
+                                                    .clientId(existingClientId)
+                                                    .status(ProjectStatus.IN_PROGRESS)
+                                                    .version(2L)
+                                                    .build();
+        when(projectGateway.findById(projectId)).thenReturn(Optional.of(currentProject));
+
+        // Act & Assert
+        assertThrows(EntityVersionConflictException.class, () -> updateProjectUseCase.execute(projectId, staleInput));
+
+        verify(clientGateway, never()).findById(any(UUID.class));
+        verify(projectGateway, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("Deve salvar com a versão lida e repassar conflito concorrente do gateway")
+    void shouldSaveWithReadVersionAndPropagateConcurrentConflict() {
+        // Arrange
+        Project currentProject = new Project(projectId, existingProject.getName(), existingProject.getDescription(),
+                                             existingClient, existingProject.getStartDate(),
+                                             existingProject.getEndDate(), existingProject.getStatus(),
+                                             existingProject.getManager(), existingProject.getNotes(), false,
+                                             existingProject.getCreatedAt(), existingProject.getUpdatedAt(), 3);
+        ProjectInputDTO currentInput = ProjectInputDTO.builder()
+                                                      .name("Sistema de Gestão Laboratorial - V2")
+                                                      .clientId(existingClientId)
+                                                      .status(ProjectStatus.IN_PROGRESS)
+                                                      .version(3L)
+                                                      .build();
+        ArgumentCaptor<Project> saved = ArgumentCaptor.forClass(Project.class);
+        when(projectGateway.findById(projectId)).thenReturn(Optional.of(currentProject));
+        when(projectGateway.save(saved.capture())).thenThrow(new EntityVersionConflictException("modificado"));
+
+        // Act & Assert
+        assertThrows(EntityVersionConflictException.class, () -> updateProjectUseCase.execute(projectId, currentInput));
+
+        assertEquals(3, saved.getValue().getVersion());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.importing;
+
+import br.com.brunogodoif.projectmanagement.domain.dtos.ImportRecord;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportErrorFiles;
+import br.com.brunogodoif.projectmanagement.infrastructure.importing.ImportErrorWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportErrorFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve apagar apenas os arquivos de erro mais antigos que a retenção")
+    void shouldDeleteOnlyErrorFilesOlderThanRetention() throws Exception {
+        // Arrange
+        ImportErrorFiles importErrorFiles = new ImportErrorFiles(directory, new ObjectMapper());
+        UUID expiredImport = writeRejectedRow(importErrorFiles);
+        UUID recentImport = writeRejectedRow(importErrorFiles);
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(importErrorFiles.find(expiredImport).orElseThrow(),
+                                  FileTime.from(now.minus(Duration.ofDays(8))));
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "manter");
+        Files.setLastModifiedTime(unrelated, FileTime.from(now.minus(Duration.ofDays(8))));
+
+        // Act
+        int deleted = importErrorFiles.deleteOlderThan(now.minus(Duration.ofDays(7)));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertTrue(importErrorFiles.find(expiredImport).isEmpty());
+        assertTrue(importErrorFiles.find(recentImport).isPresent());
+        assertTrue(Files.exists(unrelated));
+    }
+
+    @Test
+    @DisplayName("Não deve criar arquivo de erro quando nenhuma linha é rejeitada")
+    void shouldNotCreateErrorFileWithoutRejectedRows() throws Exception {
+        // Arrange
+        ImportErrorFiles importErrorFiles = new ImportErrorFiles(directory.resolve("imports"), new ObjectMapper());
+        UUID importId = UUID.randomUUID();
+
+        // Act
+        try (ImportErrorWriter rejections = importErrorFiles.open(importId)) {
+            assertFalse(rejections.hasErrors());
+        }
+
+        // Assert
+        assertTrue(importErrorFiles.find(importId).isEmpty());
+        assertEquals(0, importErrorFiles.deleteOlderThan(Instant.now()));
+    }
+
+    private UUID writeRejectedRow(ImportErrorFiles importErrorFiles) throws Exception {
+        UUID importId = UUID.randomUUID();
+        try (ImportErrorWriter writer = importErrorFiles.open(importId)) {
+            writer.accept(ImportRecord.invalid(1, "Name is required"));
+        }
+        return importId;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.application.gateways.BulkImportGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.PortfolioDashboardGatewayInterface;
+import br.com.brunogodoif.projectmanagement.application.gateways.ProjectStatsGatewayInterface;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.BulkImportGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.PortfolioDashboardGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.ProjectStatsGateway;
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseBusyException;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency.DatabaseAccessLimitAspect;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency.DatabaseAccessLimiter;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.PortfolioDashboardRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.ProjectStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DatabaseAccessLimitAspectTest {
+
+    private final DatabaseAccessLimiter limiter = mock(DatabaseAccessLimiter.class);
+
+    @BeforeEach
+    void setUp() {
+        // Banco saturado: nenhuma chamada consegue a permissão
+        when(limiter.acquire()).thenThrow(new DatabaseBusyException("Database access not available within 500 ms"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a cópia em massa antes de abrir uma conexão")
+    void shouldLimitBulkImportBeforeTakingConnection() {
+        // Arrange
+        DataSource dataSource = mock(DataSource.class);
+        BulkImportGatewayInterface gateway = limited(new BulkImportGateway(dataSource));
+
+        // Act & Assert
+        assertThrows(DatabaseBusyException.class, () -> gateway.copyActivities(List.of()));
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a reconstrução dos contadores de projetos antes de travar a tabela")
+    void shouldLimitProjectStatsRebuildBeforeLockingTable() {
+        // Arrange
+        ProjectStatsRepository repository = mock(ProjectStatsRepository.class);
+        ProjectStatsGatewayInterface gateway = limited(new ProjectStatsGateway(repository, 8));
+
+        // Act & Assert
+        assertThrows(DatabaseBusyException.class, gateway::rebuildAll);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a atualização do painel de portfólio antes de atualizar a view materializada")
+    void shouldLimitPortfolioDashboardRefreshBeforeRefreshingView() {
+        // Arrange
+        PortfolioDashboardRepository repository = mock(PortfolioDashboardRepository.class);
+        PortfolioDashboardGatewayInterface gateway = limited(new PortfolioDashboardGateway(repository));
+
+        // Act & Assert
+        assertThrows(DatabaseBusyException.class, gateway::refresh);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve limitar transações programáticas antes de abri-las")
+    void shouldLimitProgrammaticTransactionBeforeBeginning() {
+        // Arrange
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionOperations transactionOperations = limited(new TransactionTemplate(transactionManager));
+
+        // Act & Assert
+        assertThrows(DatabaseBusyException.class, () -> transactionOperations.execute(status -> true));
+        verifyNoInteractions(transactionManager);
+    }
+
+    private <T> T limited(Object target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new DatabaseAccessLimitAspect(limiter));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.gateways.exceptions.DatabaseBusyException;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.concurrency.DatabaseAccessLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseAccessLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DatabaseAccessLimiter limiter = new DatabaseAccessLimiter(1, Duration.ofMillis(50), meterRegistry);
+
+    @Test
+    @DisplayName("Deve rejeitar quem espera além do limite enquanto as permissões estão ocupadas")
+    void shouldRejectCallersWaitingBeyondMaxWait() {
+        // Arrange
+        try (DatabaseAccessLimiter.Permit ignored = limiter.acquire()) {
+
+            // Act
+            CompletableFuture<Void> other = CompletableFuture.runAsync(limiter::acquire);
+
+            // Assert
+            Exception exception = assertThrows(Exception.class, other::join);
+            assertInstanceOf(DatabaseBusyException.class, exception.getCause());
+        }
+
+        assertEquals(1, limiter.getAvailablePermits());
+        assertEquals(1, meterRegistry.get(DatabaseAccessLimiter.WAIT_TIMER).tag("outcome", "rejected").timer().count());
+        assertEquals(1, meterRegistry.get(DatabaseAccessLimiter.WAIT_TIMER).tag("outcome", "acquired").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a permissão em chamadas aninhadas na mesma thread")
+    void shouldReusePermitForNestedCallsOnSameThread() {
+        // Act
+        try (DatabaseAccessLimiter.Permit outer = limiter.acquire()) {
+            try (DatabaseAccessLimiter.Permit inner = limiter.acquire()) {
+                assertEquals(0, limiter.getAvailablePermits());
+            }
+
+            // Assert
+            assertEquals(0, limiter.getAvailablePermits());
+        }
+        assertEquals(1, limiter.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve liberar quem está na fila assim que a permissão é devolvida")
+    void shouldAdmitQueuedCallerOnceThePermitIsReleased() throws Exception {
+        // Arrange
+        SimpleMeterRegistry patientRegistry = new SimpleMeterRegistry();
+        DatabaseAccessLimiter patientLimiter = new DatabaseAccessLimiter(1, Duration.ofSeconds(5), patientRegistry);
+        CountDownLatch admitted = new CountDownLatch(1);
+        DatabaseAccessLimiter.Permit held = patientLimiter.acquire();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (DatabaseAccessLimiter.Permit ignored = patientLimiter.acquire()) {
+                admitted.countDown();
+            }
+        });
+        while (patientLimiter.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        assertEquals(1, patientRegistry.get(DatabaseAccessLimiter.QUEUED_GAUGE).gauge().value());
+        held.close();
+
+        // Assert
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(1, patientLimiter.getAvailablePermits());
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.PrimaryDataSource;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.ReadWriteRoutingContext;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.ReplicaLagMonitor;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final ReplicaRoutingDataSource readOnlyDataSource =
+            new ReplicaRoutingDataSource(replica, primary, replicaLagMonitor);
+
+    @BeforeEach
+    void setup() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaLagMonitor.isUsable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve ler da réplica quando o atraso está dentro da tolerância")
+    void shouldReadFromReplicaWhenLagIsTolerated() throws SQLException {
+        // Act
+        Connection connection = readOnlyDataSource.getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando a réplica está atrasada ou indisponível")
+    void shouldReadFromPrimaryWhenReplicaIsBehind() throws SQLException {
+        // Arrange
+        when(replicaLagMonitor.isUsable()).thenReturn(false);
+
+        // Act
+        Connection connection = readOnlyDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário depois de uma escrita na mesma requisição")
+    void shouldReadFromPrimaryAfterWriteInSameRequest() throws SQLException {
+        // Arrange
+        ReadWriteRoutingContext.begin(false);
+        new PrimaryDataSource(primary).getConnection();
+
+        // Act
+        Connection connection = readOnlyDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Não deve fixar o primário para escritas fora de uma requisição")
+    void shouldNotPinPrimaryForWritesOutsideRequest() throws SQLException {
+        // Arrange
+        new PrimaryDataSource(primary).getConnection();
+
+        // Act
+        Connection connection = readOnlyDataSource.getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        assertFalse(ReadWriteRoutingContext.isPinnedToPrimary());
+    }
+}
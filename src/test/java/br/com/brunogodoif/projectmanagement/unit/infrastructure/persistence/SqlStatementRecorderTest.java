@@ -0,0 +1,61 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.persistence;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementLog;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.monitoring.SqlStatementRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementRecorderTest {
+
+    private final SqlStatementRecorder recorder = new SqlStatementRecorder();
+
+    @Test
+    @DisplayName("Deve registrar instruções apenas enquanto o registro estiver aberto")
+    void shouldRecordStatementsOnlyWhileLogIsOpen() {
+        recorder.inspect("select 1");
+
+        SqlStatementLog statements = recorder.start();
+        recorder.inspect("select * from projects where id = ?");
+        statements.close();
+        recorder.inspect("select 2");
+
+        assertEquals(1, statements.count());
+        assertEquals("select * from projects where id = ?", statements.getStatements().get(0));
+    }
+
+    @Test
+    @DisplayName("Deve registrar instruções em todos os registros aninhados")
+    void shouldRecordStatementsInEveryNestedLog() {
+        try (SqlStatementLog outer = recorder.start()) {
+            recorder.inspect("select * from clients");
+            try (SqlStatementLog inner = recorder.start()) {
+                recorder.inspect("select * from projects");
+                assertEquals(1, inner.count());
+            }
+            assertEquals(2, outer.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agrupar instruções com o mesmo formato para apontar N+1")
+    void shouldGroupStatementsWithSameShapeToFlagNPlusOne() {
+        try (SqlStatementLog statements = recorder.start()) {
+            recorder.inspect("select * from activities where project_id = ?");
+            for (int i = 0; i < 3; i++) {
+                recorder.inspect("select * from  projects where id = '" + i + "'");
+            }
+            recorder.inspect("select * from clients where id in (?, ?, ?)");
+            recorder.inspect("SELECT * FROM clients WHERE id IN (?)");
+
+            Map<String, Long> repeated = statements.repeatedShapes(2);
+
+            assertEquals(2, repeated.size());
+            assertEquals(3, repeated.get("select * from projects where id = ?"));
+            assertEquals(2, repeated.get("select * from clients where id in (?)"));
+        }
+    }
+}
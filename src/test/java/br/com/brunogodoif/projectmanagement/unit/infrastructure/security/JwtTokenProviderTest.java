@@ -0,0 +1,140 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.security;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.security.JwtTokenProvider;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.TokenRevocationRegistry;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "3778214125442A472D4B6150645367566B59703373367639792F423F4528482B";
+
+    private UserDetailsImpl user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserDetailsImpl(UUID.randomUUID(),
+                                   "admin",
+                                   "admin@teste.com.br",
+                                   "senha",
+                                   List.of(new SimpleGrantedAuthority("ROLE_ADMIN")),
+                                   true);
+    }
+
+    @Test
+    @DisplayName("Deve retornar as claims de um token válido")
+    void shouldReturnClaimsOfValidToken() {
+        // Arrange
+        JwtTokenProvider provider = createProvider(0);
+        String token = generateToken(provider);
+
+        // Act
+        Optional<Claims> claims = provider.parseAndVerify(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals("admin", claims.get().getSubject());
+        assertEquals(user.getId().toString(), claims.get().get("uid", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token adulterado, expirado ou malformado")
+    void shouldRejectTamperedExpiredOrMalformedToken() {
+        // Arrange
+        JwtTokenProvider provider = createProvider(100);
+        String token = generateToken(provider);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = Jwts.builder().setSubject("admin").setIssuedAt(new Date(System.currentTimeMillis() - 2000))
+                             .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                             .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512).compact();
+
+        // Act & Assert
+        assertTrue(provider.parseAndVerify(tampered).isEmpty());
+        assertTrue(provider.parseAndVerify(expired).isEmpty());
+        assertTrue(provider.parseAndVerify("token-invalido").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar as claims verificadas do cache para o mesmo token")
+    void shouldReuseVerifiedClaimsFromCache() {
+        // Arrange
+        JwtTokenProvider cached = createProvider(100);
+        JwtTokenProvider uncached = createProvider(0);
+        String token = generateToken(cached);
+
+        // Act & Assert
+        assertSame(cached.parseAndVerify(token).orElseThrow(), cached.parseAndVerify(token).orElseThrow());
+        assertNotSame(uncached.parseAndVerify(token).orElseThrow(), uncached.parseAndVerify(token).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve montar o usuário a partir das claims respeitando a revogação")
+    void shouldBuildUserDetailsFromClaimsUnlessRevoked() {
+        // Arrange
+        TokenRevocationRegistry revocationRegistry = new TokenRevocationRegistry(60_000);
+        JwtTokenProvider provider = createProvider(100, revocationRegistry);
+        Claims claims = provider.parseAndVerify(generateToken(provider)).orElseThrow();
+
+        // Act
+        Optional<UserDetailsImpl> beforeRevocation = provider.getUserDetailsFromClaims(claims);
+        revocationRegistry.revoke("admin");
+        Optional<UserDetailsImpl> afterRevocation = provider.getUserDetailsFromClaims(claims);
+
+        // Assert
+        assertTrue(beforeRevocation.isPresent());
+        assertEquals(user.getId(), beforeRevocation.get().getId());
+        assertEquals("ROLE_ADMIN", beforeRevocation.get().getAuthorities().iterator().next().getAuthority());
+        assertTrue(afterRevocation.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar token emitido no mesmo segundo, mas depois da revogação")
+    void shouldAcceptTokenIssuedMillisecondsAfterRevocation() {
+        // Arrange
+        TokenRevocationRegistry revocationRegistry = new TokenRevocationRegistry(60_000);
+        long issuedBefore = System.currentTimeMillis();
+
+        // Act
+        revocationRegistry.revoke("admin");
+        long issuedAfter = System.currentTimeMillis() + 1;
+
+        // Assert
+        assertTrue(revocationRegistry.isRevoked("admin", issuedBefore));
+        assertFalse(revocationRegistry.isRevoked("admin", issuedAfter));
+        assertFalse(revocationRegistry.isRevoked("user", issuedBefore));
+    }
+
+    private String generateToken(JwtTokenProvider provider) {
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private JwtTokenProvider createProvider(long claimsCacheMaxSize) {
+        return createProvider(claimsCacheMaxSize, new TokenRevocationRegistry(60_000));
+    }
+
+    private JwtTokenProvider createProvider(long claimsCacheMaxSize, TokenRevocationRegistry revocationRegistry) {
+        JwtTokenProvider provider = new JwtTokenProvider(revocationRegistry);
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(provider, "tokenVersion", 1);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", claimsCacheMaxSize);
+        provider.init();
+        return provider;
+    }
+}
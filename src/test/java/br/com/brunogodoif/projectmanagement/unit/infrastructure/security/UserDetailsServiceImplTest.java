@@ -0,0 +1,103 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.security;
+
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.entities.UserEntity;
+import br.com.brunogodoif.projectmanagement.infrastructure.persistence.repositories.UserRepository;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsCache;
+import br.com.brunogodoif.projectmanagement.infrastructure.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDetailsCache userDetailsCache;
+    private UserDetailsServiceImpl userDetailsService;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(Duration.ofMinutes(1), 100);
+        userDetailsService = new UserDetailsServiceImpl(userRepository, userDetailsCache);
+
+        user = new UserEntity(UUID.randomUUID(),
+                              "usuario",
+                              "senha-codificada",
+                              "usuario@teste.com.br",
+                              "Usuário Teste",
+                              List.of("USER"),
+                              true,
+                              LocalDateTime.now(),
+                              LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez para cargas repetidas do mesmo usuário")
+    void shouldQueryDatabaseOnceForRepeatedLoads() {
+        // Arrange
+        when(userRepository.findByUsername("usuario")).thenReturn(Optional.of(user));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("usuario");
+        UserDetails second = userDetailsService.loadUserByUsername("usuario");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+        assertEquals(1, userDetailsCache.stats().hitCount());
+        assertEquals(1, userDetailsCache.stats().missCount());
+        verify(userRepository, times(1)).findByUsername("usuario");
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o usuário do banco após invalidação do cache")
+    void shouldReloadUserAfterEviction() {
+        // Arrange
+        UserEntity disabledUser = new UserEntity(user.getId(), user.getUsername(), user.getPassword(), user.getEmail(),
+                                                 user.getFullName(), List.of("USER"), false, user.getCreatedAt(),
+                                                 LocalDateTime.now());
+        when(userRepository.findByUsername("usuario")).thenReturn(Optional.of(user))
+                                                       .thenReturn(Optional.of(disabledUser));
+
+        // Act
+        UserDetails beforeEviction = userDetailsService.loadUserByUsername("usuario");
+        userDetailsCache.evict("usuario");
+        UserDetails afterEviction = userDetailsService.loadUserByUsername("usuario");
+
+        // Assert
+        assertTrue(beforeEviction.isEnabled());
+        assertFalse(afterEviction.isEnabled());
+        verify(userRepository, times(2)).findByUsername("usuario");
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar em cache usuário inexistente")
+    void shouldNotCacheMissingUser() {
+        // Arrange
+        when(userRepository.findByUsername("inexistente")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("inexistente"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("inexistente"));
+
+        assertEquals(0, userDetailsCache.size());
+        verify(userRepository, times(2)).findByUsername("inexistente");
+    }
+}
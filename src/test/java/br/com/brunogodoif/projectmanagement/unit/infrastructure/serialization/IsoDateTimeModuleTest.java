@@ -0,0 +1,65 @@
+package br.com.brunogodoif.projectmanagement.unit.infrastructure.serialization;
+
+import br.com.brunogodoif.projectmanagement.configuration.JacksonConfiguration;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoDateTimeModuleTest {
+
+    private final ObjectMapper plainMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper acceleratedMapper = acceleratedMapper();
+
+    @Test
+    @DisplayName("Deve escrever datas e horas exatamente como o JavaTimeModule")
+    void shouldWriteDatesExactlyLikeJavaTimeModule() throws Exception {
+        List<LocalDateTime> values = List.of(LocalDateTime.of(2025, 1, 2, 3, 4),
+                                             LocalDateTime.of(2025, 12, 31, 23, 59, 59),
+                                             LocalDateTime.of(2025, 6, 15, 8, 30, 0, 500_000_000),
+                                             LocalDateTime.of(2025, 6, 15, 8, 30, 0, 120_000),
+                                             LocalDateTime.of(2025, 6, 15, 8, 30, 0, 1),
+                                             LocalDateTime.of(2025, 6, 15, 8, 30, 0, 987_654_321),
+                                             LocalDateTime.of(987, 3, 9, 0, 0),
+                                             LocalDateTime.of(12025, 3, 9, 0, 0),
+                                             LocalDateTime.of(-44, 3, 15, 12, 0));
+
+        for (LocalDateTime value : values) {
+            assertEquals(plainMapper.writeValueAsString(value), acceleratedMapper.writeValueAsString(value));
+            assertEquals(plainMapper.writeValueAsString(value.toLocalDate()),
+                         acceleratedMapper.writeValueAsString(value.toLocalDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve respeitar @JsonFormat e a escrita como timestamp")
+    void shouldHonourFormatOverridesAndTimestamps() throws Exception {
+        Deadline deadline = new Deadline(LocalDate.of(2025, 3, 9), LocalDateTime.of(2025, 3, 9, 18, 0, 5));
+
+        assertEquals(plainMapper.writeValueAsString(deadline), acceleratedMapper.writeValueAsString(deadline));
+        assertEquals("{\"date\":\"09/03/2025\",\"at\":\"09/03/2025 18:00\"}",
+                     acceleratedMapper.writeValueAsString(deadline));
+        assertEquals(plainMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                .writeValueAsString(deadline.at()),
+                     acceleratedMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                      .writeValueAsString(deadline.at()));
+    }
+
+    private static ObjectMapper acceleratedMapper() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfiguration(true, true).jsonSerializationCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    record Deadline(@JsonFormat(pattern = "dd/MM/yyyy") LocalDate date,
+                    @JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime at) {
+    }
+}